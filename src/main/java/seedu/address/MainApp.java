@@ -23,7 +23,9 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.AsyncAddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournalAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -68,7 +70,8 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = new AsyncAddressBookStorage(
+                createAddressBookStorage(userPrefs.getAddressBookFilePath()));
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         initLogging(config);
@@ -78,6 +81,18 @@ public class MainApp extends Application {
         logic = new LogicManager(model, storage);
     }
 
+    /**
+     * Returns the storage for the address book data file at {@code filePath}, which is a binary snapshot
+     * if the file has the binary file extension, or a json snapshot and journal otherwise.
+     */
+    private AddressBookStorage createAddressBookStorage(Path filePath) {
+        if (BinaryAddressBookStorage.isBinaryFilePath(filePath)) {
+            logger.info("Using binary data file : " + filePath);
+            return new BinaryAddressBookStorage(filePath);
+        }
+        return new JournalAddressBookStorage(filePath);
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -184,6 +199,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping PropertyWhiz ] =============================");
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
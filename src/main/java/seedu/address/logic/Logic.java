@@ -2,17 +2,21 @@ package seedu.address.logic;
 
 import java.io.File;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
-import seedu.address.logic.commands.CommandPreAction;
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.property.Buyer;
+import seedu.address.model.property.Listable;
 import seedu.address.model.property.Match;
 import seedu.address.model.property.Property;
+import seedu.address.storage.CsvImport;
 
 /**
  * API of the Logic component
@@ -21,14 +25,17 @@ public interface Logic {
 
 
     /**
-     * Validates the command input given the state of the ui.
+     * Parses the command input once, and validates it given the state of the ui.
+     * The command returned can then be executed with {@link #execute(Command)} or {@link #execute(Command, File)},
+     * depending on its {@link Command#getPreAction() pre-action}.
      *
      * @param commandText The command as entered by the user.
      * @param showingMatchAutoView True if the UI is showing the results of the match auto command.
+     * @return the command parsed.
      * @throws ParseException If an error occurs during parsing.
      * @throws CommandException If command cannot be run because of the current UI state.
      */
-    void validateCommand(String commandText, boolean showingMatchAutoView) throws ParseException, CommandException;
+    Command parseCommand(String commandText, boolean showingMatchAutoView) throws ParseException, CommandException;
 
     /**
      * Executes the command and returns the result.
@@ -40,7 +47,6 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
-
     /**
      * Executes the command and returns the result.
      *
@@ -53,11 +59,44 @@ public interface Logic {
     CommandResult execute(String commandText, File file) throws CommandException, ParseException;
 
     /**
-     * @param commandText The command as entered by the user.
-     * @return True if the command requires a file to be executed.
-     * @throws ParseException If commandText does not fit expected format.
+     * Executes a parsed command which does not require a file, and returns the result.
+     *
+     * @param command The command returned by {@link #parseCommand(String, boolean)}.
+     * @return the result of the command execution.
+     * @throws CommandException If an error occurs during command execution.
+     */
+    CommandResult execute(Command command) throws CommandException;
+
+    /**
+     * Executes a parsed command which requires a file, and returns the result.
+     *
+     * @param command The command returned by {@link #parseCommand(String, boolean)}.
+     * @param file File chosen by the user.
+     * @return the result of the command execution.
+     * @throws CommandException If an error occurs during command execution.
+     */
+    CommandResult execute(Command command, File file) throws CommandException;
+
+    /**
+     * Starts reading the file of a parsed import command in the background.
+     * The import must then be finished with {@link #finishImport(ImportCommand, CsvImport)}.
+     *
+     * @param command The command returned by {@link #parseCommand(String, boolean)}.
+     * @param file File chosen by the user.
+     * @param progressHandler Called from a background thread with the number of rows read so far.
+     * @return the import running in the background.
+     */
+    <T extends Listable> CsvImport<T> startImport(ImportCommand<T> command, File file,
+                                                  Consumer<Integer> progressHandler);
+
+    /**
+     * Adds the entries read by an import started with {@link #startImport(ImportCommand, File, Consumer)}
+     * in one batch, waiting for them if needed, and returns the result.
+     *
+     * @throws CommandException If an error occurs during command execution.
      */
-    CommandPreAction getCommandPreAction(String commandText) throws ParseException;
+    <T extends Listable> CommandResult finishImport(ImportCommand<T> command, CsvImport<T> csvImport)
+            throws CommandException;
 
     /**
      * Returns the AddressBook.
@@ -81,6 +120,11 @@ public interface Logic {
      */
     ObservableList<Match> getMatchList();
 
+    /**
+     * Returns true if a property or buyer was matched and there are more of its matches to show.
+     */
+    boolean hasMoreMatches();
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -95,4 +139,10 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Sets the handler of error messages for saves that fail after the command that caused them has returned.
+     * The handler may be called from a background thread.
+     */
+    void setSaveErrorHandler(Consumer<String> saveErrorHandler);
 }
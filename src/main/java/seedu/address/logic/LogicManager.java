@@ -7,15 +7,16 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
-import seedu.address.logic.commands.CommandPreAction;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.CommandWithFile;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.SimpleCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
@@ -23,8 +24,10 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.property.Buyer;
+import seedu.address.model.property.Listable;
 import seedu.address.model.property.Match;
 import seedu.address.model.property.Property;
+import seedu.address.storage.CsvImport;
 import seedu.address.storage.Storage;
 
 /**
@@ -38,6 +41,10 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private long savedAddressBookVersion;
+    private long savedMatchVersion;
+    private volatile boolean isSaveFailed; // Set when a save written in the background fails
+    private volatile Consumer<String> saveErrorHandler = unused -> {};
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -46,12 +53,17 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        savedAddressBookVersion = model.getAddressBook().getVersion();
+        savedMatchVersion = model.getAddressBook().getMatchVersion();
+        storage.setSaveErrorHandler(this::handleSaveError);
     }
 
 
     @Override
-    public void validateCommand(String commandText, boolean showingMatchAutoView)
+    public Command parseCommand(String commandText, boolean showingMatchAutoView)
             throws ParseException, CommandException {
+        logger.info("----------------[USER COMMAND][" + commandText + "]");
+
         Command command = addressBookParser.parseAnyCommand(commandText);
         if (showingMatchAutoView && !command.canRunInMatchAutoView()) {
             throw new CommandException(MESSAGE_MATCH_AUTO_VIEW_INVALID_COMMAND);
@@ -59,46 +71,81 @@ public class LogicManager implements Logic {
         if (!showingMatchAutoView && !command.canRunInDefaultView()) {
             throw new CommandException(MESSAGE_DEFAULT_VIEW_INVALID_COMMAND);
         }
+        return command;
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
-        SimpleCommand command = addressBookParser.parseSimpleCommand(commandText);
-        commandResult = command.execute(model);
-
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
-        }
-
-        return commandResult;
+        return execute(addressBookParser.parseSimpleCommand(commandText));
     }
 
     @Override
     public CommandResult execute(String commandText, File file) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND WITH FILE][" + commandText + "]");
 
-        CommandResult commandResult;
         Optional<CommandWithFile> command = addressBookParser.parseCommandWithFile(commandText);
         assert command.isPresent() : COMMANDTEXT_INVALID_MESSAGE;
-        commandResult = command.get().execute(model, file);
+        return execute(command.get(), file);
+    }
 
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
-        }
+    @Override
+    public CommandResult execute(Command command) throws CommandException {
+        assert command instanceof SimpleCommand : COMMANDTEXT_INVALID_MESSAGE;
 
+        CommandResult commandResult = ((SimpleCommand) command).execute(model);
+        saveAddressBookIfModified();
         return commandResult;
     }
 
     @Override
-    public CommandPreAction getCommandPreAction(String commandText) throws ParseException {
-        return addressBookParser.getCommandPreAction(commandText);
+    public CommandResult execute(Command command, File file) throws CommandException {
+        assert command instanceof CommandWithFile : COMMANDTEXT_INVALID_MESSAGE;
+
+        CommandResult commandResult = ((CommandWithFile) command).execute(model, file);
+        saveAddressBookIfModified();
+        return commandResult;
+    }
+
+    @Override
+    public <T extends Listable> CsvImport<T> startImport(ImportCommand<T> command, File file,
+                                                         Consumer<Integer> progressHandler) {
+        return command.startImport(file, progressHandler);
+    }
+
+    @Override
+    public <T extends Listable> CommandResult finishImport(ImportCommand<T> command, CsvImport<T> csvImport)
+            throws CommandException {
+        CommandResult commandResult = command.finishImport(model, csvImport);
+        saveAddressBookIfModified();
+        return commandResult;
+    }
+
+    /**
+     * Saves the address book if its properties, buyers or matches were modified since it was last saved,
+     * or if the last save failed. Commands that only change what is displayed, such as find and sort,
+     * do not cause a save otherwise.
+     * The saved versions are recorded when the save is requested, as a background save that fails later
+     * marks the address book as unsaved again.
+     */
+    private void saveAddressBookIfModified() throws CommandException {
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        long version = addressBook.getVersion();
+        long matchVersion = addressBook.getMatchVersion();
+        if (!isSaveFailed && version == savedAddressBookVersion && matchVersion == savedMatchVersion) {
+            return;
+        }
+
+        isSaveFailed = false;
+        try {
+            storage.saveAddressBook(addressBook);
+        } catch (IOException ioe) {
+            isSaveFailed = true;
+            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+        }
+        savedAddressBookVersion = version;
+        savedMatchVersion = matchVersion;
     }
 
     @Override
@@ -121,6 +168,11 @@ public class LogicManager implements Logic {
         return model.getMatchList();
     }
 
+    @Override
+    public boolean hasMoreMatches() {
+        return model.hasMoreProperties() || model.hasMoreBuyers();
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
@@ -135,4 +187,17 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<String> saveErrorHandler) {
+        this.saveErrorHandler = saveErrorHandler;
+    }
+
+    /**
+     * Handles a save that failed after the command that caused it returned, so that the next command saves again.
+     */
+    private void handleSaveError(IOException ioe) {
+        isSaveFailed = true;
+        saveErrorHandler.accept(FILE_OPS_ERROR_MESSAGE + ioe);
+    }
 }
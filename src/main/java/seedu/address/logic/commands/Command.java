@@ -19,4 +19,11 @@ public abstract class Command {
         return false;
     }
 
+    /**
+     * Returns the action required before the command can be executed.
+     */
+    public CommandPreAction getPreAction() {
+        return new CommandPreAction();
+    }
+
 }
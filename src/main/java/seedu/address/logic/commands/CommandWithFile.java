@@ -20,4 +20,19 @@ public abstract class CommandWithFile extends Command {
      */
     public abstract CommandResult execute(Model model, File file) throws CommandException;
 
+    /**
+     * Returns true if the command saves to the file chosen by the user, instead of reading from it.
+     */
+    public boolean isFileSave() {
+        return false;
+    }
+
+    /**
+     * Returns the pre-action of choosing the file, prompting with the command itself.
+     */
+    @Override
+    public CommandPreAction getPreAction() {
+        return new CommandPreAction(toString(), isFileSave());
+    }
+
 }
@@ -21,4 +21,9 @@ public abstract class ExportCommand extends CommandWithFile {
 
     public static final String MESSAGE_SUCCESS = "Successfully exported %s";
 
+    @Override
+    public boolean isFileSave() {
+        return true;
+    }
+
 }
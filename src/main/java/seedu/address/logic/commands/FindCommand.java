@@ -4,6 +4,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_MAX_PRICE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MIN_PRICE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.List;
 import java.util.function.Predicate;
 
 import seedu.address.model.field.ContainsPricePredicate;
@@ -12,6 +13,7 @@ import seedu.address.model.field.NameContainsKeywordsPredicate;
 import seedu.address.model.property.Nameable;
 import seedu.address.model.property.Pricable;
 import seedu.address.model.property.Taggable;
+import seedu.address.model.util.QueryPlan;
 
 /**
  * Finds and lists all { properties or buyers } in address book whose name contains any of the
@@ -22,14 +24,16 @@ import seedu.address.model.property.Taggable;
 public abstract class FindCommand<T extends Nameable & Taggable & Pricable> extends SimpleCommand {
 
     public static final String COMMAND_WORD = "find";
+    public static final String EXPLAIN_WORD = "explain";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all properties or buyers "
             + "whose names contain any of the specified keywords (case-insensitive), "
             + "contain all of the specified tags, "
             + "whose prices or budgets are greater or equal to the min price (if specified) "
             + "and whose prices or budgets are smaller or equal to the max price (if specified).\n"
-            + "At least one criteria must be specified.\n"
-            + "Parameters: ( property | buyer ) [KEYWORD]... "
+            + "At least one criteria must be specified. "
+            + "With " + EXPLAIN_WORD + ", shows how the search would be done instead of listing the results.\n"
+            + "Parameters: [" + EXPLAIN_WORD + "] ( property | buyer ) [KEYWORD]... "
             + "[" + PREFIX_TAG + "TAG]... "
             + "[" + PREFIX_MIN_PRICE + "PRICE] "
             + "[" + PREFIX_MAX_PRICE + "PRICE] "
@@ -40,10 +44,13 @@ public abstract class FindCommand<T extends Nameable & Taggable & Pricable> exte
             + PREFIX_MIN_PRICE + "100000 "
             + PREFIX_MAX_PRICE + "10000000";
 
+    public static final String MESSAGE_EXPLAIN = "Plan: %1$s.\n%2$d of the %3$d listed entries match.";
+
     private final NameContainsKeywordsPredicate<T> namePredicate;
     private final ContainsTagsPredicate<T> tagsPredicate;
     private final ContainsPricePredicate<T> pricePredicate;
     private final Predicate<T> composedPredicate;
+    private final boolean isExplain;
 
     /**
      * Creates a FindCommand with only a name predicate.
@@ -64,10 +71,39 @@ public abstract class FindCommand<T extends Nameable & Taggable & Pricable> exte
     public FindCommand(NameContainsKeywordsPredicate<T> namePredicate,
                        ContainsTagsPredicate<T> tagsPredicate,
                        ContainsPricePredicate<T> pricePredicate) {
+        this(namePredicate, tagsPredicate, pricePredicate, false);
+    }
+
+    /**
+     * Creates a FindCommand that composes the given predicates, which only explains how the search would be done
+     * if {@code isExplain} is true.
+     *
+     * @param namePredicate Nameable predicate checking for name match.
+     * @param tagsPredicate Taggable predicate checking for containment of tags.
+     * @param pricePredicate Pricable predicate checking for price match.
+     * @param isExplain Whether to explain the search instead of listing its results.
+     */
+    public FindCommand(NameContainsKeywordsPredicate<T> namePredicate,
+                       ContainsTagsPredicate<T> tagsPredicate,
+                       ContainsPricePredicate<T> pricePredicate,
+                       boolean isExplain) {
         this.namePredicate = namePredicate;
         this.tagsPredicate = tagsPredicate;
         this.pricePredicate = pricePredicate;
         this.composedPredicate = namePredicate.and(tagsPredicate).and(pricePredicate);
+        this.isExplain = isExplain;
+    }
+
+    public NameContainsKeywordsPredicate<T> getNamePredicate() {
+        return namePredicate;
+    }
+
+    public ContainsTagsPredicate<T> getTagsPredicate() {
+        return tagsPredicate;
+    }
+
+    public ContainsPricePredicate<T> getPricePredicate() {
+        return pricePredicate;
     }
 
     /**
@@ -78,12 +114,26 @@ public abstract class FindCommand<T extends Nameable & Taggable & Pricable> exte
         return composedPredicate;
     }
 
+    public boolean isExplain() {
+        return isExplain;
+    }
+
+    /**
+     * Returns the result explaining that the search for the {@code listed} items is done with {@code plan},
+     * and how many of them it finds.
+     */
+    protected CommandResult explain(QueryPlan<T> plan, List<T> listed) {
+        long foundCount = listed.stream().filter(plan.getFilter()).count();
+        return new CommandResult(String.format(MESSAGE_EXPLAIN, plan, foundCount, listed.size()));
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
                 && namePredicate.equals(((FindCommand<?>) other).namePredicate)
                 && tagsPredicate.equals(((FindCommand<?>) other).tagsPredicate))
-                && pricePredicate.equals(((FindCommand<?>) other).pricePredicate); // state check
+                && pricePredicate.equals(((FindCommand<?>) other).pricePredicate)
+                && isExplain == ((FindCommand<?>) other).isExplain; // state check
     }
 }
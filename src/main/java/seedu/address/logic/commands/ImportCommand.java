@@ -1,18 +1,36 @@
 package seedu.address.logic.commands;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.function.Consumer;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.property.Listable;
+import seedu.address.model.property.exceptions.DuplicateListableException;
+import seedu.address.storage.CsvImport;
+
 /**
  * Imports entity (property or buyer) from csv file to address book.
+ *
+ * The file is read and parsed in the background by {@link #startImport}, so that the ui can show the progress and
+ * stay responsive, and the entries are then added to the model in one batch by {@link #finishImport}.
  */
-public abstract class ImportCommand extends CommandWithFile {
+public abstract class ImportCommand<T extends Listable> extends CommandWithFile {
     public static final String COMMAND_WORD = "import";
 
     public static final String PROPERTIES = "properties";
 
     public static final String BUYERS = "buyers";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Imports buyers or properties from csv file.\n\n"
-            + "Parameters: ( property | buyer )\n"
-            + "Example: " + COMMAND_WORD + " property";
+    public static final String UPSERT = "upsert";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Imports buyers or properties from csv file.\n"
+            + "With " + UPSERT + ", the properties are updated to those in the file instead, by address.\n\n"
+            + "Parameters: ( property [" + UPSERT + "] | buyer )\n"
+            + "Example: " + COMMAND_WORD + " property " + UPSERT;
 
     public static final String MESSAGE_CANCELLED = "Import %s was cancelled.";
 
@@ -26,4 +44,68 @@ public abstract class ImportCommand extends CommandWithFile {
 
     public static final String MESSAGE_SUCCESS = "Successfully imported %s.";
 
+    public static final String MESSAGE_UPSERT_SUCCESS = "Successfully imported %s: "
+            + "%d added, %d edited, %d deleted, %d unchanged.";
+
+    public static final String MESSAGE_IN_PROGRESS = "Importing %s: %d rows read. Press Esc to cancel.";
+
+    public static final String MESSAGE_ALREADY_IMPORTING = "Another import is in progress. "
+            + "Press Esc to cancel it first.";
+
+    /**
+     * Returns the entities imported, either {@link #PROPERTIES} or {@link #BUYERS}.
+     */
+    public abstract String getEntities();
+
+    /**
+     * Starts reading the entries in {@code file} in the background.
+     *
+     * @param progressHandler called from a background thread with the number of rows read so far.
+     */
+    public abstract CsvImport<T> startImport(File file, Consumer<Integer> progressHandler);
+
+    /**
+     * Adds {@code entries} to the front of the lists in {@code model} in one batch.
+     *
+     * @throws DuplicateListableException if any of {@code entries} is already in {@code model}.
+     */
+    protected abstract void addAll(Model model, List<T> entries);
+
+    /**
+     * Imports {@code entries} into {@code model}, by adding them to the front of the lists in one batch.
+     *
+     * @throws DuplicateListableException if any of {@code entries} is already in {@code model}.
+     */
+    protected CommandResult importEntries(Model model, List<T> entries) {
+        addAll(model, entries);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, getEntities()));
+    }
+
+    @Override
+    public CommandResult execute(Model model, File file) {
+        if (file == null) {
+            return new CommandResult(String.format(MESSAGE_CANCELLED, getEntities()));
+        }
+        return finishImport(model, startImport(file, rowsRead -> {}));
+    }
+
+    /**
+     * Imports the entries read by {@code csvImport} into {@code model}, waiting for them if needed.
+     * Nothing is imported if the import failed, was cancelled, or has entries already in {@code model}.
+     */
+    public CommandResult finishImport(Model model, CsvImport<T> csvImport) {
+        String entities = getEntities();
+        try {
+            return importEntries(model, csvImport.getResult());
+        } catch (IOException ioe) {
+            return new CommandResult(String.format(MESSAGE_IO_FAILURE, entities));
+        } catch (ParseException pe) {
+            return new CommandResult(String.format(MESSAGE_FORMAT_FAILURE, entities) + "\n" + pe.getMessage());
+        } catch (DuplicateListableException dle) {
+            return new CommandResult(String.format(MESSAGE_DUPLICATE, entities, entities));
+        } catch (CancellationException ce) {
+            return new CommandResult(String.format(MESSAGE_CANCELLED, entities));
+        }
+    }
+
 }
@@ -5,38 +5,55 @@ import static seedu.address.logic.commands.BackCommand.MESSAGE_BACK_COMMAND;
 
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.match.IncrementalMatcher;
+import seedu.address.model.match.OptimalMatcher;
 import seedu.address.model.property.Buyer;
 import seedu.address.model.property.Match;
 import seedu.address.model.property.Property;
 
 /**
  * Matches as many properties and buyers together as possible.
+ * In optimal mode, the total match score is maximized instead of confirming the best pairs first.
  */
 public class MatchAutoCommand extends MatchCommand {
 
     public static final String ARGUMENT_WORD = "auto";
+    public static final String OPTIMAL_WORD = "optimal";
     public static final String MESSAGE_NO_PROPERTIES_LISTED = "Error: No properties available for matching.";
     public static final String MESSAGE_NO_BUYERS_LISTED = "Error: No buyers available for matching.";
     public static final String MESSAGE_ONE_MATCH_FOUND = "1 match found!\n" + MESSAGE_BACK_COMMAND;
     public static final String MESSAGE_MATCHES_FOUND = "%1$d matches found!\n" + MESSAGE_BACK_COMMAND;
 
+    private final boolean isOptimal;
     private List<Property> properties; // Properties to match
     private List<Buyer> buyers; // Buyers to match
-    private Set<Property> matchedProperties; // Properties that have been matched
-    private Set<Buyer> matchedBuyers; // Buyers that have been matched
     private List<Match> matches; // Confirmed matches
+    private IncrementalMatcher matcher; // Keeps greedy matches up to date
+    private int matchingPoolSize; // Threads used to score match candidates
 
+    /**
+     * Creates a MatchAutoCommand that matches greedily.
+     */
+    public MatchAutoCommand() {
+        this(false);
+    }
+
+    /**
+     * Creates a MatchAutoCommand that maximizes the total match score if {@code isOptimal} is true,
+     * and matches greedily otherwise.
+     */
+    public MatchAutoCommand(boolean isOptimal) {
+        this.isOptimal = isOptimal;
+    }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         initialize(model);
-        runMatching();
+        runMatching(model);
         sortMatches();
         updateModel(model);
         return getCommandResult();
@@ -51,21 +68,25 @@ public class MatchAutoCommand extends MatchCommand {
         }
         properties = new ArrayList<>(model.getFilteredPropertyList());
         buyers = new ArrayList<>(model.getFilteredBuyerList());
-        matchedProperties = new HashSet<>();
-        matchedBuyers = new HashSet<>();
-        matches = new ArrayList<>();
+        matchingPoolSize = model.getUserPrefs().getMatchingPoolSize();
     }
 
     /**
      * Runs matching algorithm to find best matches.
+     * Greedily, matches are confirmed in descending order of match score then ascending price gap,
+     * so that buyers and properties with similar prices are matched first.
+     * Optimally, matches maximize the total match score, then minimize the total price gap.
+     * Greedy matches kept up to date since the last match of the same properties and buyers are reused.
      */
-    private void runMatching() {
-        List<Match> sortedMatchCandidates = getSortedMatchCandidates(); // Get all possible matches
-        for (Match match : sortedMatchCandidates) {
-            if (matchIsAvailable(match)) { // If buyer and property not taken
-                confirmMatch(match);
-            }
+    private void runMatching(Model model) {
+        if (isOptimal) {
+            matches = new OptimalMatcher(properties, buyers).getMatches();
+            return;
         }
+        matcher = model.getMatcher()
+                .filter(currentMatcher -> currentMatcher.hasPools(properties, buyers))
+                .orElseGet(() -> new IncrementalMatcher(properties, buyers, matchingPoolSize));
+        matches = matcher.getMatches();
     }
 
     /**
@@ -78,7 +99,11 @@ public class MatchAutoCommand extends MatchCommand {
     }
 
     private void updateModel(Model model) {
-        model.setMatchList(matches);
+        if (isOptimal) {
+            model.setMatchList(matches);
+        } else {
+            model.setMatcher(matcher);
+        }
     }
 
     private CommandResult getCommandResult() {
@@ -91,42 +116,10 @@ public class MatchAutoCommand extends MatchCommand {
         return new CommandResult(feedback, UiAction.SHOW_MATCHES);
     }
 
-    /**
-     * Returns possible matches in descending order of desirability.
-     */
-    private List<Match> getSortedMatchCandidates() {
-        List<Match> matchCandidates = new ArrayList<>();
-        for (Buyer buyer : buyers) {
-            for (Property property : properties) {
-                matchCandidates.add(new Match(property, buyer));
-            }
-        }
-        // Sort by descending match score then ascending price gap
-        // This allows buyers and properties with similar prices to be matched first
-        matchCandidates.sort(Comparator.comparing(Match::getMatchScore).reversed().thenComparing(Match::getPriceGap));
-        return matchCandidates;
-    }
-
-    /**
-     * Returns true if the buyer and property in the match are both unmatched.
-     */
-    private boolean matchIsAvailable(Match match) {
-        boolean buyerUnmatched = !matchedBuyers.contains(match.getBuyer());
-        boolean propertyUnmatched = !matchedProperties.contains(match.getProperty());
-        return buyerUnmatched && propertyUnmatched;
-    }
-
-    /**
-     * Confirms a match.
-     */
-    private void confirmMatch(Match match) {
-        matchedProperties.add(match.getProperty());
-        matchedBuyers.add(match.getBuyer());
-        matches.add(match);
-    }
-
     @Override
     public boolean equals(Object other) {
-        return other instanceof MatchAutoCommand;
+        return other == this // short circuit if same object
+                || (other instanceof MatchAutoCommand // instanceof handles nulls
+                && isOptimal == ((MatchAutoCommand) other).isOptimal);
     }
 }
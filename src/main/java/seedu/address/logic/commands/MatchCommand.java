@@ -10,8 +10,9 @@ public abstract class MatchCommand extends SimpleCommand {
 
     public static final String MESSAGE_USAGE =
             COMMAND_WORD + ": Matches buyers and properties based on tags and price. "
-                    + "The argument INDEX must be positive.\n\n"
-                    + "Parameters: ( auto | property INDEX | buyer INDEX )\n"
+                    + "The argument INDEX must be positive. "
+                    + "With auto optimal, maximizes the total match score instead of matching greedily.\n\n"
+                    + "Parameters: ( auto [optimal] | property INDEX | buyer INDEX )\n"
                     + "Example: " + COMMAND_WORD + " auto";
 
 }
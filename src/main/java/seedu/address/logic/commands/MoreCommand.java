@@ -0,0 +1,41 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Shows the next page of the best matches found by matching a property or buyer.
+ */
+public class MoreCommand extends SimpleCommand {
+
+    public static final String COMMAND_WORD = "more";
+
+    public static final String MESSAGE_SUCCESS = "Showed %1$d more matches.";
+    public static final String MESSAGE_NO_MORE_MATCHES = "There are no more matches to show.";
+    public static final String MESSAGE_MORE_COMMAND = "Key in the '" + COMMAND_WORD
+            + "' command or scroll to the end of the list to see more matches.";
+
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        int shownCount = model.showMoreProperties() + model.showMoreBuyers();
+        if (shownCount == 0) {
+            throw new CommandException(MESSAGE_NO_MORE_MATCHES);
+        }
+
+        String feedback = String.format(MESSAGE_SUCCESS, shownCount);
+        if (model.hasMoreProperties() || model.hasMoreBuyers()) {
+            feedback += "\n" + MESSAGE_MORE_COMMAND;
+        }
+        return new CommandResult(feedback);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof MoreCommand;
+    }
+
+}
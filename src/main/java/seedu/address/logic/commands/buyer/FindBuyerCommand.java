@@ -37,10 +37,25 @@ public class FindBuyerCommand extends FindCommand<Buyer> {
         super(namePredicate, tagsPredicate, pricePredicate);
     }
 
+    /**
+     * Creates a FindBuyerCommand that composes the given predicates, which only explains how the search
+     * would be done if {@code isExplain} is true.
+     */
+    public FindBuyerCommand(NameContainsKeywordsPredicate<Buyer> namePredicate,
+                            ContainsTagsPredicate<Buyer> tagsPredicate,
+                            ContainsPricePredicate<Buyer> pricePredicate,
+                            boolean isExplain) {
+        super(namePredicate, tagsPredicate, pricePredicate, isExplain);
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredBuyerList(getComposedPredicate());
+        if (isExplain()) {
+            return explain(model.planFilteredBuyerList(getNamePredicate(), getTagsPredicate(), getPricePredicate()),
+                    model.getFilteredBuyerList());
+        }
+        model.updateFilteredBuyerList(getNamePredicate(), getTagsPredicate(), getPricePredicate());
         if (model.getFilteredBuyerList().size() == 1) {
             return new CommandResult(Messages.MESSAGE_BUYER_LISTED_OVERVIEW);
         }
@@ -2,7 +2,6 @@ package seedu.address.logic.commands.buyer;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Comparator;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -10,10 +9,13 @@ import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.MatchOneToManyCommand;
+import seedu.address.logic.commands.MoreCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.field.ContainsPricePredicate;
+import seedu.address.model.field.ContainsTagsPredicate;
+import seedu.address.model.field.NameContainsKeywordsPredicate;
 import seedu.address.model.property.Buyer;
-import seedu.address.model.property.Match;
 import seedu.address.model.property.Property;
 
 /**
@@ -38,15 +40,18 @@ public class MatchBuyerCommand extends MatchOneToManyCommand {
         Buyer buyer = buyerList.get(targetIndex.getZeroBased());
         Predicate<Buyer> currentBuyerFilter = (b) -> b.equals(buyer);
 
-        Predicate<Property> propertyFilter = (property) -> property.getPrice().isLessThanOrEqualTo(buyer.getPrice());
-
-
-        Comparator<Property> propertyComparator = Comparator.<Property, Integer>comparing(property ->
-                Match.getNumCommonTags(buyer, property)
-        ).reversed().thenComparingLong(property -> property.getPrice().value);
+        // Properties the buyer can afford, found by a range scan of the price index
+        ContainsPricePredicate<Property> propertyFilter = new ContainsPricePredicate<>(null, buyer.getPrice());
 
         model.updateFilteredBuyerList(currentBuyerFilter);
-        model.updateFilteredAndSortedPropertyList(propertyFilter, propertyComparator);
+        model.updateFilteredPropertyList(new NameContainsKeywordsPredicate<>(), new ContainsTagsPredicate<>(),
+                propertyFilter);
+        // Properties with the most tags in common first, then the cheapest ones
+        model.rankFilteredPropertyList(property -> model.getNumCommonTags(buyer, property),
+                property -> -property.getPrice().value, model.getUserPrefs().getMatchPageSize());
+        if (model.hasMoreProperties()) {
+            return new CommandResult(MESSAGE_SUCCESS + "\n" + MoreCommand.MESSAGE_MORE_COMMAND);
+        }
         return new CommandResult(MESSAGE_SUCCESS);
     }
 
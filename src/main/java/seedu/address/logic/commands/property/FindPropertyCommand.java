@@ -38,10 +38,25 @@ public class FindPropertyCommand extends FindCommand<Property> {
         super(namePredicate, tagsPredicate, pricePredicate);
     }
 
+    /**
+     * Creates a FindPropertyCommand that composes the given predicates, which only explains how the search
+     * would be done if {@code isExplain} is true.
+     */
+    public FindPropertyCommand(NameContainsKeywordsPredicate<Property> namePredicate,
+                               ContainsTagsPredicate<Property> tagsPredicate,
+                               ContainsPricePredicate<Property> pricePredicate,
+                               boolean isExplain) {
+        super(namePredicate, tagsPredicate, pricePredicate, isExplain);
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPropertyList(getComposedPredicate());
+        if (isExplain()) {
+            return explain(model.planFilteredPropertyList(getNamePredicate(), getTagsPredicate(), getPricePredicate()),
+                    model.getFilteredPropertyList());
+        }
+        model.updateFilteredPropertyList(getNamePredicate(), getTagsPredicate(), getPricePredicate());
         if (model.getFilteredPropertyList().size() == 1) {
             return new CommandResult(Messages.MESSAGE_PROPERTY_LISTED_OVERVIEW);
         }
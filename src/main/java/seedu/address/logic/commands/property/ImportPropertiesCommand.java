@@ -1,39 +1,79 @@
 package seedu.address.logic.commands.property;
 
 import java.io.File;
-import java.io.IOException;
+import java.util.List;
+import java.util.function.Consumer;
 
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ImportCommand;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
-import seedu.address.model.property.exceptions.DuplicatePropertyException;
+import seedu.address.model.property.Property;
+import seedu.address.model.util.ListableDiff;
+import seedu.address.storage.CsvImport;
 import seedu.address.storage.Storage;
 
 /**
  * Imports properties from csv file.
+ * In upsert mode, the properties are updated to those in the file instead: properties are matched to the rows of the
+ * file by address, and only the properties that are added, edited or deleted are changed, so the matches of the
+ * properties which are unchanged are kept.
  */
-public class ImportPropertiesCommand extends ImportCommand {
+public class ImportPropertiesCommand extends ImportCommand<Property> {
+    private final boolean isUpsert;
+
+    /**
+     * Creates an ImportPropertiesCommand that adds the properties in the file.
+     */
+    public ImportPropertiesCommand() {
+        this(false);
+    }
+
+    /**
+     * Creates an ImportPropertiesCommand that updates the properties to those in the file if {@code isUpsert},
+     * and adds the properties in the file otherwise.
+     */
+    public ImportPropertiesCommand(boolean isUpsert) {
+        this.isUpsert = isUpsert;
+    }
+
+    @Override
+    public String getEntities() {
+        return PROPERTIES;
+    }
+
     @Override
-    public CommandResult execute(Model model, File file) throws CommandException {
-        if (file == null) {
-            return new CommandResult(String.format(MESSAGE_CANCELLED, PROPERTIES));
+    public CsvImport<Property> startImport(File file, Consumer<Integer> progressHandler) {
+        return Storage.importProperties(file, progressHandler);
+    }
+
+    @Override
+    protected void addAll(Model model, List<Property> properties) {
+        model.addAllProperties(properties);
+    }
+
+    @Override
+    protected CommandResult importEntries(Model model, List<Property> properties) {
+        if (!isUpsert) {
+            return super.importEntries(model, properties);
         }
-        try {
-            model.setAddressBook(Storage.importProperties(model.getAddressBook(), file));
-            return new CommandResult(String.format(MESSAGE_SUCCESS, PROPERTIES));
-        } catch (IOException ioe) {
-            return new CommandResult(String.format(MESSAGE_IO_FAILURE, PROPERTIES));
-        } catch (ParseException pe) {
-            return new CommandResult(String.format(MESSAGE_FORMAT_FAILURE, PROPERTIES) + "\n" + pe.getMessage());
-        } catch (DuplicatePropertyException dpe) {
-            return new CommandResult(String.format(MESSAGE_DUPLICATE, PROPERTIES, PROPERTIES));
+
+        ListableDiff<Property> diff = ListableDiff.of(model.getAddressBook().getPropertyList(), properties);
+        model.deleteAndSetProperties(diff.getRemoved(), diff.getEditTargets(), diff.getEdited());
+        List<Property> added = diff.getAdded();
+        if (added.size() > diff.getEdited().size() + diff.getUnchangedCount()) {
+            // Most properties are new, so matching them again is faster than updating the matches for each of them
+            model.addAllProperties(added);
+        } else {
+            for (int i = added.size() - 1; i >= 0; i--) {
+                model.addNewProperty(added.get(i));
+            }
         }
+        return new CommandResult(String.format(MESSAGE_UPSERT_SUCCESS, PROPERTIES, added.size(),
+                diff.getEdited().size(), diff.getRemoved().size(), diff.getUnchangedCount()));
     }
 
     public String toString() {
-        return COMMAND_WORD + ' ' + PROPERTIES;
+        return COMMAND_WORD + ' ' + PROPERTIES + (isUpsert ? ' ' + UPSERT : "");
     }
 
     @Override
@@ -42,6 +82,7 @@ public class ImportPropertiesCommand extends ImportCommand {
             return true;
         }
 
-        return other instanceof ImportPropertiesCommand;
+        return other instanceof ImportPropertiesCommand
+                && isUpsert == ((ImportPropertiesCommand) other).isUpsert;
     }
 }
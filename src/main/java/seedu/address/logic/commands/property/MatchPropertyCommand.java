@@ -2,7 +2,6 @@ package seedu.address.logic.commands.property;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Comparator;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -10,10 +9,13 @@ import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.MatchOneToManyCommand;
+import seedu.address.logic.commands.MoreCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.field.ContainsPricePredicate;
+import seedu.address.model.field.ContainsTagsPredicate;
+import seedu.address.model.field.NameContainsKeywordsPredicate;
 import seedu.address.model.property.Buyer;
-import seedu.address.model.property.Match;
 import seedu.address.model.property.Property;
 
 /**
@@ -36,14 +38,18 @@ public class MatchPropertyCommand extends MatchOneToManyCommand {
 
         Property property = propertyList.get(targetIndex.getZeroBased());
         Predicate<Property> currentPropertyFilter = (p) -> p.equals(property);
-        Predicate<Buyer> buyerFilter = (buyer) -> buyer.getPrice().isGreaterThanOrEqualTo(property.getPrice());
-
-        Comparator<Buyer> buyerComparator = Comparator.<Buyer, Integer>comparing(buyer ->
-                Match.getNumCommonTags(buyer, property)
-        ).thenComparingLong(buyer -> buyer.getPrice().value).reversed();
+        // Buyers who can afford the property, found by a range scan of the budget index
+        ContainsPricePredicate<Buyer> buyerFilter = new ContainsPricePredicate<>(property.getPrice(), null);
 
         model.updateFilteredPropertyList(currentPropertyFilter);
-        model.updateFilteredAndSortedBuyerList(buyerFilter, buyerComparator);
+        model.updateFilteredBuyerList(new NameContainsKeywordsPredicate<>(), new ContainsTagsPredicate<>(),
+                buyerFilter);
+        // Buyers with the most tags in common first, then those with the highest budgets
+        model.rankFilteredBuyerList(buyer -> model.getNumCommonTags(buyer, property),
+                buyer -> buyer.getPrice().value, model.getUserPrefs().getMatchPageSize());
+        if (model.hasMoreBuyers()) {
+            return new CommandResult(MESSAGE_SUCCESS + "\n" + MoreCommand.MESSAGE_MORE_COMMAND);
+        }
         return new CommandResult(MESSAGE_SUCCESS);
     }
 
@@ -22,6 +22,7 @@ import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.MatchCommand;
+import seedu.address.logic.commands.MoreCommand;
 import seedu.address.logic.commands.SimpleCommand;
 import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.commands.StatCommand;
@@ -45,11 +46,14 @@ public class AddressBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseAnyCommand(String userInput) throws ParseException {
-        Optional<CommandWithFile> fileCommand = parseCommandWithFile(userInput);
+        final Matcher matcher = matchBasicCommandFormat(userInput);
+        final String commandWord = matcher.group("commandWord");
+        final String arguments = matcher.group("arguments");
+        Optional<CommandWithFile> fileCommand = parseCommandWithFile(commandWord, arguments);
         if (fileCommand.isPresent()) {
             return fileCommand.get();
         }
-        return parseSimpleCommand(userInput);
+        return parseSimpleCommand(commandWord, arguments);
     }
 
     /**
@@ -60,13 +64,11 @@ public class AddressBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public SimpleCommand parseSimpleCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
-        }
+        final Matcher matcher = matchBasicCommandFormat(userInput);
+        return parseSimpleCommand(matcher.group("commandWord"), matcher.group("arguments"));
+    }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
+    private SimpleCommand parseSimpleCommand(String commandWord, String arguments) throws ParseException {
         switch (commandWord) {
 
         case AddCommand.COMMAND_WORD:
@@ -87,6 +89,9 @@ public class AddressBookParser {
         case MatchCommand.COMMAND_WORD:
             return new MatchCommandParser().parse(arguments);
 
+        case MoreCommand.COMMAND_WORD:
+            return new MoreCommand();
+
         case BackCommand.COMMAND_WORD:
             return new BackCommand();
 
@@ -118,12 +123,12 @@ public class AddressBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Optional<CommandWithFile> parseCommandWithFile(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
-        }
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
+        final Matcher matcher = matchBasicCommandFormat(userInput);
+        return parseCommandWithFile(matcher.group("commandWord"), matcher.group("arguments"));
+    }
+
+    private Optional<CommandWithFile> parseCommandWithFile(String commandWord, String arguments)
+            throws ParseException {
         switch (commandWord) {
         case ExportCommand.COMMAND_WORD:
             return Optional.of(new ExportCommandParser().parse(arguments));
@@ -134,12 +139,21 @@ public class AddressBookParser {
         }
     }
 
+    /**
+     * Returns the pre-action required before executing the command in {@code userInput}.
+     * Commands which are not commands with files do not require any pre-action.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
     public CommandPreAction getCommandPreAction(String userInput) throws ParseException {
-        Optional<CommandWithFile> command = parseCommandWithFile(userInput);
-        if (command.isEmpty()) {
-            return new CommandPreAction();
+        return parseCommandWithFile(userInput).map(Command::getPreAction).orElseGet(CommandPreAction::new);
+    }
+
+    private static Matcher matchBasicCommandFormat(String userInput) throws ParseException {
+        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
+        if (!matcher.matches()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
-        return new CommandPreAction(command.get().toString(),
-                command.get().toString().startsWith(ExportCommand.COMMAND_WORD));
+        return matcher;
     }
 }
@@ -39,17 +39,19 @@ public class FindCommandParser implements Parser<FindCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
+        boolean isExplain = isExplain(args);
+        String findArgs = isExplain ? args.trim().substring(FindCommand.EXPLAIN_WORD.length()) : args;
 
         Actor actor;
         try {
-            actor = ParserUtil.parseActor(args, ACTOR_POSITIONAL_INDEX);
+            actor = ParserUtil.parseActor(findArgs, ACTOR_POSITIONAL_INDEX);
         } catch (ParseException pe) {
             throw new ParseException(String.format(MESSAGE_UNKNOWN_ACTOR,
                     FindCommand.COMMAND_WORD, FindCommand.MESSAGE_USAGE));
         }
 
         // Replaces the actor with empty string
-        String argsWithoutActor = args.trim().replaceFirst("^[a-z-]*", "");
+        String argsWithoutActor = findArgs.trim().replaceFirst("^[a-z-]*", "");
         if (argsWithoutActor.isBlank()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
@@ -68,17 +70,22 @@ public class FindCommandParser implements Parser<FindCommand> {
         case PROPERTY:
             return new FindPropertyCommand(new NameContainsKeywordsPredicate<>(nameKeywords),
                     new ContainsTagsPredicate<>(tagsFilter),
-                    new ContainsPricePredicate<>(minPrice, maxPrice));
+                    new ContainsPricePredicate<>(minPrice, maxPrice), isExplain);
         case BUYER:
             return new FindBuyerCommand(new NameContainsKeywordsPredicate<>(nameKeywords),
                     new ContainsTagsPredicate<>(tagsFilter),
-                    new ContainsPricePredicate<>(minPrice, maxPrice));
+                    new ContainsPricePredicate<>(minPrice, maxPrice), isExplain);
         default:
             throw new ParseException(MESSAGE_INVALID_ACTOR);
         }
 
     }
 
+    private boolean isExplain(String args) {
+        String[] splitArgs = args.trim().split("\\s+", 2);
+        return splitArgs[0].equals(FindCommand.EXPLAIN_WORD);
+    }
+
     /**
      * Parses {@code Collection<String> tags} into a {@code Set<Tag>} if {@code tags} is non-empty.
      */
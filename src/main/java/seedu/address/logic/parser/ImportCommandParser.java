@@ -12,9 +12,11 @@ import seedu.address.model.field.Actor;
 /**
  * Parses input arguments and creates a new ImportCommand object
  */
-public class ImportCommandParser implements Parser<ImportCommand> {
+public class ImportCommandParser implements Parser<ImportCommand<?>> {
     private static final int ACTOR_POSITIONAL_INDEX = 0;
+    private static final int UPSERT_POSITIONAL_INDEX = 1;
     private static final int NUM_OF_PREAMBLE_ARGUMENTS = 1;
+    private static final int NUM_OF_PREAMBLE_ARGUMENTS_IN_UPSERT = 2;
 
     /**
      * Parses the given {@code String} of arguments in the context of the ImportCommand
@@ -22,7 +24,10 @@ public class ImportCommandParser implements Parser<ImportCommand> {
      *
      * @throws ParseException if the user input does not conform the expected format
      */
-    public ImportCommand parse(String args) throws ParseException {
+    public ImportCommand<?> parse(String args) throws ParseException {
+        if (isImportPropertiesUpsert(args)) {
+            return new ImportPropertiesCommand(true);
+        }
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args);
         Actor actor;
 
@@ -42,4 +47,17 @@ public class ImportCommandParser implements Parser<ImportCommand> {
         }
     }
 
+    private boolean isImportPropertiesUpsert(String args) {
+        String[] splitArgs = args.trim().split("\\s+");
+        if (splitArgs.length != NUM_OF_PREAMBLE_ARGUMENTS_IN_UPSERT
+                || !splitArgs[UPSERT_POSITIONAL_INDEX].equals(ImportCommand.UPSERT)) {
+            return false;
+        }
+        try {
+            return ParserUtil.parseActor(args, ACTOR_POSITIONAL_INDEX) == Actor.PROPERTY;
+        } catch (ParseException pe) {
+            return false;
+        }
+    }
+
 }
@@ -27,6 +27,9 @@ public class MatchCommandParser {
         if (isMatchAuto(args)) {
             return new MatchAutoCommand();
         }
+        if (isMatchAutoOptimal(args)) {
+            return new MatchAutoCommand(true);
+        }
         try {
             return parseOneToManyMatch(args);
         } catch (ParseException e) {
@@ -38,6 +41,12 @@ public class MatchCommandParser {
         return args.trim().equals(MatchAutoCommand.ARGUMENT_WORD);
     }
 
+    private boolean isMatchAutoOptimal(String args) {
+        String[] splitArgs = args.trim().split("\\s+");
+        return splitArgs.length == 2 && splitArgs[0].equals(MatchAutoCommand.ARGUMENT_WORD)
+                && splitArgs[1].equals(MatchAutoCommand.OPTIMAL_WORD);
+    }
+
     private MatchOneToManyCommand parseOneToManyMatch(String args) throws ParseException {
         ParserUtil.assertPreambleArgsCount(args, NUM_OF_PREAMBLE_ARGS_IN_ONE_TO_MANY);
         Actor actor = ParserUtil.parseActor(args, ACTOR_POSITIONAL_INDEX);
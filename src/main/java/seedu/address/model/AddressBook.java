@@ -1,21 +1,47 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
+import seedu.address.model.field.ContainsPricePredicate;
+import seedu.address.model.field.ContainsTagsPredicate;
+import seedu.address.model.field.NameContainsKeywordsPredicate;
 import seedu.address.model.field.SortDirection;
 import seedu.address.model.field.SortType;
+import seedu.address.model.match.IncrementalMatcher;
+import seedu.address.model.match.IncrementalMatcher.MatchChanges;
+import seedu.address.model.match.MatchState;
 import seedu.address.model.property.Buyer;
+import seedu.address.model.property.Listable;
 import seedu.address.model.property.Match;
 import seedu.address.model.property.Property;
 import seedu.address.model.property.UniqueBuyerList;
+import seedu.address.model.property.UniqueList;
 import seedu.address.model.property.UniqueMatchList;
 import seedu.address.model.property.UniquePropertyList;
+import seedu.address.model.tag.TagBitSet;
+import seedu.address.model.tag.TagDictionary;
+import seedu.address.model.util.ListableIndex;
+import seedu.address.model.util.ListableView;
+import seedu.address.model.util.QueryPlan;
 
 /**
  * Wraps all data at the address-book level
@@ -23,11 +49,27 @@ import seedu.address.model.property.UniquePropertyList;
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    // Versions are drawn from one counter shared by all address books, so that a version always stands for the
+    // same properties and buyers, even in a copy of the address book
+    private static final AtomicLong latestVersion = new AtomicLong();
+
     private final UniquePropertyList properties;
-    private final UniquePropertyList currProperties;
+    private final ListableView<Property> currProperties;
     private final UniqueBuyerList buyers;
-    private final UniqueBuyerList currBuyers;
+    private final ListableView<Buyer> currBuyers;
     private final UniqueMatchList matches;
+    private final ListableIndex<Property> propertyIndex;
+    private final ListableIndex<Buyer> buyerIndex;
+    private final TagDictionary tagDictionary; // Shared by propertyIndex and buyerIndex to compare their tag bitsets
+    private final ChangeLog changeLog; // Latest changes to properties and buyers, so that storage saves only those
+    private long version; // Changed whenever properties or buyers is modified
+    private IncrementalMatcher matcher; // Keeps matches up to date, or null if matches are left as they are
+    private boolean isMatchingAll; // True if matcher matches all properties and buyers, in the order of their lists
+    private boolean areMatchesOutdated; // True if the matches of all properties and buyers were kept but are outdated
+    private CompletableFuture<IncrementalMatcher> pendingMatcher; // Matches all properties and buyers in the background
+    private long pendingMatcherVersion; // Version of properties and buyers being matched by pendingMatcher
+    private int matchingPoolSize = 1; // Number of threads used by pendingMatcher
+    private long matchVersion; // Incremented whenever matches are replaced
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -38,10 +80,14 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         properties = new UniquePropertyList();
-        currProperties = new UniquePropertyList();
+        currProperties = new ListableView<>(properties.asUnmodifiableObservableList());
         buyers = new UniqueBuyerList();
-        currBuyers = new UniqueBuyerList();
+        currBuyers = new ListableView<>(buyers.asUnmodifiableObservableList());
         matches = new UniqueMatchList();
+        tagDictionary = new TagDictionary();
+        propertyIndex = new ListableIndex<>(tagDictionary);
+        buyerIndex = new ListableIndex<>(tagDictionary);
+        changeLog = new ChangeLog();
     }
 
     public AddressBook() {
@@ -58,19 +104,25 @@ public class AddressBook implements ReadOnlyAddressBook {
     //// list overwrite operations
 
     /**
-     * Replaces the contents of the property list with {@code properties}.
+     * Replaces the contents of the property list with {@code properties}, and shows all of them.
      * {@code properties} must not contain duplicate properties.
      */
     public void setProperties(List<Property> properties) {
+        List<Property> oldShown = new ArrayList<>(currProperties);
         this.properties.setProperties(properties);
+        propertyIndex.setAll(properties);
+        currProperties.sourceReplaced(oldShown);
+        dropMatcher();
+        version = latestVersion.incrementAndGet();
+        changeLog.restart(version);
     }
 
     /**
      * Replaces the contents of the current property list with {@code properties}.
-     * {@code properties} must not contain duplicate properties.
+     * {@code properties} must all be in the property list.
      */
     public void setCurrProperties(List<Property> properties) {
-        this.currProperties.setProperties(properties);
+        this.currProperties.show(properties);
     }
 
     /**
@@ -79,23 +131,28 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setAllProperties(List<Property> properties) {
         setProperties(properties);
-        setCurrProperties(properties);
     }
 
     /**
-     * Replaces the contents of the buyer list with {@code buyers}.
+     * Replaces the contents of the buyer list with {@code buyers}, and shows all of them.
      * {@code buyers} must not contain duplicate buyers.
      */
     public void setBuyers(List<Buyer> buyers) {
+        List<Buyer> oldShown = new ArrayList<>(currBuyers);
         this.buyers.setBuyers(buyers);
+        buyerIndex.setAll(buyers);
+        currBuyers.sourceReplaced(oldShown);
+        dropMatcher();
+        version = latestVersion.incrementAndGet();
+        changeLog.restart(version);
     }
 
     /**
      * Replaces the contents of the current buyer list with {@code buyers}.
-     * {@code buyers} must not contain duplicate buyers.
+     * {@code buyers} must all be in the buyer list.
      */
     public void setCurrBuyers(List<Buyer> buyers) {
-        this.currBuyers.setBuyers(buyers);
+        this.currBuyers.show(buyers);
     }
 
     /**
@@ -104,7 +161,6 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setAllBuyers(List<Buyer> buyers) {
         setBuyers(buyers);
-        setCurrBuyers(buyers);
     }
 
     /**
@@ -112,10 +168,31 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
-        setBuyers(newData.getBuyerList());
+        // Tags only in the old data do not keep their ids, as the tag bitsets of all new data are made again
+        tagDictionary.clear();
+        try {
+            setBuyers(newData.getBuyerList());
+            setProperties(newData.getPropertyList());
+        } catch (RuntimeException e) {
+            // A list that was not replaced still has tag bitsets from before the dictionary was cleared
+            buyerIndex.setTagBitSets(getBuyerList());
+            propertyIndex.setTagBitSets(getPropertyList());
+            throw e;
+        }
+        changeLog.restart(version, newData.getVersion());
         setCurrBuyers(newData.getCurrBuyerList());
-        setProperties(newData.getPropertyList());
         setCurrProperties(newData.getCurrPropertyList());
+        switch (newData.getMatchState()) {
+        case UP_TO_DATE:
+            restoreMatches(newData.getMatchList());
+            break;
+        case OUTDATED:
+            setMatchesOutdated();
+            matchAllInBackground();
+            break;
+        default:
+            setMatches(newData.getMatchList());
+        }
     }
 
     //// property-level operations
@@ -134,7 +211,15 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addProperty(Property p) {
         properties.add(p);
-        currProperties.add(p);
+        int size = properties.asUnmodifiableObservableList().size();
+        currProperties.sourceAdded(size - 1, size);
+        propertyIndex.add(p);
+        if (matcher != null) {
+            matcher.addProperty(p, false);
+            updateMatches();
+        }
+        version = latestVersion.incrementAndGet();
+        changeLog.log(AddressBookChange.addProperty(version, size - 1, p));
     }
 
     /**
@@ -146,8 +231,16 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void addProperty(Property target, Property editedProperty) {
         requireNonNull(editedProperty);
 
-        properties.setProperty(target, editedProperty);
-        currProperties.setProperty(target, editedProperty);
+        int index = properties.setProperty(target, editedProperty);
+        currProperties.sourceSet(index, target);
+        propertyIndex.remove(target);
+        propertyIndex.add(editedProperty);
+        if (matcher != null) {
+            matcher.setProperty(target, editedProperty);
+            updateMatches();
+        }
+        version = latestVersion.incrementAndGet();
+        logSetProperty(index, target, editedProperty);
     }
 
     /**
@@ -156,16 +249,30 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addNewProperty(Property p) {
         properties.addFront(p);
-        currProperties.addFront(p);
+        currProperties.sourceAdded(0, 1);
+        propertyIndex.add(p);
+        if (matcher != null) {
+            matcher.addProperty(p, true);
+            updateMatches();
+        }
+        version = latestVersion.incrementAndGet();
+        changeLog.log(AddressBookChange.addProperty(version, 0, p));
     }
 
     /**
      * Adds a list of properties to the address book.
      * The properties must not already exist in the address book.
+     * Matches are no longer kept up to date, as matching again is faster than updating them for each property.
      */
     public void addAllProperties(List<Property> p) {
         properties.addAll(p);
-        currProperties.addAll(p);
+        currProperties.sourceAdded(0, p.size());
+        p.forEach(propertyIndex::add);
+        dropMatcher();
+        version = latestVersion.incrementAndGet();
+        for (int i = 0; i < p.size(); i++) {
+            changeLog.log(AddressBookChange.addProperty(version, i, p.get(i)));
+        }
     }
 
     /**
@@ -173,8 +280,67 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removeProperty(Property key) {
-        properties.remove(key);
-        currProperties.remove(key);
+        int index = properties.remove(key);
+        currProperties.sourceRemoved(index, key);
+        propertyIndex.remove(key);
+        if (matcher != null) {
+            matcher.removeProperty(key);
+            updateMatches();
+        }
+        version = latestVersion.incrementAndGet();
+        changeLog.log(AddressBookChange.deleteProperty(version, key));
+    }
+
+    /**
+     * Removes {@code toRemove} and replaces each of {@code targets} with the property at the same index of
+     * {@code editedProperties}, going over the property list once for all of them instead of once for each.
+     * The properties of {@code toRemove} and {@code targets} must exist in the address book.
+     * The property identities of {@code editedProperties} must not be the same as other existing properties
+     * in the address book.
+     */
+    public void removeAndSetProperties(List<Property> toRemove, List<Property> targets,
+                                       List<Property> editedProperties) {
+        requireAllNonNull(toRemove, targets, editedProperties);
+
+        int[] setIndexes = properties.setProperties(targets, editedProperties);
+        currProperties.sourceSet(setIndexes, targets);
+        int[] removedIndexes = properties.removeAll(toRemove);
+        currProperties.sourceRemoved(removedIndexes, toRemove);
+        for (int i = 0; i < targets.size(); i++) {
+            propertyIndex.remove(targets.get(i));
+            propertyIndex.add(editedProperties.get(i));
+        }
+        toRemove.forEach(propertyIndex::remove);
+        if (matcher != null) {
+            toRemove.forEach(matcher::removeProperty);
+            for (int i = 0; i < targets.size(); i++) {
+                matcher.setProperty(targets.get(i), editedProperties.get(i));
+            }
+            // Replacing the list of matches goes over it once, instead of once for each changed match
+            matcher.takeChanges();
+            matches.setListables(matcher.getMatches());
+        }
+        version = latestVersion.incrementAndGet();
+        // Logged in the order they were made, as the indexes of the edits are from before the removals
+        for (int i = 0; i < targets.size(); i++) {
+            logSetProperty(setIndexes[i], targets.get(i), editedProperties.get(i));
+        }
+        for (Property property : toRemove) {
+            changeLog.log(AddressBookChange.deleteProperty(version, property));
+        }
+    }
+
+    /**
+     * Logs the replacement of {@code target} at {@code index} with {@code editedProperty}.
+     * An edit is replayed by identity, so a property whose identity changed is logged as removed and added again.
+     */
+    private void logSetProperty(int index, Property target, Property editedProperty) {
+        if (target.isSameListable(editedProperty)) {
+            changeLog.log(AddressBookChange.editProperty(version, editedProperty));
+            return;
+        }
+        changeLog.log(AddressBookChange.deleteProperty(version, target));
+        changeLog.log(AddressBookChange.addProperty(version, index, editedProperty));
     }
 
     //// buyer level operations
@@ -193,7 +359,15 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addBuyer(Buyer b) {
         buyers.add(b);
-        currBuyers.add(b);
+        int size = buyers.asUnmodifiableObservableList().size();
+        currBuyers.sourceAdded(size - 1, size);
+        buyerIndex.add(b);
+        if (matcher != null) {
+            matcher.addBuyer(b, false);
+            updateMatches();
+        }
+        version = latestVersion.incrementAndGet();
+        changeLog.log(AddressBookChange.addBuyer(version, size - 1, b));
     }
 
     /**
@@ -205,8 +379,21 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void addBuyer(Buyer target, Buyer editedBuyer) {
         requireNonNull(editedBuyer);
 
-        buyers.setBuyer(target, editedBuyer);
-        currBuyers.setBuyer(target, editedBuyer);
+        int index = buyers.setBuyer(target, editedBuyer);
+        currBuyers.sourceSet(index, target);
+        buyerIndex.remove(target);
+        buyerIndex.add(editedBuyer);
+        if (matcher != null) {
+            matcher.setBuyer(target, editedBuyer);
+            updateMatches();
+        }
+        version = latestVersion.incrementAndGet();
+        if (target.isSameListable(editedBuyer)) {
+            changeLog.log(AddressBookChange.editBuyer(version, editedBuyer));
+        } else {
+            changeLog.log(AddressBookChange.deleteBuyer(version, target));
+            changeLog.log(AddressBookChange.addBuyer(version, index, editedBuyer));
+        }
     }
 
     /**
@@ -215,16 +402,30 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addNewBuyer(Buyer b) {
         buyers.addFront(b);
-        currBuyers.addFront(b);
+        currBuyers.sourceAdded(0, 1);
+        buyerIndex.add(b);
+        if (matcher != null) {
+            matcher.addBuyer(b, true);
+            updateMatches();
+        }
+        version = latestVersion.incrementAndGet();
+        changeLog.log(AddressBookChange.addBuyer(version, 0, b));
     }
 
     /**
      * Adds a list of buyers to the address book.
      * The buyers must not already exist in the address book.
+     * Matches are no longer kept up to date, as matching again is faster than updating them for each buyer.
      */
     public void addAllBuyers(List<Buyer> b) {
         buyers.addAll(b);
-        currBuyers.addAll(b);
+        currBuyers.sourceAdded(0, b.size());
+        b.forEach(buyerIndex::add);
+        dropMatcher();
+        version = latestVersion.incrementAndGet();
+        for (int i = 0; i < b.size(); i++) {
+            changeLog.log(AddressBookChange.addBuyer(version, i, b.get(i)));
+        }
     }
 
     /**
@@ -232,15 +433,22 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removeBuyer(Buyer key) {
-        buyers.remove(key);
-        currBuyers.remove(key);
+        int index = buyers.remove(key);
+        currBuyers.sourceRemoved(index, key);
+        buyerIndex.remove(key);
+        if (matcher != null) {
+            matcher.removeBuyer(key);
+            updateMatches();
+        }
+        version = latestVersion.incrementAndGet();
+        changeLog.log(AddressBookChange.deleteBuyer(version, key));
     }
 
     /**
      * Resets the {@code currProperties} to the actual {@code properties} list.
      */
     public void resetProperties() {
-        currProperties.setProperties(properties);
+        currProperties.showAll();
     }
 
     /**
@@ -252,11 +460,31 @@ public class AddressBook implements ReadOnlyAddressBook {
         currProperties.filter(predicate);
     }
 
+    /**
+     * Filters the {@code currProperties} to those which match {@code namePredicate}, {@code tagsPredicate} and
+     * {@code pricePredicate}, as planned by {@link #planPropertyFilter}.
+     */
+    public void filterProperties(NameContainsKeywordsPredicate<Property> namePredicate,
+                                 ContainsTagsPredicate<Property> tagsPredicate,
+                                 ContainsPricePredicate<Property> pricePredicate) {
+        filter(currProperties, properties, planPropertyFilter(namePredicate, tagsPredicate, pricePredicate));
+    }
+
+    /**
+     * Plans how to filter the {@code currProperties} to those which match {@code namePredicate},
+     * {@code tagsPredicate} and {@code pricePredicate}, using the indexes of the properties.
+     */
+    public QueryPlan<Property> planPropertyFilter(NameContainsKeywordsPredicate<Property> namePredicate,
+                                                  ContainsTagsPredicate<Property> tagsPredicate,
+                                                  ContainsPricePredicate<Property> pricePredicate) {
+        return propertyIndex.plan(namePredicate, tagsPredicate, pricePredicate, getCurrPropertyList().size());
+    }
+
     /**
      * Resets the {@code currBuyers} to the actual {@code buyers} list.
      */
     public void resetBuyers() {
-        currBuyers.setBuyers(buyers);
+        currBuyers.showAll();
     }
 
     /**
@@ -268,13 +496,167 @@ public class AddressBook implements ReadOnlyAddressBook {
         currBuyers.filter(predicate);
     }
 
+    /**
+     * Filters the {@code currBuyers} to those which match {@code namePredicate}, {@code tagsPredicate} and
+     * {@code pricePredicate}, as planned by {@link #planBuyerFilter}.
+     */
+    public void filterBuyers(NameContainsKeywordsPredicate<Buyer> namePredicate,
+                             ContainsTagsPredicate<Buyer> tagsPredicate, ContainsPricePredicate<Buyer> pricePredicate) {
+        filter(currBuyers, buyers, planBuyerFilter(namePredicate, tagsPredicate, pricePredicate));
+    }
+
+    /**
+     * Plans how to filter the {@code currBuyers} to those which match {@code namePredicate},
+     * {@code tagsPredicate} and {@code pricePredicate}, using the indexes of the buyers.
+     */
+    public QueryPlan<Buyer> planBuyerFilter(NameContainsKeywordsPredicate<Buyer> namePredicate,
+                                            ContainsTagsPredicate<Buyer> tagsPredicate,
+                                            ContainsPricePredicate<Buyer> pricePredicate) {
+        return buyerIndex.plan(namePredicate, tagsPredicate, pricePredicate, getCurrBuyerList().size());
+    }
+
+    /**
+     * Filters {@code view} of {@code list} as planned by {@code plan}.
+     * If the plan is driven from an index, its candidates are found by their positions in {@code list}, so only
+     * the candidates that are shown are checked instead of every shown item.
+     */
+    private static <T extends Listable> void filter(ListableView<T> view, UniqueList<T> list, QueryPlan<T> plan) {
+        Optional<Set<Object>> candidates = plan.getCandidates();
+        if (candidates.isEmpty()) {
+            view.filter(plan.getCheck());
+            return;
+        }
+        view.filter(list.indexesOf(candidates.get()), plan.getCheck());
+    }
+
     //// match level operations
 
     /**
-     * Replaces the list of matches with the new list.
+     * Replaces the list of matches with the new list, which is no longer kept up to date.
      */
     public void setMatches(List<Match> newMatches) {
         matches.setListables(newMatches);
+        dropMatcher();
+        areMatchesOutdated = false;
+        pendingMatcher = null;
+        matchVersion++;
+    }
+
+    /**
+     * Replaces the list of matches with the matches of {@code matcher}, and keeps them up to date
+     * as properties and buyers are added, edited and removed.
+     */
+    public void setMatcher(IncrementalMatcher matcher) {
+        requireNonNull(matcher);
+        setMatches(matcher.getMatches());
+        matcher.takeChanges();
+        this.matcher = matcher;
+        isMatchingAll = matcher.hasPools(getPropertyList(), getBuyerList());
+    }
+
+    /**
+     * Replaces the list of matches with {@code matches}, which must be the matches of {@code match auto} between
+     * all properties and all buyers, such as matches that were saved, and keeps them up to date.
+     *
+     * @throws IllegalArgumentException if {@code matches} are not between the properties and buyers.
+     */
+    public void restoreMatches(List<Match> matches) {
+        setMatcher(new IncrementalMatcher(getPropertyList(), getBuyerList(), matches));
+    }
+
+    /**
+     * Clears the list of matches, recording that the matches of all properties and buyers were kept,
+     * but no longer match them.
+     */
+    public void setMatchesOutdated() {
+        setMatches(List.of());
+        areMatchesOutdated = true;
+    }
+
+    /**
+     * Sets the number of threads used to match all properties and buyers in the background.
+     */
+    public void setMatchingPoolSize(int matchingPoolSize) {
+        checkArgument(matchingPoolSize > 0);
+        this.matchingPoolSize = matchingPoolSize;
+    }
+
+    /**
+     * Starts matching all properties and buyers in the background, and shows the matches once done if the properties
+     * and buyers have not changed and the matches have not been replaced in the meantime.
+     * {@link #getMatcher()} can also return the matcher without waiting for the whole matching.
+     */
+    private void matchAllInBackground() {
+        List<Property> propertiesToMatch = List.copyOf(getPropertyList());
+        List<Buyer> buyersToMatch = List.copyOf(getBuyerList());
+        int parallelism = matchingPoolSize;
+        CompletableFuture<IncrementalMatcher> future = CompletableFuture.supplyAsync(() ->
+                new IncrementalMatcher(propertiesToMatch, buyersToMatch, parallelism));
+        pendingMatcher = future;
+        pendingMatcherVersion = version;
+        future.thenAccept(matcher -> Platform.runLater(() -> setPendingMatcher(future, matcher)));
+    }
+
+    /**
+     * Replaces the outdated matches with the matches of {@code matcher}, if it is still the pending matcher
+     * and the properties and buyers have not changed since it was started.
+     */
+    private void setPendingMatcher(CompletableFuture<IncrementalMatcher> future, IncrementalMatcher matcher) {
+        if (pendingMatcher == future && pendingMatcherVersion == version && areMatchesOutdated) {
+            setMatcher(matcher);
+        }
+    }
+
+    /**
+     * Returns the matcher keeping the list of matches up to date, if any.
+     * Otherwise, returns the matcher of all properties and buyers started in the background after loading outdated
+     * matches, waiting for it if needed, if they have not changed since and the matching did not fail.
+     */
+    public Optional<IncrementalMatcher> getMatcher() {
+        if (matcher == null && pendingMatcher != null && pendingMatcherVersion == version) {
+            try {
+                return Optional.of(pendingMatcher.join());
+            } catch (CompletionException | CancellationException e) {
+                // The caller matches all properties and buyers anew instead
+                pendingMatcher = null;
+            }
+        }
+        return Optional.ofNullable(matcher);
+    }
+
+    private void dropMatcher() {
+        matcher = null;
+        isMatchingAll = false;
+    }
+
+    /**
+     * Updates the list of matches in place with the changes made by {@code matcher}, keeping it in the order
+     * of the matcher.
+     */
+    private void updateMatches() {
+        MatchChanges changes = matcher.takeChanges();
+        changes.getRemoved().forEach(matches::remove);
+        Comparator<Match> order = matcher.getMatchOrder();
+        for (Match match : changes.getAdded()) {
+            int index = Collections.binarySearch(matches.asUnmodifiableObservableList(), match, order);
+            matches.add(index < 0 ? -index - 1 : index, match);
+        }
+    }
+
+    /**
+     * Returns the number of tags that {@code buyer} and {@code property} have in common.
+     * If both are in the address book, their tags are counted with the tag bitsets made when they were added.
+     *
+     * @see Match#getNumCommonTags(Buyer, Property)
+     */
+    public int getNumCommonTags(Buyer buyer, Property property) {
+        requireAllNonNull(buyer, property);
+        TagBitSet buyerTags = buyerIndex.getTagBitSet(buyer);
+        TagBitSet propertyTags = propertyIndex.getTagBitSet(property);
+        if (buyerTags == null || propertyTags == null) {
+            return Match.getNumCommonTags(buyer, property);
+        }
+        return buyerTags.countCommon(propertyTags);
     }
 
     /**
@@ -305,28 +687,80 @@ public class AddressBook implements ReadOnlyAddressBook {
      * Sorts currently displayed properties by the given {@code comparator}.
      */
     public void sortProperties(Comparator<Property> comparator) {
-        currProperties.sortListables(comparator);
+        currProperties.sort(comparator);
     }
 
     /**
-     * Sorts currently displayed properties by the given {@code sortType} and {@code sortDirection}.
+     * Sorts currently displayed properties by the given {@code sortType} and {@code sortDirection},
+     * using the order of all properties kept by the property index.
      */
     public void sortProperties(SortType sortType, SortDirection sortDirection) {
-        currProperties.sort(sortType, sortDirection);
+        currProperties.sort(UniquePropertyList.getComparator(sortType, sortDirection),
+                propertyIndex.getOrder(sortType, sortDirection));
+    }
+
+    /**
+     * Ranks currently displayed properties by {@code scorer} and then by {@code tieBreaker}, and displays only
+     * the first {@code pageSize} of them.
+     *
+     * @see ListableView#rank(ToIntFunction, ToLongFunction, int)
+     */
+    public void rankProperties(ToIntFunction<Property> scorer, ToLongFunction<Property> tieBreaker, int pageSize) {
+        currProperties.rank(scorer, tieBreaker, pageSize);
+    }
+
+    /**
+     * Displays the next page of ranked properties, and returns the number of properties added to the display.
+     */
+    public int showMoreProperties() {
+        return currProperties.showMore();
+    }
+
+    /**
+     * Returns true if currently displayed properties were ranked and some ranked properties are not displayed yet.
+     */
+    public boolean hasMoreProperties() {
+        return currProperties.hasMore();
     }
 
     /**
      * Sorts currently displayed buyers by the given {@code comparator}.
      */
     public void sortBuyers(Comparator<Buyer> comparator) {
-        currBuyers.sortListables(comparator);
+        currBuyers.sort(comparator);
     }
 
     /**
-     * Sorts currently displayed properties by the given {@code sortType} and {@code sortDirection}.
+     * Sorts currently displayed buyers by the given {@code sortType} and {@code sortDirection},
+     * using the order of all buyers kept by the buyer index.
      */
     public void sortBuyers(SortType sortType, SortDirection sortDirection) {
-        currBuyers.sort(sortType, sortDirection);
+        currBuyers.sort(UniqueBuyerList.getComparator(sortType, sortDirection),
+                buyerIndex.getOrder(sortType, sortDirection));
+    }
+
+    /**
+     * Ranks currently displayed buyers by {@code scorer} and then by {@code tieBreaker}, and displays only
+     * the first {@code pageSize} of them.
+     *
+     * @see ListableView#rank(ToIntFunction, ToLongFunction, int)
+     */
+    public void rankBuyers(ToIntFunction<Buyer> scorer, ToLongFunction<Buyer> tieBreaker, int pageSize) {
+        currBuyers.rank(scorer, tieBreaker, pageSize);
+    }
+
+    /**
+     * Displays the next page of ranked buyers, and returns the number of buyers added to the display.
+     */
+    public int showMoreBuyers() {
+        return currBuyers.showMore();
+    }
+
+    /**
+     * Returns true if currently displayed buyers were ranked and some ranked buyers are not displayed yet.
+     */
+    public boolean hasMoreBuyers() {
+        return currBuyers.hasMore();
     }
     //// util methods
 
@@ -361,6 +795,29 @@ public class AddressBook implements ReadOnlyAddressBook {
         return matches.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public ChangeLog getChangeLog() {
+        return changeLog;
+    }
+
+    @Override
+    public MatchState getMatchState() {
+        if (matcher != null && isMatchingAll) {
+            return MatchState.UP_TO_DATE;
+        }
+        return areMatchesOutdated ? MatchState.OUTDATED : MatchState.NONE;
+    }
+
+    @Override
+    public long getMatchVersion() {
+        return matchVersion;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
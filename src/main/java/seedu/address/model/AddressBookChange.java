@@ -0,0 +1,106 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.property.Buyer;
+import seedu.address.model.property.Property;
+
+/**
+ * A single change to the properties or buyers of an address book, as logged by its {@link ChangeLog}.
+ */
+public class AddressBookChange {
+
+    /**
+     * Kinds of changes to the properties and buyers.
+     */
+    public enum Type {
+        ADD_PROPERTY, EDIT_PROPERTY, DELETE_PROPERTY, ADD_BUYER, EDIT_BUYER, DELETE_BUYER
+    }
+
+    private final long version;
+    private final Type type;
+    private final int index;
+    private final Property property;
+    private final Buyer buyer;
+
+    private AddressBookChange(long version, Type type, int index, Property property, Buyer buyer) {
+        this.version = version;
+        this.type = type;
+        this.index = index;
+        this.property = property;
+        this.buyer = buyer;
+    }
+
+    /**
+     * Returns a change that inserts {@code property} at {@code index} of the property list.
+     */
+    public static AddressBookChange addProperty(long version, int index, Property property) {
+        return new AddressBookChange(version, Type.ADD_PROPERTY, index, requireNonNull(property), null);
+    }
+
+    /**
+     * Returns a change that replaces the property with the same identity as {@code property}.
+     */
+    public static AddressBookChange editProperty(long version, Property property) {
+        return new AddressBookChange(version, Type.EDIT_PROPERTY, -1, requireNonNull(property), null);
+    }
+
+    /**
+     * Returns a change that removes {@code property}.
+     */
+    public static AddressBookChange deleteProperty(long version, Property property) {
+        return new AddressBookChange(version, Type.DELETE_PROPERTY, -1, requireNonNull(property), null);
+    }
+
+    /**
+     * Returns a change that inserts {@code buyer} at {@code index} of the buyer list.
+     */
+    public static AddressBookChange addBuyer(long version, int index, Buyer buyer) {
+        return new AddressBookChange(version, Type.ADD_BUYER, index, null, requireNonNull(buyer));
+    }
+
+    /**
+     * Returns a change that replaces the buyer with the same identity as {@code buyer}.
+     */
+    public static AddressBookChange editBuyer(long version, Buyer buyer) {
+        return new AddressBookChange(version, Type.EDIT_BUYER, -1, null, requireNonNull(buyer));
+    }
+
+    /**
+     * Returns a change that removes {@code buyer}.
+     */
+    public static AddressBookChange deleteBuyer(long version, Buyer buyer) {
+        return new AddressBookChange(version, Type.DELETE_BUYER, -1, null, requireNonNull(buyer));
+    }
+
+    /**
+     * Returns the version of the address book after the modification that made this change.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the index that the property or buyer is inserted at, if this change adds one.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    public Property getProperty() {
+        return property;
+    }
+
+    public Buyer getBuyer() {
+        return buyer;
+    }
+
+    @Override
+    public String toString() {
+        return type + " " + (property != null ? property : buyer) + (index >= 0 ? " at " + index : "");
+    }
+}
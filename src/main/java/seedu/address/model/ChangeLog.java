@@ -0,0 +1,97 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The latest changes to the properties and buyers of an address book, in the order they were made.
+ * Changes that cannot be logged one by one, such as replacing a whole list, restart the log instead.
+ * Only the latest {@link #MAX_CHANGES} changes are kept, as whoever needs older changes can read the lists instead.
+ */
+public class ChangeLog {
+
+    /** Number of changes kept in the log. */
+    public static final int MAX_CHANGES = 1000;
+
+    private final Deque<AddressBookChange> changes;
+    private long startVersion; // Every change made after this version is logged
+    private long originVersion; // Version of the data that the data at startVersion was copied from
+
+    /**
+     * Creates a log of an address book at version 0, which has no properties and buyers.
+     */
+    public ChangeLog() {
+        changes = new ArrayDeque<>();
+    }
+
+    /**
+     * Creates a copy of {@code toCopy}, which is not changed by later changes to {@code toCopy}.
+     */
+    public ChangeLog(ChangeLog toCopy) {
+        requireNonNull(toCopy);
+        changes = new ArrayDeque<>(toCopy.changes);
+        startVersion = toCopy.startVersion;
+        originVersion = toCopy.originVersion;
+    }
+
+    /**
+     * Returns the changes made after {@code version}, in the order they were made, or an empty {@code Optional}
+     * if {@code version} is not a version of this log, or if some of the changes were not logged.
+     * The version of the data that the log was restarted from counts as the version it was restarted at.
+     */
+    public Optional<List<AddressBookChange>> getChangesSince(long version) {
+        long sinceVersion = version == originVersion ? startVersion : version;
+        boolean isVersionFound = sinceVersion == startVersion;
+        List<AddressBookChange> changesSince = new ArrayList<>();
+        Iterator<AddressBookChange> latestFirst = changes.descendingIterator();
+        while (latestFirst.hasNext()) {
+            AddressBookChange change = latestFirst.next();
+            if (change.getVersion() <= sinceVersion) {
+                // Versions are shared by all address books, so a version between two changes is not of this log
+                isVersionFound = change.getVersion() == sinceVersion;
+                break;
+            }
+            changesSince.add(change);
+        }
+        if (!isVersionFound) {
+            return Optional.empty();
+        }
+        Collections.reverse(changesSince);
+        return Optional.of(changesSince);
+    }
+
+    /**
+     * Logs {@code change}, dropping the oldest change if the log is full.
+     */
+    void log(AddressBookChange change) {
+        requireNonNull(change);
+        changes.addLast(change);
+        if (changes.size() > MAX_CHANGES) {
+            startVersion = changes.removeFirst().getVersion();
+            originVersion = startVersion;
+        }
+    }
+
+    /**
+     * Forgets all changes, as the data at {@code version} was changed in a way that is not logged.
+     */
+    void restart(long version) {
+        restart(version, version);
+    }
+
+    /**
+     * Forgets all changes, as the data at {@code version} was copied from other data at {@code originVersion}.
+     */
+    void restart(long version, long originVersion) {
+        changes.clear();
+        startVersion = version;
+        this.originVersion = originVersion;
+    }
+}
@@ -3,15 +3,23 @@ package seedu.address.model;
 import java.nio.file.Path;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.field.ContainsPricePredicate;
+import seedu.address.model.field.ContainsTagsPredicate;
+import seedu.address.model.field.NameContainsKeywordsPredicate;
 import seedu.address.model.field.SortDirection;
 import seedu.address.model.field.SortType;
+import seedu.address.model.match.IncrementalMatcher;
 import seedu.address.model.property.Buyer;
 import seedu.address.model.property.Match;
 import seedu.address.model.property.Property;
+import seedu.address.model.util.QueryPlan;
 
 /**
  * The API of the Model component.
@@ -91,6 +99,12 @@ public interface Model {
      */
     void addNewProperty(Property property);
 
+    /**
+     * Adds the given properties to the front of the list in one batch.
+     * None of {@code properties} may already exist in the address book, otherwise none are added.
+     */
+    void addAllProperties(List<Property> properties);
+
     /**
      * Replaces the given property {@code target} with {@code editedProperty}.
      * {@code target} must exist in the address book.
@@ -99,6 +113,13 @@ public interface Model {
      */
     void setProperty(Property target, Property editedProperty);
 
+    /**
+     * Deletes the properties of {@code targets} and replaces each of {@code editTargets} with the property at the
+     * same index of {@code editedProperties}, going over the property list once for all of them.
+     * The properties of {@code targets} and {@code editTargets} must exist in the address book.
+     */
+    void deleteAndSetProperties(List<Property> targets, List<Property> editTargets, List<Property> editedProperties);
+
     /**
      * Returns an unmodifiable view of the filtered property list
      */
@@ -116,6 +137,26 @@ public interface Model {
      */
     void updateFilteredPropertyList(Predicate<Property> predicate);
 
+    /**
+     * Updates the filter of the filtered property list to filter by the given {@code namePredicate},
+     * {@code tagsPredicate} and {@code pricePredicate}, which are matched using indexes of all properties.
+     *
+     * @throws NullPointerException if any of the predicates is null.
+     */
+    void updateFilteredPropertyList(NameContainsKeywordsPredicate<Property> namePredicate,
+                                    ContainsTagsPredicate<Property> tagsPredicate,
+                                    ContainsPricePredicate<Property> pricePredicate);
+
+    /**
+     * Returns the plan that {@link #updateFilteredPropertyList(NameContainsKeywordsPredicate, ContainsTagsPredicate,
+     * ContainsPricePredicate)} would use for the given predicates, without filtering the list.
+     *
+     * @throws NullPointerException if any of the predicates is null.
+     */
+    QueryPlan<Property> planFilteredPropertyList(NameContainsKeywordsPredicate<Property> namePredicate,
+                                                 ContainsTagsPredicate<Property> tagsPredicate,
+                                                 ContainsPricePredicate<Property> pricePredicate);
+
     /**
      * Updates and sorts the property list using the given {@code predicate} and {@code comparator}.
      */
@@ -126,6 +167,27 @@ public interface Model {
      */
     void sortProperties(SortType sortType, SortDirection sortDirection);
 
+    /**
+     * Sorts the filtered property list by the given {@code comparator}.
+     */
+    void sortProperties(Comparator<Property> comparator);
+
+    /**
+     * Ranks the filtered property list by {@code scorer} and then by {@code tieBreaker}, both higher first,
+     * and shows only the first {@code pageSize} properties. Each property is scored once.
+     */
+    void rankFilteredPropertyList(ToIntFunction<Property> scorer, ToLongFunction<Property> tieBreaker, int pageSize);
+
+    /**
+     * Shows the next page of the ranked property list, and returns the number of properties added to it.
+     */
+    int showMoreProperties();
+
+    /**
+     * Returns true if the filtered property list was ranked and has more properties to show.
+     */
+    boolean hasMoreProperties();
+
     /**
      * Returns true if a buyer with the same identity as {@code buyer} exists in the address book.
      */
@@ -149,6 +211,12 @@ public interface Model {
      */
     void addNewBuyer(Buyer buyer);
 
+    /**
+     * Adds the given buyers to the front of the list in one batch.
+     * None of {@code buyers} may already exist in the address book, otherwise none are added.
+     */
+    void addAllBuyers(List<Buyer> buyers);
+
     /**
      * Replaces the given buyer {@code target} with {@code editedBuyer}.
      * {@code target} must exist in the address book.
@@ -174,6 +242,26 @@ public interface Model {
      */
     void updateFilteredBuyerList(Predicate<Buyer> predicate);
 
+    /**
+     * Updates the filter of the filtered buyer list to filter by the given {@code namePredicate},
+     * {@code tagsPredicate} and {@code pricePredicate}, which are matched using indexes of all buyers.
+     *
+     * @throws NullPointerException if any of the predicates is null.
+     */
+    void updateFilteredBuyerList(NameContainsKeywordsPredicate<Buyer> namePredicate,
+                                 ContainsTagsPredicate<Buyer> tagsPredicate,
+                                 ContainsPricePredicate<Buyer> pricePredicate);
+
+    /**
+     * Returns the plan that {@link #updateFilteredBuyerList(NameContainsKeywordsPredicate, ContainsTagsPredicate,
+     * ContainsPricePredicate)} would use for the given predicates, without filtering the list.
+     *
+     * @throws NullPointerException if any of the predicates is null.
+     */
+    QueryPlan<Buyer> planFilteredBuyerList(NameContainsKeywordsPredicate<Buyer> namePredicate,
+                                           ContainsTagsPredicate<Buyer> tagsPredicate,
+                                           ContainsPricePredicate<Buyer> pricePredicate);
+
     /**
      * Updates and sorts the buyer list using the given {@code predicate} and {@code comparator}.
      */
@@ -184,6 +272,33 @@ public interface Model {
      */
     void sortBuyers(SortType sortType, SortDirection sortDirection);
 
+    /**
+     * Sorts the filtered buyer list by the given {@code comparator}.
+     */
+    void sortBuyers(Comparator<Buyer> comparator);
+
+    /**
+     * Ranks the filtered buyer list by {@code scorer} and then by {@code tieBreaker}, both higher first,
+     * and shows only the first {@code pageSize} buyers. Each buyer is scored once.
+     */
+    void rankFilteredBuyerList(ToIntFunction<Buyer> scorer, ToLongFunction<Buyer> tieBreaker, int pageSize);
+
+    /**
+     * Shows the next page of the ranked buyer list, and returns the number of buyers added to it.
+     */
+    int showMoreBuyers();
+
+    /**
+     * Returns true if the filtered buyer list was ranked and has more buyers to show.
+     */
+    boolean hasMoreBuyers();
+
+    /**
+     * Returns the number of tags that {@code buyer} and {@code property} have in common, counted with the tag
+     * bitsets kept for the properties and buyers in the address book.
+     */
+    int getNumCommonTags(Buyer buyer, Property property);
+
     /**
      * Returns an unmodifiable view of the match list.
      */
@@ -194,4 +309,15 @@ public interface Model {
      */
     void setMatchList(List<Match> matches);
 
+    /**
+     * Replaces the list of Matches with the matches of {@code matcher}, which keeps them up to date
+     * as properties and buyers are added, edited and deleted.
+     */
+    void setMatcher(IncrementalMatcher matcher);
+
+    /**
+     * Returns the matcher keeping the list of Matches up to date, if any.
+     */
+    Optional<IncrementalMatcher> getMatcher();
+
 }
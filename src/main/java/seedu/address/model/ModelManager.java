@@ -6,18 +6,25 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import java.nio.file.Path;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.field.ContainsPricePredicate;
+import seedu.address.model.field.ContainsTagsPredicate;
+import seedu.address.model.field.NameContainsKeywordsPredicate;
 import seedu.address.model.field.SortDirection;
 import seedu.address.model.field.SortType;
+import seedu.address.model.match.IncrementalMatcher;
 import seedu.address.model.property.Buyer;
 import seedu.address.model.property.Match;
 import seedu.address.model.property.Property;
+import seedu.address.model.util.QueryPlan;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -27,8 +34,8 @@ public class ModelManager implements Model {
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Property> filteredProperties;
-    private final FilteredList<Buyer> filteredBuyers;
+    private final ObservableList<Property> filteredProperties;
+    private final ObservableList<Buyer> filteredBuyers;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -39,10 +46,13 @@ public class ModelManager implements Model {
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredProperties = new FilteredList<>(this.addressBook.getCurrPropertyList());
-        filteredBuyers = new FilteredList<>(this.addressBook.getCurrBuyerList());
+        this.addressBook = new AddressBook();
+        // Set before the data, as outdated matches in it are matched again in the background
+        this.addressBook.setMatchingPoolSize(this.userPrefs.getMatchingPoolSize());
+        this.addressBook.resetData(addressBook);
+        filteredProperties = this.addressBook.getCurrPropertyList();
+        filteredBuyers = this.addressBook.getCurrBuyerList();
     }
 
     public ModelManager() {
@@ -55,6 +65,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        addressBook.setMatchingPoolSize(this.userPrefs.getMatchingPoolSize());
     }
 
     @Override
@@ -117,6 +128,11 @@ public class ModelManager implements Model {
         addressBook.addNewProperty(property);
     }
 
+    @Override
+    public void addAllProperties(List<Property> properties) {
+        addressBook.addAllProperties(properties);
+    }
+
     @Override
     public void setProperty(Property target, Property editedProperty) {
         requireAllNonNull(target, editedProperty);
@@ -124,6 +140,12 @@ public class ModelManager implements Model {
         addressBook.addProperty(target, editedProperty);
     }
 
+    @Override
+    public void deleteAndSetProperties(List<Property> targets, List<Property> editTargets,
+                                       List<Property> editedProperties) {
+        addressBook.removeAndSetProperties(targets, editTargets, editedProperties);
+    }
+
     @Override
     public boolean hasBuyer(Buyer buyer) {
         requireNonNull(buyer);
@@ -145,6 +167,11 @@ public class ModelManager implements Model {
         addressBook.addNewBuyer(buyer);
     }
 
+    @Override
+    public void addAllBuyers(List<Buyer> buyers) {
+        addressBook.addAllBuyers(buyers);
+    }
+
     @Override
     public void setBuyer(Buyer target, Buyer editedBuyer) {
         requireAllNonNull(target, editedBuyer);
@@ -157,11 +184,61 @@ public class ModelManager implements Model {
         addressBook.sortProperties(sortType, sortDirection);
     }
 
+    @Override
+    public void sortProperties(Comparator<Property> comparator) {
+        requireNonNull(comparator);
+        addressBook.sortProperties(comparator);
+    }
+
+    @Override
+    public void rankFilteredPropertyList(ToIntFunction<Property> scorer, ToLongFunction<Property> tieBreaker,
+                                         int pageSize) {
+        requireAllNonNull(scorer, tieBreaker);
+        addressBook.rankProperties(scorer, tieBreaker, pageSize);
+    }
+
+    @Override
+    public int showMoreProperties() {
+        return addressBook.showMoreProperties();
+    }
+
+    @Override
+    public boolean hasMoreProperties() {
+        return addressBook.hasMoreProperties();
+    }
+
     @Override
     public void sortBuyers(SortType sortType, SortDirection sortDirection) {
         addressBook.sortBuyers(sortType, sortDirection);
     }
 
+    @Override
+    public void sortBuyers(Comparator<Buyer> comparator) {
+        requireNonNull(comparator);
+        addressBook.sortBuyers(comparator);
+    }
+
+    @Override
+    public void rankFilteredBuyerList(ToIntFunction<Buyer> scorer, ToLongFunction<Buyer> tieBreaker, int pageSize) {
+        requireAllNonNull(scorer, tieBreaker);
+        addressBook.rankBuyers(scorer, tieBreaker, pageSize);
+    }
+
+    @Override
+    public int showMoreBuyers() {
+        return addressBook.showMoreBuyers();
+    }
+
+    @Override
+    public boolean hasMoreBuyers() {
+        return addressBook.hasMoreBuyers();
+    }
+
+    @Override
+    public int getNumCommonTags(Buyer buyer, Property property) {
+        return addressBook.getNumCommonTags(buyer, property);
+    }
+
     @Override
     public ObservableList<Match> getMatchList() {
         return addressBook.getMatchList();
@@ -172,6 +249,17 @@ public class ModelManager implements Model {
         addressBook.setMatches(matches);
     }
 
+    @Override
+    public void setMatcher(IncrementalMatcher matcher) {
+        requireNonNull(matcher);
+        addressBook.setMatcher(matcher);
+    }
+
+    @Override
+    public Optional<IncrementalMatcher> getMatcher() {
+        return addressBook.getMatcher();
+    }
+
     //=========== Filtered Property List Accessors =============================================================
 
     /**
@@ -194,6 +282,22 @@ public class ModelManager implements Model {
         addressBook.filterProperties(predicate);
     }
 
+    @Override
+    public void updateFilteredPropertyList(NameContainsKeywordsPredicate<Property> namePredicate,
+                                           ContainsTagsPredicate<Property> tagsPredicate,
+                                           ContainsPricePredicate<Property> pricePredicate) {
+        requireAllNonNull(namePredicate, tagsPredicate, pricePredicate);
+        addressBook.filterProperties(namePredicate, tagsPredicate, pricePredicate);
+    }
+
+    @Override
+    public QueryPlan<Property> planFilteredPropertyList(NameContainsKeywordsPredicate<Property> namePredicate,
+                                                        ContainsTagsPredicate<Property> tagsPredicate,
+                                                        ContainsPricePredicate<Property> pricePredicate) {
+        requireAllNonNull(namePredicate, tagsPredicate, pricePredicate);
+        return addressBook.planPropertyFilter(namePredicate, tagsPredicate, pricePredicate);
+    }
+
     @Override
     public void updateFilteredAndSortedPropertyList(Predicate<Property> predicate, Comparator<Property> comparator) {
         requireAllNonNull(predicate, comparator);
@@ -223,6 +327,22 @@ public class ModelManager implements Model {
         addressBook.filterBuyers(predicate);
     }
 
+    @Override
+    public void updateFilteredBuyerList(NameContainsKeywordsPredicate<Buyer> namePredicate,
+                                        ContainsTagsPredicate<Buyer> tagsPredicate,
+                                        ContainsPricePredicate<Buyer> pricePredicate) {
+        requireAllNonNull(namePredicate, tagsPredicate, pricePredicate);
+        addressBook.filterBuyers(namePredicate, tagsPredicate, pricePredicate);
+    }
+
+    @Override
+    public QueryPlan<Buyer> planFilteredBuyerList(NameContainsKeywordsPredicate<Buyer> namePredicate,
+                                                  ContainsTagsPredicate<Buyer> tagsPredicate,
+                                                  ContainsPricePredicate<Buyer> pricePredicate) {
+        requireAllNonNull(namePredicate, tagsPredicate, pricePredicate);
+        return addressBook.planBuyerFilter(namePredicate, tagsPredicate, pricePredicate);
+    }
+
     @Override
     public void updateFilteredAndSortedBuyerList(Predicate<Buyer> predicate, Comparator<Buyer> comparator) {
         requireAllNonNull(predicate, comparator);
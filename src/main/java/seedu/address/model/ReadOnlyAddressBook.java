@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.match.MatchState;
 import seedu.address.model.property.Buyer;
 import seedu.address.model.property.Match;
 import seedu.address.model.property.Property;
@@ -39,4 +40,28 @@ public interface ReadOnlyAddressBook {
      * This list will not contain any duplicate matches.
      */
     ObservableList<Match> getMatchList();
+
+    /**
+     * Returns the version of the properties and buyers lists.
+     * The version changes whenever either list is modified, but not when only the current lists or matches change.
+     * No two address books reach the same version by different changes, so data at the same version is the same.
+     */
+    long getVersion();
+
+    /**
+     * Returns the log of the latest changes to the properties and buyers lists.
+     */
+    ChangeLog getChangeLog();
+
+    /**
+     * Returns whether the match list holds the matches of {@code match auto} between all properties and buyers.
+     */
+    MatchState getMatchState();
+
+    /**
+     * Returns the version of the match list.
+     * The version changes whenever the match list is replaced, but not when it is updated as properties or buyers
+     * change.
+     */
+    long getMatchVersion();
 }
@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -13,8 +14,15 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final String MESSAGE_MATCHING_POOL_SIZE_CONSTRAINTS = "Matching pool size should be positive.";
+    public static final String MESSAGE_MATCH_PAGE_SIZE_CONSTRAINTS = "Match page size should be positive.";
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "propertywhiz.json");
+    /** Number of threads used to score match candidates. */
+    private int matchingPoolSize = Runtime.getRuntime().availableProcessors();
+    /** Number of best matches shown at a time when matching a property or buyer. */
+    private int matchPageSize = 50;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +44,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setMatchingPoolSize(newUserPrefs.getMatchingPoolSize());
+        setMatchPageSize(newUserPrefs.getMatchPageSize());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +66,24 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public int getMatchingPoolSize() {
+        return matchingPoolSize;
+    }
+
+    public void setMatchingPoolSize(int matchingPoolSize) {
+        checkArgument(matchingPoolSize > 0, MESSAGE_MATCHING_POOL_SIZE_CONSTRAINTS);
+        this.matchingPoolSize = matchingPoolSize;
+    }
+
+    public int getMatchPageSize() {
+        return matchPageSize;
+    }
+
+    public void setMatchPageSize(int matchPageSize) {
+        checkArgument(matchPageSize > 0, MESSAGE_MATCH_PAGE_SIZE_CONSTRAINTS);
+        this.matchPageSize = matchPageSize;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +96,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && addressBookFilePath.equals(o.addressBookFilePath);
+                && addressBookFilePath.equals(o.addressBookFilePath)
+                && matchingPoolSize == o.matchingPoolSize
+                && matchPageSize == o.matchPageSize;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, matchingPoolSize, matchPageSize);
     }
 
     @Override
@@ -81,6 +111,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nMatching pool size : " + matchingPoolSize);
+        sb.append("\nMatch page size : " + matchPageSize);
         return sb.toString();
     }
 
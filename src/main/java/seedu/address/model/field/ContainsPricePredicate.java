@@ -1,5 +1,6 @@
 package seedu.address.model.field;
 
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import seedu.address.model.property.Pricable;
@@ -28,6 +29,14 @@ public class ContainsPricePredicate<T extends Pricable> implements Predicate<T>
         this.maxPrice = maxPrice;
     }
 
+    public Optional<Price> getMinPrice() {
+        return Optional.ofNullable(minPrice);
+    }
+
+    public Optional<Price> getMaxPrice() {
+        return Optional.ofNullable(maxPrice);
+    }
+
     @Override
     public boolean test(T pricable) {
         boolean isGreaterThanOrEqualToMinPrice = true;
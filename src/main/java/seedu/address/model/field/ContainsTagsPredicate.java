@@ -22,10 +22,13 @@ public class ContainsTagsPredicate<T extends Taggable> implements Predicate<T> {
         this.tags = tags;
     }
 
+    public Set<Tag> getTags() {
+        return Collections.unmodifiableSet(tags);
+    }
+
     @Override
     public boolean test(T taggable) {
-        Set<Tag> taggableTags = taggable.getTags();
-        return taggableTags.containsAll(this.tags);
+        return taggable.getTags().containsAll(tags);
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.address.model.field;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Property's email in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -30,6 +32,7 @@ public class Email {
     private static final String DOMAIN_LAST_PART_REGEX = "(" + DOMAIN_PART_REGEX + "){2,}$"; // At least two chars
     private static final String DOMAIN_REGEX = "(" + DOMAIN_PART_REGEX + "\\.)*" + DOMAIN_LAST_PART_REGEX;
     public static final String VALIDATION_REGEX = LOCAL_PART_REGEX + "@" + DOMAIN_REGEX;
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
@@ -39,16 +42,33 @@ public class Email {
      * @param email A valid email address.
      */
     public Email(String email) {
+        this(toValue(email));
+    }
+
+    private Email(CharSequence value) {
+        this.value = value.toString();
+    }
+
+    private static CharSequence toValue(String email) {
         requireNonNull(email);
         checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
-        value = email;
+        return email;
+    }
+
+    /**
+     * Returns an {@code Email} with the given value, without validating it.
+     * Only used for data written by this app, where {@code value} is the value of a valid {@code Email}.
+     */
+    public static Email ofTrusted(String value) {
+        requireNonNull(value);
+        return new Email((CharSequence) value);
     }
 
     /**
      * Returns if a given string is a valid email.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
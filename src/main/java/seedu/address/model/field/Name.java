@@ -5,6 +5,8 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.StringUtil.compressWhitespace;
 import static seedu.address.commons.util.StringUtil.startCaseSentence;
 
+import java.util.regex.Pattern;
+
 import seedu.address.commons.util.ComparerMixin;
 
 /**
@@ -22,25 +24,47 @@ public class Name implements ComparerMixin<Name> {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum}\\- ]{0," + (MAX_LENGTH - 1) + "}";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String fullName;
 
+    // The key that names are ordered by, computed when first needed
+    private String collationKey;
+
     /**
      * Converts name to start-case and constructs a {@code Name}.
      *
      * @param name A valid name.
      */
     public Name(String name) {
+        this(toFullName(name));
+    }
+
+    // Takes a CharSequence to be told apart from the public constructor, as it does not validate its argument
+    private Name(CharSequence fullName) {
+        this.fullName = fullName.toString();
+    }
+
+    private static CharSequence toFullName(String name) {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
-        fullName = startCaseSentence(compressWhitespace(name));
+        return startCaseSentence(compressWhitespace(name));
+    }
+
+    /**
+     * Returns a {@code Name} with the given full name, without validating or converting it.
+     * Only used for data written by this app, where {@code fullName} is the full name of a valid {@code Name}.
+     */
+    public static Name ofTrusted(String fullName) {
+        requireNonNull(fullName);
+        return new Name((CharSequence) fullName);
     }
 
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -60,8 +84,18 @@ public class Name implements ComparerMixin<Name> {
         return fullName.hashCode();
     }
 
+    /**
+     * Returns the key that names are ordered by, such that names compare in the same order as their keys.
+     */
+    public String getCollationKey() {
+        if (collationKey == null) {
+            collationKey = fullName.toLowerCase();
+        }
+        return collationKey;
+    }
+
     @Override
     public int compareTo(Name otherName) {
-        return fullName.toLowerCase().compareTo(otherName.fullName.toLowerCase());
+        return getCollationKey().compareTo(otherName.getCollationKey());
     }
 }
@@ -22,6 +22,10 @@ public class NameContainsKeywordsPredicate<T extends Nameable> implements Predic
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return Collections.unmodifiableList(keywords);
+    }
+
     @Override
     public boolean test(T nameable) {
         if (keywords.isEmpty()) {
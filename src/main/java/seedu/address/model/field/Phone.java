@@ -2,6 +2,8 @@ package seedu.address.model.field;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Property's phone number in the address book.
  * Guarantees: immutable; Is always valid.
@@ -9,6 +11,7 @@ import static java.util.Objects.requireNonNull;
 public class Phone {
     private static final Integer MIN_LENGTH = 3;
     private static final String VALIDATION_REGEX = "[\\p{Alnum}\\-()+ ]{" + MIN_LENGTH + ",}";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
     public static final String MESSAGE_CONSTRAINTS =
             "Phone number should only contain alphanumeric characters, hyphens, parentheses, plus signs and spaces.\n"
                     + "Phone number should be at least " + MIN_LENGTH + " characters long.\n";
@@ -29,7 +32,7 @@ public class Phone {
      * Returns true if a given string matches the validation regex.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
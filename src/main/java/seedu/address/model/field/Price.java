@@ -3,6 +3,8 @@ package seedu.address.model.field;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 import seedu.address.commons.util.ComparerMixin;
 import seedu.address.commons.util.StringUtil;
 
@@ -13,7 +15,8 @@ public class Price implements ComparerMixin<Price> {
             "Price (in dollars) should only contain numbers, and it should be at least " + MIN_LENGTH + " digits and "
                     + "at most " + MAX_LENGTH + " digits long, not counting leading zeroes.";
     public static final String VALIDATION_REGEX = "\\d{" + MIN_LENGTH + "," + MAX_LENGTH + "}";
-    public final Long value;
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    public final long value;
 
     /**
      * Constructs a {@code Price}.
@@ -26,32 +29,44 @@ public class Price implements ComparerMixin<Price> {
         value = Long.parseLong(price);
     }
 
+    private Price(long value) {
+        this.value = value;
+    }
+
+    /**
+     * Returns a {@code Price} with the given value, without validating it.
+     * Only used for data written by this app, where {@code value} is the value of a valid {@code Price}.
+     */
+    public static Price ofTrusted(long value) {
+        return new Price(value);
+    }
+
     /**
      * Returns true if a given string is a valid price.
      */
     public static boolean isValidPrice(String test) {
-        return StringUtil.stripLeadingZeroes(test).matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(StringUtil.stripLeadingZeroes(test)).matches();
     }
 
     @Override
     public String toString() {
-        return value.toString();
+        return Long.toString(value);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Price // instanceof handles nulls
-                && value.equals(((Price) other).value)); // state check
+                && value == ((Price) other).value); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Long.hashCode(value);
     }
 
     @Override
     public int compareTo(Price otherPrice) {
-        return value.compareTo(otherPrice.value);
+        return Long.compare(value, otherPrice.value);
     }
 }
@@ -0,0 +1,339 @@
+package seedu.address.model.match;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import seedu.address.model.property.Buyer;
+import seedu.address.model.property.Match;
+import seedu.address.model.property.Property;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagBitSet;
+import seedu.address.model.tag.TagDictionary;
+
+/**
+ * Pairs up buyers and properties greedily, always confirming the most desirable available pair first.
+ * A pair is more desirable if it has a higher match score, then a smaller price gap.
+ * Remaining ties are broken by the order of the buyers, then of the properties, in the given lists.
+ *
+ * Instead of materializing every buyer-property pair, properties are grouped by their set of tags, and each group
+ * keeps its unmatched properties sorted by price. All properties in a group have the same number of common tags
+ * with a given buyer, so the buyer's best candidate in a group is the unmatched property whose price is closest to
+ * the buyer's budget, preferring properties within budget.
+ *
+ * A buyer only visits the groups sharing a tag with it, found through an index from each tag to its groups,
+ * in decreasing number of common tags, and stops at the first group that cannot beat its best candidate.
+ * Groups with no tags in common are searched at once, in one more index of all unmatched properties by price.
+ * Memory used is linear in the number of buyers and properties.
+ *
+ * The initial best candidate of every buyer can be found in parallel. Since candidates are totally ordered,
+ * the confirmed matches do not depend on the number of threads used.
+ */
+public class GreedyMatcher {
+
+    /** Number of buyers below which a scoring task is no longer split. */
+    private static final int SCORING_THRESHOLD = 256;
+
+    private static final int UNMATCHED_PROPERTIES_INDEX = -1;
+
+    private final List<Property> properties;
+    private final List<Buyer> buyers;
+    private final TagDictionary tagDictionary = new TagDictionary();
+    private final List<TagGroup> tagGroups = new ArrayList<>();
+    private final List<List<TagGroup>> tagToTagGroups = new ArrayList<>(); // Indexed by tag id
+    private final TagGroup unmatchedProperties = new TagGroup(UNMATCHED_PROPERTIES_INDEX);
+    private final TagGroup[] propertyToTagGroup;
+    private final int[][] buyerToTagIds;
+    private final boolean[] isPropertyMatched;
+    private final int parallelism;
+
+    /**
+     * Creates a matcher between the given {@code properties} and {@code buyers} that runs on a single thread.
+     * Neither list may contain duplicates.
+     */
+    public GreedyMatcher(List<Property> properties, List<Buyer> buyers) {
+        this(properties, buyers, 1);
+    }
+
+    /**
+     * Creates a matcher between the given {@code properties} and {@code buyers} that scores candidates
+     * using up to {@code parallelism} threads.
+     * Neither list may contain duplicates.
+     */
+    public GreedyMatcher(List<Property> properties, List<Buyer> buyers, int parallelism) {
+        requireAllNonNull(properties, buyers);
+        this.properties = properties;
+        this.buyers = buyers;
+        this.parallelism = parallelism;
+        this.propertyToTagGroup = new TagGroup[properties.size()];
+        this.isPropertyMatched = new boolean[properties.size()];
+        this.buyerToTagIds = new int[buyers.size()][];
+        groupProperties();
+        // Tags of buyers that no property has cannot be in common, so they are left out
+        for (int buyerIndex = 0; buyerIndex < buyers.size(); buyerIndex++) {
+            buyerToTagIds[buyerIndex] = buyers.get(buyerIndex).getTags().stream().mapToInt(tagDictionary::getId)
+                    .filter(tagId -> tagId != TagDictionary.NO_ID).toArray();
+        }
+    }
+
+    /**
+     * Returns the confirmed matches, in the order they were confirmed.
+     */
+    public List<Match> getMatches() {
+        PriorityQueue<Candidate> queue = new PriorityQueue<>();
+        for (Candidate candidate : findInitialCandidates()) {
+            if (candidate != null) {
+                queue.add(candidate);
+            }
+        }
+
+        List<Match> matches = new ArrayList<>();
+        CommonTagCounter counter = new CommonTagCounter();
+        while (!queue.isEmpty()) {
+            Candidate candidate = queue.poll();
+            if (isPropertyMatched[candidate.propertyIndex]) {
+                // Candidate was taken by another buyer, look for the next best one
+                findBestCandidate(candidate.buyerIndex, counter).ifPresent(queue::add);
+                continue;
+            }
+            confirmCandidate(candidate);
+            matches.add(new Match(properties.get(candidate.propertyIndex), buyers.get(candidate.buyerIndex)));
+        }
+        return matches;
+    }
+
+    private void groupProperties() {
+        Map<TagBitSet, TagGroup> tagsToTagGroup = new HashMap<>();
+        for (int propertyIndex = 0; propertyIndex < properties.size(); propertyIndex++) {
+            Property property = properties.get(propertyIndex);
+            TagGroup tagGroup = tagsToTagGroup.computeIfAbsent(tagDictionary.addTags(property.getTags()), tags -> {
+                TagGroup newTagGroup = new TagGroup(tagGroups.size());
+                tagGroups.add(newTagGroup);
+                for (Tag tag : property.getTags()) {
+                    int tagId = tagDictionary.getId(tag);
+                    if (tagId == tagToTagGroups.size()) {
+                        tagToTagGroups.add(new ArrayList<>());
+                    }
+                    tagToTagGroups.get(tagId).add(newTagGroup);
+                }
+                return newTagGroup;
+            });
+            tagGroup.add(property.getPrice().value, propertyIndex);
+            unmatchedProperties.add(property.getPrice().value, propertyIndex);
+            propertyToTagGroup[propertyIndex] = tagGroup;
+        }
+    }
+
+    /**
+     * Returns the best candidate of every buyer before any match is confirmed, indexed by buyer.
+     * An entry is null if there are no properties.
+     */
+    private Candidate[] findInitialCandidates() {
+        Candidate[] candidates = new Candidate[buyers.size()];
+        if (parallelism <= 1 || buyers.size() <= SCORING_THRESHOLD) {
+            new ScoringTask(candidates, 0, buyers.size()).compute();
+            return candidates;
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new ScoringTask(candidates, 0, buyers.size()));
+        } finally {
+            pool.shutdown();
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the most desirable unmatched property for the buyer at {@code buyerIndex},
+     * or an empty {@code Optional} if all properties have been matched.
+     */
+    private Optional<Candidate> findBestCandidate(int buyerIndex, CommonTagCounter counter) {
+        long budget = buyers.get(buyerIndex).getPrice().value;
+        Candidate best = null;
+        counter.count(buyerToTagIds[buyerIndex]);
+        for (int i = 0; i < counter.sharingCount; i++) {
+            TagGroup tagGroup = tagGroups.get(counter.sortedGroups[i]);
+            int numCommonTags = counter.groupToCount[tagGroup.index];
+            if (best != null && numCommonTags + Match.WITHIN_BUDGET_BONUS < best.score) {
+                break; // No property in this group or the remaining groups can beat the current best
+            }
+            if (!tagGroup.isEmpty()) {
+                best = getBetter(best, tagGroup.getClosestCandidate(buyerIndex, budget, numCommonTags));
+            }
+        }
+
+        // The closest of all unmatched properties either has no tags in common with the buyer, or is in a group
+        // sharing tags with the buyer, where it is already a candidate with a higher score than it is given here
+        if (!unmatchedProperties.isEmpty() && (best == null || Match.WITHIN_BUDGET_BONUS >= best.score)) {
+            best = getBetter(best, unmatchedProperties.getClosestCandidate(buyerIndex, budget, 0));
+        }
+        return Optional.ofNullable(best);
+    }
+
+    private static Candidate getBetter(Candidate best, Candidate candidate) {
+        return best == null || candidate.compareTo(best) < 0 ? candidate : best;
+    }
+
+    private void confirmCandidate(Candidate candidate) {
+        int propertyIndex = candidate.propertyIndex;
+        isPropertyMatched[propertyIndex] = true;
+        long price = properties.get(propertyIndex).getPrice().value;
+        propertyToTagGroup[propertyIndex].remove(price, propertyIndex);
+        unmatchedProperties.remove(price, propertyIndex);
+    }
+
+    /**
+     * Finds the best candidates of a range of buyers, splitting the range while it is large.
+     * Tag groups are only read while scoring, so tasks can run concurrently.
+     */
+    private class ScoringTask extends RecursiveAction {
+        private final Candidate[] candidates;
+        private final int from;
+        private final int to;
+
+        ScoringTask(Candidate[] candidates, int from, int to) {
+            this.candidates = candidates;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SCORING_THRESHOLD) {
+                CommonTagCounter counter = new CommonTagCounter();
+                for (int buyerIndex = from; buyerIndex < to; buyerIndex++) {
+                    candidates[buyerIndex] = findBestCandidate(buyerIndex, counter).orElse(null);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ScoringTask(candidates, from, mid), new ScoringTask(candidates, mid, to));
+        }
+    }
+
+    /**
+     * Counts the common tags of a buyer with the tag groups sharing a tag with it, reusing its arrays for the
+     * next buyer. Each thread scoring buyers has its own counter.
+     */
+    private class CommonTagCounter {
+        private final int[] groupToCount = new int[tagGroups.size()];
+        private final int[] sharingGroups = new int[tagGroups.size()];
+        private final int[] sortedGroups = new int[tagGroups.size()]; // Sharing groups by decreasing count
+        private int sharingCount;
+
+        /**
+         * Counts the common tags of every tag group with {@code tagIds}, then sorts the groups sharing any tag.
+         */
+        void count(int[] tagIds) {
+            for (int i = 0; i < sharingCount; i++) {
+                groupToCount[sharingGroups[i]] = 0;
+            }
+            sharingCount = 0;
+            for (int tagId : tagIds) {
+                for (TagGroup tagGroup : tagToTagGroups.get(tagId)) {
+                    if (groupToCount[tagGroup.index]++ == 0) {
+                        sharingGroups[sharingCount++] = tagGroup.index;
+                    }
+                }
+            }
+
+            // Counting sort, as a group has from 1 to tagIds.length tags in common
+            int[] countStarts = new int[tagIds.length + 2];
+            for (int i = 0; i < sharingCount; i++) {
+                countStarts[tagIds.length - groupToCount[sharingGroups[i]] + 1]++;
+            }
+            for (int i = 1; i < countStarts.length; i++) {
+                countStarts[i] += countStarts[i - 1];
+            }
+            for (int i = 0; i < sharingCount; i++) {
+                int groupIndex = sharingGroups[i];
+                sortedGroups[countStarts[tagIds.length - groupToCount[groupIndex]]++] = groupIndex;
+            }
+        }
+    }
+
+    /**
+     * Unmatched properties sharing the same set of tags, indexed by price.
+     */
+    private static class TagGroup {
+        private final int index; // Index in the list of tag groups
+        private final TreeMap<Long, TreeSet<Integer>> priceToPropertyIndexes = new TreeMap<>();
+
+        TagGroup(int index) {
+            this.index = index;
+        }
+
+        boolean isEmpty() {
+            return priceToPropertyIndexes.isEmpty();
+        }
+
+        void add(long price, int propertyIndex) {
+            priceToPropertyIndexes.computeIfAbsent(price, unused -> new TreeSet<>()).add(propertyIndex);
+        }
+
+        void remove(long price, int propertyIndex) {
+            TreeSet<Integer> propertyIndexes = priceToPropertyIndexes.get(price);
+            propertyIndexes.remove(propertyIndex);
+            if (propertyIndexes.isEmpty()) {
+                priceToPropertyIndexes.remove(price);
+            }
+        }
+
+        /**
+         * Returns the best candidate in this group for a buyer with the given {@code budget}.
+         * A property within budget always scores higher than one above budget, so the most expensive property
+         * within budget is preferred, then the cheapest property above budget.
+         * This group must not be empty.
+         */
+        Candidate getClosestCandidate(int buyerIndex, long budget, int numCommonTags) {
+            Map.Entry<Long, TreeSet<Integer>> withinBudget = priceToPropertyIndexes.floorEntry(budget);
+            if (withinBudget != null) {
+                return new Candidate(buyerIndex, withinBudget.getValue().first(),
+                        numCommonTags + Match.WITHIN_BUDGET_BONUS, budget - withinBudget.getKey());
+            }
+            Map.Entry<Long, TreeSet<Integer>> aboveBudget = priceToPropertyIndexes.higherEntry(budget);
+            assert aboveBudget != null;
+            return new Candidate(buyerIndex, aboveBudget.getValue().first(),
+                    numCommonTags, aboveBudget.getKey() - budget);
+        }
+    }
+
+    /**
+     * A possible pairing of a buyer and a property, ordered from most to least desirable.
+     */
+    static class Candidate implements Comparable<Candidate> {
+        private static final Comparator<Candidate> DESIRABILITY_ORDER =
+                Comparator.<Candidate>comparingInt(candidate -> -candidate.score)
+                        .thenComparingLong(candidate -> candidate.priceGap)
+                        .thenComparingInt(candidate -> candidate.buyerIndex)
+                        .thenComparingInt(candidate -> candidate.propertyIndex);
+
+        final int buyerIndex;
+        final int propertyIndex;
+        final int score;
+        final long priceGap;
+
+        Candidate(int buyerIndex, int propertyIndex, int score, long priceGap) {
+            this.buyerIndex = buyerIndex;
+            this.propertyIndex = propertyIndex;
+            this.score = score;
+            this.priceGap = priceGap;
+        }
+
+        @Override
+        public int compareTo(Candidate other) {
+            return DESIRABILITY_ORDER.compare(this, other);
+        }
+    }
+}
@@ -0,0 +1,582 @@
+package seedu.address.model.match;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import seedu.address.model.property.Buyer;
+import seedu.address.model.property.Listable;
+import seedu.address.model.property.Match;
+import seedu.address.model.property.Pricable;
+import seedu.address.model.property.Property;
+import seedu.address.model.property.Taggable;
+import seedu.address.model.tag.TagBitSet;
+import seedu.address.model.tag.TagDictionary;
+
+/**
+ * Keeps the matches of {@link GreedyMatcher} between a pool of properties and a pool of buyers up to date
+ * as properties and buyers are added to, edited in and removed from the pools.
+ *
+ * Pairs are ranked by match score, then price gap, then the order of the buyers, then of the properties, in the
+ * pools. With pairs ranked this way, the greedy matches are the only matches in which every unmatched pair has
+ * a buyer or property that is matched in a better pair. After a change, this only fails along a chain starting
+ * from the changed buyer or property: it proposes to its best partner that would rather be matched to it,
+ * which leaves the previous partner of that partner to propose in turn, and so on.
+ * Partners better than the previous one of a proposer still would not rather be matched to it, so each proposer
+ * resumes from its previous partner. The matches are therefore always the same as those found by matching
+ * the pools from scratch.
+ *
+ * Each pool is indexed by tag set, then by price, so that a proposer finds its partners in order of preference
+ * without scoring every buyer or property.
+ */
+public class IncrementalMatcher {
+
+    public static final String MESSAGE_INVALID_MATCHES =
+            "Matches should pair properties and buyers in the pools, each at most once.";
+
+    private static final int UNMATCHED = -1;
+
+    private final TagDictionary tagDictionary = new TagDictionary(); // Shared so that both pools' tags compare
+    private final Side<Buyer> buyers = new Side<>(false, tagDictionary);
+    private final Side<Property> properties = new Side<>(true, tagDictionary);
+    private Set<Match> removedMatches = new LinkedHashSet<>();
+    private Set<Match> addedMatches = new LinkedHashSet<>();
+
+    /**
+     * Creates a matcher between the pools {@code properties} and {@code buyers}, in their given order, and matches
+     * them using a single thread.
+     * Neither list may contain duplicates.
+     */
+    public IncrementalMatcher(List<Property> properties, List<Buyer> buyers) {
+        this(properties, buyers, 1);
+    }
+
+    /**
+     * Creates a matcher between the pools {@code properties} and {@code buyers}, in their given order, and matches
+     * them using up to {@code parallelism} threads.
+     * Neither list may contain duplicates.
+     */
+    public IncrementalMatcher(List<Property> properties, List<Buyer> buyers, int parallelism) {
+        this(properties, buyers, new GreedyMatcher(properties, buyers, parallelism).getMatches());
+    }
+
+    /**
+     * Creates a matcher between the pools {@code properties} and {@code buyers}, in their given order, with their
+     * {@code matches} found earlier, such as matches that were saved, so that they do not need to be matched again.
+     * {@code matches} must be the matches {@link GreedyMatcher} finds between the pools.
+     *
+     * @throws IllegalArgumentException if a match is not between a property and a buyer in the pools,
+     *     or a property or buyer is in more than one match.
+     */
+    public IncrementalMatcher(List<Property> properties, List<Buyer> buyers, List<Match> matches) {
+        requireAllNonNull(properties, buyers, matches);
+        properties.forEach(property -> this.properties.add(property, false));
+        buyers.forEach(buyer -> this.buyers.add(buyer, false));
+        for (Match match : matches) {
+            Integer buyerSlot = this.buyers.identityToSlot.get(match.getBuyer().getListableIdentity());
+            Integer propertySlot = this.properties.identityToSlot.get(match.getProperty().getListableIdentity());
+            checkArgument(buyerSlot != null && propertySlot != null, MESSAGE_INVALID_MATCHES);
+            checkArgument(this.buyers.partners.get(buyerSlot) == UNMATCHED
+                    && this.properties.partners.get(propertySlot) == UNMATCHED, MESSAGE_INVALID_MATCHES);
+            link(buyerSlot, propertySlot);
+        }
+        takeChanges();
+    }
+
+    /**
+     * Returns true if the pools are {@code properties} and {@code buyers}, in the same order.
+     */
+    public boolean hasPools(List<Property> properties, List<Buyer> buyers) {
+        return this.properties.hasPool(properties) && this.buyers.hasPool(buyers);
+    }
+
+    /**
+     * Returns the matches, in the order given by {@link #getMatchOrder()}.
+     */
+    public List<Match> getMatches() {
+        List<Match> matches = new ArrayList<>();
+        for (int buyerSlot : buyers.orderToSlot.values()) {
+            int propertySlot = buyers.partners.get(buyerSlot);
+            if (propertySlot != UNMATCHED) {
+                matches.add(toMatch(buyerSlot, propertySlot));
+            }
+        }
+        matches.sort(getMatchOrder());
+        return matches;
+    }
+
+    /**
+     * Returns the order in which {@code match auto} shows matches between the pools: by decreasing match score,
+     * then decreasing budget less price, then the order of the buyers, then of the properties, in the pools.
+     */
+    public Comparator<Match> getMatchOrder() {
+        return Comparator.comparing(Match::getMatchScore).thenComparing(Match::getPriceDifference).reversed()
+                .thenComparingLong(match -> buyers.getOrder(match.getBuyer()))
+                .thenComparingLong(match -> properties.getOrder(match.getProperty()));
+    }
+
+    /**
+     * Adds {@code property} to the front of the property pool if {@code isFront}, or to the back otherwise,
+     * and updates the matches.
+     */
+    public void addProperty(Property property, boolean isFront) {
+        requireNonNull(property);
+        proposeFromProperty(properties.add(property, isFront), UNMATCHED);
+    }
+
+    /**
+     * Removes {@code property} from the property pool, if it is in the pool, and updates the matches.
+     */
+    public void removeProperty(Property property) {
+        requireNonNull(property);
+        Integer slot = properties.identityToSlot.get(property.getListableIdentity());
+        if (slot == null) {
+            return;
+        }
+        int buyerSlot = properties.partners.get(slot);
+        properties.remove(slot);
+        if (buyerSlot != UNMATCHED) {
+            unlink(buyerSlot, slot);
+            proposeFromBuyer(buyerSlot, slot);
+        }
+    }
+
+    /**
+     * Replaces {@code target} in the property pool with {@code editedProperty}, at the same place in the pool,
+     * if {@code target} is in the pool, and updates the matches.
+     */
+    public void setProperty(Property target, Property editedProperty) {
+        requireAllNonNull(target, editedProperty);
+        Integer slot = properties.identityToSlot.get(target.getListableIdentity());
+        if (slot == null) {
+            return;
+        }
+        long order = properties.orders.get(slot);
+        removeProperty(target);
+        proposeFromProperty(properties.add(editedProperty, order), UNMATCHED);
+    }
+
+    /**
+     * Adds {@code buyer} to the front of the buyer pool if {@code isFront}, or to the back otherwise,
+     * and updates the matches.
+     */
+    public void addBuyer(Buyer buyer, boolean isFront) {
+        requireNonNull(buyer);
+        proposeFromBuyer(buyers.add(buyer, isFront), UNMATCHED);
+    }
+
+    /**
+     * Removes {@code buyer} from the buyer pool, if it is in the pool, and updates the matches.
+     */
+    public void removeBuyer(Buyer buyer) {
+        requireNonNull(buyer);
+        Integer slot = buyers.identityToSlot.get(buyer.getListableIdentity());
+        if (slot == null) {
+            return;
+        }
+        int propertySlot = buyers.partners.get(slot);
+        buyers.remove(slot);
+        if (propertySlot != UNMATCHED) {
+            unlink(slot, propertySlot);
+            proposeFromProperty(propertySlot, slot);
+        }
+    }
+
+    /**
+     * Replaces {@code target} in the buyer pool with {@code editedBuyer}, at the same place in the pool,
+     * if {@code target} is in the pool, and updates the matches.
+     */
+    public void setBuyer(Buyer target, Buyer editedBuyer) {
+        requireAllNonNull(target, editedBuyer);
+        Integer slot = buyers.identityToSlot.get(target.getListableIdentity());
+        if (slot == null) {
+            return;
+        }
+        long order = buyers.orders.get(slot);
+        removeBuyer(target);
+        proposeFromBuyer(buyers.add(editedBuyer, order), UNMATCHED);
+    }
+
+    /**
+     * Returns the matches removed and added since the last call, or since this matcher was created.
+     * A match that was removed and added back, or added and removed again, is in neither.
+     */
+    public MatchChanges takeChanges() {
+        MatchChanges changes = new MatchChanges(new ArrayList<>(removedMatches), new ArrayList<>(addedMatches));
+        removedMatches = new LinkedHashSet<>();
+        addedMatches = new LinkedHashSet<>();
+        return changes;
+    }
+
+    /**
+     * Lets the buyer at {@code buyerSlot} propose to properties, starting after {@code afterSlot},
+     * and lets every buyer left unmatched by a proposal propose in turn.
+     */
+    private void proposeFromBuyer(int buyerSlot, int afterSlot) {
+        while (buyerSlot != UNMATCHED) {
+            int propertySlot = findPartner(buyers, buyerSlot, properties, afterSlot);
+            if (propertySlot == UNMATCHED) {
+                return;
+            }
+            int previousBuyerSlot = properties.partners.get(propertySlot);
+            if (previousBuyerSlot != UNMATCHED) {
+                unlink(previousBuyerSlot, propertySlot);
+            }
+            link(buyerSlot, propertySlot);
+            buyerSlot = previousBuyerSlot;
+            afterSlot = propertySlot;
+        }
+    }
+
+    /**
+     * Lets the property at {@code propertySlot} propose to buyers, starting after {@code afterSlot},
+     * and lets every property left unmatched by a proposal propose in turn.
+     */
+    private void proposeFromProperty(int propertySlot, int afterSlot) {
+        while (propertySlot != UNMATCHED) {
+            int buyerSlot = findPartner(properties, propertySlot, buyers, afterSlot);
+            if (buyerSlot == UNMATCHED) {
+                return;
+            }
+            int previousPropertySlot = buyers.partners.get(buyerSlot);
+            if (previousPropertySlot != UNMATCHED) {
+                unlink(buyerSlot, previousPropertySlot);
+            }
+            link(buyerSlot, propertySlot);
+            propertySlot = previousPropertySlot;
+            afterSlot = buyerSlot;
+        }
+    }
+
+    /**
+     * Returns the slot of the most preferred partner of the proposer at {@code slot} that is ranked after
+     * {@code afterSlot} and would rather be matched to the proposer, or {@code UNMATCHED} if there is none.
+     */
+    private int findPartner(Side<?> proposers, int slot, Side<?> partners, int afterSlot) {
+        Pair after = afterSlot == UNMATCHED ? null : rankPartner(proposers, slot, partners, afterSlot);
+        long value = proposers.values.get(slot);
+        TagBitSet tags = proposers.tags.get(slot);
+        PriorityQueue<Cursor> cursors = new PriorityQueue<>();
+        for (Group group : partners.groups.values()) {
+            int numCommonTags = tags.countCommon(group.tags);
+            addCursor(cursors, group, numCommonTags + Match.WITHIN_BUDGET_BONUS, value, true,
+                    partners.isWithinBudgetBelow, after);
+            addCursor(cursors, group, numCommonTags, value, false, partners.isWithinBudgetBelow, after);
+        }
+
+        while (!cursors.isEmpty()) {
+            Cursor cursor = cursors.poll();
+            int partnerSlot = cursor.entry.slot;
+            int currentSlot = partners.partners.get(partnerSlot);
+            if (currentSlot == UNMATCHED || isBetter(proposers, slot, partners, partnerSlot, currentSlot)) {
+                return partnerSlot;
+            }
+            if (cursor.advance()) {
+                cursors.add(cursor);
+            }
+        }
+        return UNMATCHED;
+    }
+
+    /**
+     * Adds a cursor over the partners in {@code group} that are within budget of the proposer, or above budget
+     * if not {@code isWithinBudget}, in order of preference. Partners ranked up to {@code after} are skipped.
+     */
+    private void addCursor(PriorityQueue<Cursor> cursors, Group group, int score, long value,
+                           boolean isWithinBudget, boolean isWithinBudgetBelow, Pair after) {
+        if (after != null && after.score < score) {
+            return; // Every partner in this cursor is ranked before after
+        }
+        // Partners within budget may have the same price as the proposer, partners above budget may not
+        boolean isBelow = isWithinBudget == isWithinBudgetBelow;
+        NavigableSet<Entry> entries = isBelow ? group.byDescendingValue : group.byAscendingValue;
+        Entry from = new Entry(value, isWithinBudget ? Long.MIN_VALUE : Long.MAX_VALUE, UNMATCHED);
+        if (after != null && after.score == score && (isWithinBudget || after.priceGap > 0)) {
+            from = new Entry(isBelow ? value - after.priceGap : value + after.priceGap, after.order, UNMATCHED);
+        }
+        Iterator<Entry> iterator = entries.tailSet(from, false).iterator();
+        if (iterator.hasNext()) {
+            cursors.add(new Cursor(score, value, iterator));
+        }
+    }
+
+    /**
+     * Returns true if the pair of the proposer at {@code slot} and the partner at {@code partnerSlot} is ranked
+     * better than the pair of the partner and the proposer at {@code currentSlot}.
+     */
+    private boolean isBetter(Side<?> proposers, int slot, Side<?> partners, int partnerSlot, int currentSlot) {
+        Pair pair = rankPartner(proposers, slot, partners, partnerSlot);
+        Pair currentPair = rankPartner(proposers, currentSlot, partners, partnerSlot);
+        if (pair.score != currentPair.score) {
+            return pair.score > currentPair.score;
+        }
+        if (pair.priceGap != currentPair.priceGap) {
+            return pair.priceGap < currentPair.priceGap;
+        }
+        return proposers.orders.get(slot) < proposers.orders.get(currentSlot);
+    }
+
+    /**
+     * Returns the rank of the pair of the proposer at {@code slot} and the partner at {@code partnerSlot},
+     * with the order of the partner.
+     */
+    private Pair rankPartner(Side<?> proposers, int slot, Side<?> partners, int partnerSlot) {
+        long value = proposers.values.get(slot);
+        long partnerValue = partners.values.get(partnerSlot);
+        boolean isWithinBudget = partners.isWithinBudgetBelow ? partnerValue <= value : partnerValue >= value;
+        int score = proposers.tags.get(slot).countCommon(partners.tags.get(partnerSlot))
+                + (isWithinBudget ? Match.WITHIN_BUDGET_BONUS : 0);
+        return new Pair(score, Math.abs(value - partnerValue), partners.orders.get(partnerSlot));
+    }
+
+    private void link(int buyerSlot, int propertySlot) {
+        buyers.partners.set(buyerSlot, propertySlot);
+        properties.partners.set(propertySlot, buyerSlot);
+        Match match = toMatch(buyerSlot, propertySlot);
+        if (!removedMatches.remove(match)) {
+            addedMatches.add(match);
+        }
+    }
+
+    private void unlink(int buyerSlot, int propertySlot) {
+        buyers.partners.set(buyerSlot, UNMATCHED);
+        properties.partners.set(propertySlot, UNMATCHED);
+        Match match = toMatch(buyerSlot, propertySlot);
+        if (!addedMatches.remove(match)) {
+            removedMatches.add(match);
+        }
+    }
+
+    private Match toMatch(int buyerSlot, int propertySlot) {
+        return new Match(properties.items.get(propertySlot), buyers.items.get(buyerSlot));
+    }
+
+    /**
+     * The matches removed and added by changes to the pools.
+     */
+    public static class MatchChanges {
+        private final List<Match> removed;
+        private final List<Match> added;
+
+        MatchChanges(List<Match> removed, List<Match> added) {
+            this.removed = removed;
+            this.added = added;
+        }
+
+        public List<Match> getRemoved() {
+            return removed;
+        }
+
+        public List<Match> getAdded() {
+            return added;
+        }
+    }
+
+    /**
+     * The rank of a pair as seen by its proposer: its match score, its price gap and the order of the partner.
+     */
+    private static class Pair {
+        private final int score;
+        private final long priceGap;
+        private final long order;
+
+        Pair(int score, long priceGap, long order) {
+            this.score = score;
+            this.priceGap = priceGap;
+            this.order = order;
+        }
+    }
+
+    /**
+     * A pool of buyers or properties. Each item has a slot, which is never reused after the item is removed.
+     * Items are kept in the order of the pool by order numbers, which leave room before the first item and
+     * after the last item.
+     */
+    private static class Side<T extends Listable & Pricable & Taggable> {
+        private final boolean isWithinBudgetBelow; // True if items priced below a partner are within its budget
+        private final List<T> items = new ArrayList<>();
+        private final List<Long> values = new ArrayList<>();
+        private final List<Long> orders = new ArrayList<>();
+        private final List<TagBitSet> tags = new ArrayList<>();
+        private final List<Integer> partners = new ArrayList<>();
+        private final List<Entry> entries = new ArrayList<>();
+        private final Map<Object, Integer> identityToSlot = new HashMap<>();
+        private final TreeMap<Long, Integer> orderToSlot = new TreeMap<>();
+        private final Map<TagBitSet, Group> groups = new HashMap<>();
+        private final TagDictionary tagDictionary;
+
+        Side(boolean isWithinBudgetBelow, TagDictionary tagDictionary) {
+            this.isWithinBudgetBelow = isWithinBudgetBelow;
+            this.tagDictionary = tagDictionary;
+        }
+
+        /**
+         * Adds {@code item} to the front of the pool if {@code isFront}, or to the back otherwise,
+         * and returns its slot.
+         */
+        int add(T item, boolean isFront) {
+            long order;
+            if (orderToSlot.isEmpty()) {
+                order = 0;
+            } else {
+                order = isFront ? orderToSlot.firstKey() - 1 : orderToSlot.lastKey() + 1;
+            }
+            return add(item, order);
+        }
+
+        /**
+         * Adds {@code item} to the pool with the order number {@code order}, which must not be taken,
+         * and returns its slot.
+         */
+        int add(T item, long order) {
+            int slot = items.size();
+            long value = item.getPrice().value;
+            Entry entry = new Entry(value, order, slot);
+            items.add(item);
+            values.add(value);
+            orders.add(order);
+            TagBitSet itemTags = tagDictionary.addTags(item.getTags());
+            tags.add(itemTags);
+            partners.add(UNMATCHED);
+            entries.add(entry);
+            identityToSlot.put(item.getListableIdentity(), slot);
+            orderToSlot.put(order, slot);
+            groups.computeIfAbsent(itemTags, Group::new).add(entry);
+            return slot;
+        }
+
+        /**
+         * Removes the item at {@code slot} from the pool. The item must not be matched.
+         * Its price, tags and order number are kept, so that its partner can resume proposing after it.
+         */
+        void remove(int slot) {
+            T item = items.get(slot);
+            identityToSlot.remove(item.getListableIdentity());
+            orderToSlot.remove(orders.get(slot));
+            Group group = groups.get(tags.get(slot));
+            group.remove(entries.get(slot));
+            if (group.isEmpty()) {
+                groups.remove(tags.get(slot));
+            }
+        }
+
+        long getOrder(T item) {
+            return orders.get(identityToSlot.get(item.getListableIdentity()));
+        }
+
+        boolean hasPool(List<T> pool) {
+            if (pool.size() != orderToSlot.size()) {
+                return false;
+            }
+            Iterator<Integer> slots = orderToSlot.values().iterator();
+            for (T item : pool) {
+                if (!item.equals(items.get(slots.next()))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Items of a pool sharing the same set of tags, sorted by price in both directions, then by order.
+     */
+    private static class Group {
+        private static final Comparator<Entry> ASCENDING_VALUE_ORDER =
+                Comparator.<Entry>comparingLong(entry -> entry.value).thenComparingLong(entry -> entry.order);
+        private static final Comparator<Entry> DESCENDING_VALUE_ORDER =
+                Comparator.<Entry>comparingLong(entry -> -entry.value).thenComparingLong(entry -> entry.order);
+
+        private final TagBitSet tags;
+        private final NavigableSet<Entry> byAscendingValue = new TreeSet<>(ASCENDING_VALUE_ORDER);
+        private final NavigableSet<Entry> byDescendingValue = new TreeSet<>(DESCENDING_VALUE_ORDER);
+
+        Group(TagBitSet tags) {
+            this.tags = tags;
+        }
+
+        boolean isEmpty() {
+            return byAscendingValue.isEmpty();
+        }
+
+        void add(Entry entry) {
+            byAscendingValue.add(entry);
+            byDescendingValue.add(entry);
+        }
+
+        void remove(Entry entry) {
+            byAscendingValue.remove(entry);
+            byDescendingValue.remove(entry);
+        }
+    }
+
+    /**
+     * The price and order number of the item at a slot.
+     */
+    private static class Entry {
+        private final long value;
+        private final long order;
+        private final int slot;
+
+        Entry(long value, long order, int slot) {
+            this.value = value;
+            this.order = order;
+            this.slot = slot;
+        }
+    }
+
+    /**
+     * Partners of a proposer in one direction of price from a group, which all have the same match score with
+     * the proposer, in order of preference.
+     */
+    private static class Cursor implements Comparable<Cursor> {
+        private final int score;
+        private final long value; // Price of the proposer
+        private final Iterator<Entry> iterator;
+        private Entry entry;
+
+        Cursor(int score, long value, Iterator<Entry> iterator) {
+            this.score = score;
+            this.value = value;
+            this.iterator = iterator;
+            this.entry = iterator.next();
+        }
+
+        /**
+         * Moves to the next partner, and returns false if there is none.
+         */
+        boolean advance() {
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            entry = iterator.next();
+            return true;
+        }
+
+        @Override
+        public int compareTo(Cursor other) {
+            if (score != other.score) {
+                return Integer.compare(other.score, score);
+            }
+            long priceGap = Math.abs(value - entry.value);
+            long otherPriceGap = Math.abs(other.value - other.entry.value);
+            if (priceGap != otherPriceGap) {
+                return Long.compare(priceGap, otherPriceGap);
+            }
+            return Long.compare(entry.order, other.entry.order);
+        }
+    }
+}
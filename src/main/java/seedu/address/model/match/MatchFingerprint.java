@@ -0,0 +1,68 @@
+package seedu.address.model.match;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+
+import seedu.address.model.property.Buyer;
+import seedu.address.model.property.Listable;
+import seedu.address.model.property.Pricable;
+import seedu.address.model.property.Property;
+import seedu.address.model.property.Taggable;
+
+/**
+ * Computes fingerprints of the properties and buyers that matches were found between, to tell whether saved matches
+ * are still the matches of the properties and buyers they are loaded with.
+ *
+ * A fingerprint covers everything {@link GreedyMatcher} depends on: the order of the properties and buyers, and
+ * their identities, prices and tags. Other fields, such as phone numbers, may change without changing it.
+ */
+public class MatchFingerprint {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final byte SEPARATOR = 0;
+
+    private MatchFingerprint() {}
+
+    /**
+     * Returns the fingerprint of {@code properties} and {@code buyers}, in their given order.
+     */
+    public static String of(List<Property> properties, List<Buyer> buyers) {
+        requireAllNonNull(properties, buyers);
+        MessageDigest digest = createDigest();
+        update(digest, String.valueOf(properties.size()));
+        properties.forEach(property -> update(digest, property));
+        update(digest, String.valueOf(buyers.size()));
+        buyers.forEach(buyer -> update(digest, buyer));
+
+        StringBuilder fingerprint = new StringBuilder();
+        for (byte b : digest.digest()) {
+            fingerprint.append(String.format("%02x", b));
+        }
+        return fingerprint.toString();
+    }
+
+    private static <T extends Listable & Pricable & Taggable> void update(MessageDigest digest, T item) {
+        update(digest, item.getListableIdentity().toString());
+        update(digest, String.valueOf(item.getPrice().value));
+        update(digest, String.valueOf(item.getTags().size()));
+        // Tags are sorted, as the order of a set of tags may differ between runs
+        item.getTags().stream().map(tag -> tag.tagName).sorted().forEach(tagName -> update(digest, tagName));
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(UTF_8));
+        digest.update(SEPARATOR);
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError("Every Java platform supports " + DIGEST_ALGORITHM, e);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package seedu.address.model.match;
+
+/**
+ * Represents whether the match list of an address book holds the matches of {@code match auto} between all of its
+ * properties and all of its buyers.
+ */
+public enum MatchState {
+    /** The match list holds other matches, such as those of some properties and buyers only, or none at all. */
+    NONE,
+    /** The match list holds the matches of all properties and buyers, kept up to date as they change. */
+    UP_TO_DATE,
+    /** The matches of all properties and buyers were kept, but they changed since, so they are matched again. */
+    OUTDATED
+}
@@ -0,0 +1,483 @@
+package seedu.address.model.match;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.property.Buyer;
+import seedu.address.model.property.Match;
+import seedu.address.model.property.Property;
+import seedu.address.model.tag.TagBitSet;
+import seedu.address.model.tag.TagDictionary;
+
+/**
+ * Pairs up buyers and properties so that the total match score of the pairs is as high as possible,
+ * then so that the total price gap of the pairs is as small as possible. Only pairs with a positive match score,
+ * which are those within budget or with tags in common, are paired up.
+ *
+ * This is an assignment problem, which is solved with the auction algorithm with epsilon-scaling.
+ * Each pair is weighted by its match score times a factor larger than any total price gap, less its price gap.
+ * Auction prices are whole numbers, so the total match score found is the highest possible, and the total price gap
+ * found is within one dollar per buyer and property of the least possible.
+ *
+ * Every pair within budget has a positive match score, so pairs are not materialized. Instead, properties are
+ * grouped by their set of tags as in {@link GreedyMatcher}, and each group keeps its properties sorted by price.
+ * The value of a property to a buyer is then its price less its auction price, plus a constant of the group, if it is
+ * within budget, or its negated price less its auction price, plus another constant, if it is above budget.
+ * The best properties of a group for a buyer are found by range queries over these values.
+ * Memory used is linear in the number of buyers and properties.
+ */
+public class OptimalMatcher {
+
+    /** Factor by which epsilon is reduced between auction phases. */
+    private static final long EPSILON_SCALING_FACTOR = 8;
+
+    private static final int UNASSIGNED = -1;
+
+    private final List<Property> properties;
+    private final List<Buyer> buyers;
+    private final int propertyCount;
+    private final int buyerCount;
+    private final TagDictionary tagDictionary = new TagDictionary();
+    private final List<TagGroup> tagGroups = new ArrayList<>();
+    private final TagGroup[] propertyToTagGroup;
+    private final int[] propertyToPosition; // Position of each property in its tag group
+    private final GroupOrder[] buyerToGroupOrder;
+    private final long scoreWeight; // Weight of a point of match score, more than any total price gap
+    private final long maxWeight;
+    private final long maxPrice;
+
+    // Objects bid for are the properties, then an object for each buyer that stands for the buyer not being paired.
+    // Persons bidding are the buyers, then a person for each property that stands for the property not being paired,
+    // who can bid for its property, or for any buyer's object that is not taken by the buyer.
+    private final long[] objectPrices;
+    private final int[] objectOwners;
+    private final int[] personObjects;
+    private final TopTwoTree unpairedBuyerValues; // Negated prices of the objects of the buyers not being paired
+
+    /**
+     * Creates a matcher between the given {@code properties} and {@code buyers}.
+     * Neither list may contain duplicates.
+     */
+    public OptimalMatcher(List<Property> properties, List<Buyer> buyers) {
+        requireAllNonNull(properties, buyers);
+        this.properties = properties;
+        this.buyers = buyers;
+        propertyCount = properties.size();
+        buyerCount = buyers.size();
+        propertyToTagGroup = new TagGroup[propertyCount];
+        propertyToPosition = new int[propertyCount];
+        groupProperties();
+        buyerToGroupOrder = new GroupOrder[buyerCount];
+        orderGroups();
+
+        long minPrice = Long.MAX_VALUE;
+        long maxPrice = 0;
+        int maxTagCount = 0;
+        for (Property property : properties) {
+            minPrice = Math.min(minPrice, property.getPrice().value);
+            maxPrice = Math.max(maxPrice, property.getPrice().value);
+        }
+        for (Buyer buyer : buyers) {
+            minPrice = Math.min(minPrice, buyer.getPrice().value);
+            maxPrice = Math.max(maxPrice, buyer.getPrice().value);
+            maxTagCount = Math.max(maxTagCount, buyer.getTags().size());
+        }
+        long maxTotalPriceGap = Math.multiplyExact(Math.max(0, maxPrice - minPrice),
+                Math.min(propertyCount, buyerCount));
+        this.maxPrice = maxPrice;
+        scoreWeight = maxTotalPriceGap + propertyCount + buyerCount + 1;
+        maxWeight = Math.multiplyExact(scoreWeight, maxTagCount + Match.WITHIN_BUDGET_BONUS);
+
+        objectPrices = new long[propertyCount + buyerCount];
+        objectOwners = new int[propertyCount + buyerCount];
+        personObjects = new int[buyerCount + propertyCount];
+        int[] unpairedBuyerObjects = new int[buyerCount];
+        for (int buyerIndex = 0; buyerIndex < buyerCount; buyerIndex++) {
+            unpairedBuyerObjects[buyerIndex] = propertyCount + buyerIndex;
+        }
+        unpairedBuyerValues = new TopTwoTree(unpairedBuyerObjects);
+    }
+
+    /**
+     * Returns the pairs of buyers and properties, in the order of the buyers.
+     */
+    public List<Match> getMatches() {
+        if (propertyCount == 0 || buyerCount == 0) {
+            return new ArrayList<>();
+        }
+
+        Arrays.fill(objectOwners, UNASSIGNED);
+        Arrays.fill(personObjects, UNASSIGNED);
+        runAuction();
+
+        List<Match> matches = new ArrayList<>();
+        for (int buyerIndex = 0; buyerIndex < buyerCount; buyerIndex++) {
+            int object = personObjects[buyerIndex];
+            if (object < propertyCount) {
+                matches.add(new Match(properties.get(object), buyers.get(buyerIndex)));
+            }
+        }
+        return matches;
+    }
+
+    private void groupProperties() {
+        Map<TagBitSet, List<Integer>> tagsToPropertyIndexes = new HashMap<>();
+        for (int propertyIndex = 0; propertyIndex < propertyCount; propertyIndex++) {
+            tagsToPropertyIndexes.computeIfAbsent(tagDictionary.addTags(properties.get(propertyIndex).getTags()),
+                    unused -> new ArrayList<>()).add(propertyIndex);
+        }
+        tagsToPropertyIndexes.forEach((tags, propertyIndexes) -> {
+            propertyIndexes.sort(Comparator.comparingLong(propertyIndex ->
+                    properties.get(propertyIndex).getPrice().value));
+            TagGroup tagGroup = new TagGroup(tags, propertyIndexes.stream().mapToInt(Integer::intValue).toArray(),
+                    propertyIndexes.stream().mapToLong(propertyIndex ->
+                            properties.get(propertyIndex).getPrice().value).toArray());
+            for (int position = 0; position < propertyIndexes.size(); position++) {
+                propertyToTagGroup[propertyIndexes.get(position)] = tagGroup;
+                propertyToPosition[propertyIndexes.get(position)] = position;
+            }
+            tagGroups.add(tagGroup);
+        });
+    }
+
+    /**
+     * Orders the tag groups for every buyer by decreasing number of common tags.
+     * Buyers with the same set of tags in common with any property share the same order.
+     */
+    private void orderGroups() {
+        Map<TagBitSet, GroupOrder> tagsToGroupOrder = new HashMap<>();
+        for (int buyerIndex = 0; buyerIndex < buyerCount; buyerIndex++) {
+            // Tags of buyers that no property has cannot be in common, so they are left out of the dictionary
+            buyerToGroupOrder[buyerIndex] = tagsToGroupOrder.computeIfAbsent(
+                    tagDictionary.getBitSet(buyers.get(buyerIndex).getTags()), GroupOrder::new);
+        }
+    }
+
+    /**
+     * Assigns every person an object by auction with epsilon-scaling, so that every person is assigned an object
+     * within 1 of the best value to them.
+     * Each phase starts from the prices and assignment of the previous phase, and only the persons whose objects
+     * are no longer within epsilon of the best value to them bid again.
+     */
+    private void runAuction() {
+        int personCount = buyerCount + propertyCount;
+        int[] unassignedPersons = new int[personCount];
+        Bid bid = new Bid();
+        for (long epsilon = Math.max(1, maxWeight / EPSILON_SCALING_FACTOR); ;
+                epsilon = Math.max(1, epsilon / EPSILON_SCALING_FACTOR)) {
+            int unassignedCount = 0;
+            for (int person = 0; person < personCount; person++) {
+                int object = personObjects[person];
+                if (object != UNASSIGNED) {
+                    findBid(person, bid);
+                    if (getValue(person, object) >= bid.value - epsilon) {
+                        continue;
+                    }
+                    objectOwners[object] = UNASSIGNED;
+                    personObjects[person] = UNASSIGNED;
+                }
+                unassignedPersons[unassignedCount++] = person;
+            }
+            bidUntilAssigned(unassignedPersons, unassignedCount, epsilon);
+            if (epsilon == 1) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Lets the first {@code unassignedCount} persons of {@code unassignedPersons} bid for objects with an increment
+     * of {@code epsilon} until every person is assigned an object.
+     */
+    private void bidUntilAssigned(int[] unassignedPersons, int unassignedCount, long epsilon) {
+        int personCount = unassignedPersons.length; // Unassigned persons are kept in a circular queue
+        int head = 0;
+        Bid bid = new Bid();
+        while (unassignedCount > 0) {
+            int person = unassignedPersons[head];
+            head = (head + 1) % personCount;
+            unassignedCount--;
+
+            findBid(person, bid);
+            int object = bid.object;
+            long increment = bid.hasSecondValue ? bid.value - bid.secondValue : maxWeight;
+            setPrice(object, objectPrices[object] + increment + epsilon);
+
+            int previousOwner = objectOwners[object];
+            objectOwners[object] = person;
+            personObjects[person] = object;
+            if (previousOwner != UNASSIGNED) {
+                personObjects[previousOwner] = UNASSIGNED;
+                unassignedPersons[(head + unassignedCount) % personCount] = previousOwner;
+                unassignedCount++;
+            }
+        }
+    }
+
+    private void setPrice(int object, long price) {
+        objectPrices[object] = price;
+        if (object < propertyCount) {
+            propertyToTagGroup[object].setAuctionPrice(propertyToPosition[object], price);
+        } else {
+            unpairedBuyerValues.set(object - propertyCount, -price);
+        }
+    }
+
+    /**
+     * Finds the best and second best values to {@code person} at the current prices.
+     */
+    private void findBid(int person, Bid bid) {
+        bid.reset();
+        if (person < buyerCount) {
+            findBuyerBid(person, bid);
+        } else {
+            findPropertyBid(person - buyerCount, bid);
+        }
+    }
+
+    /**
+     * Returns the value of {@code object} to {@code person} at the current prices.
+     */
+    private long getValue(int person, int object) {
+        long weight = 0;
+        if (person < buyerCount && object < propertyCount) {
+            Match match = new Match(properties.get(object), buyers.get(person));
+            weight = scoreWeight * match.getMatchScore() - match.getPriceGap();
+        }
+        return weight - objectPrices[object];
+    }
+
+    /**
+     * Finds the best and second best values to the buyer at {@code buyerIndex}, among the properties that have
+     * a positive match score with the buyer and its object for not being paired.
+     */
+    private void findBuyerBid(int buyerIndex, Bid bid) {
+        bid.offer(propertyCount + buyerIndex, -objectPrices[propertyCount + buyerIndex]);
+        long budget = buyers.get(buyerIndex).getPrice().value;
+        GroupOrder groupOrder = buyerToGroupOrder[buyerIndex];
+        for (int i = 0; i < groupOrder.tagGroups.length; i++) {
+            int numCommonTags = groupOrder.numCommonTags[i];
+            if (bid.hasSecondValue
+                    && scoreWeight * (numCommonTags + Match.WITHIN_BUDGET_BONUS) + maxPrice <= bid.secondValue) {
+                break; // No property in this or any later group can be among the best two
+            }
+            groupOrder.tagGroups[i].offerCandidates(bid, budget, scoreWeight * numCommonTags, numCommonTags > 0);
+        }
+    }
+
+    /**
+     * Finds the best and second best values to the person standing for the property at {@code propertyIndex}
+     * not being paired, among the property and the objects of the buyers standing for the buyers not being paired.
+     */
+    private void findPropertyBid(int propertyIndex, Bid bid) {
+        bid.offer(propertyIndex, -objectPrices[propertyIndex]);
+        unpairedBuyerValues.offer(0, buyerCount, 0, bid);
+    }
+
+    /**
+     * The best and second best values found for a bid, and the object of the best value.
+     */
+    private static class Bid {
+        private int object;
+        private long value;
+        private long secondValue;
+        private boolean hasValue;
+        private boolean hasSecondValue;
+
+        void reset() {
+            hasValue = false;
+            hasSecondValue = false;
+        }
+
+        /**
+         * Returns true if {@code offeredValue} would be one of the best two values found.
+         */
+        boolean isAmongBestTwo(long offeredValue) {
+            return !hasSecondValue || offeredValue > secondValue;
+        }
+
+        void offer(int offeredObject, long offeredValue) {
+            if (!hasValue || offeredValue > value) {
+                if (hasValue) {
+                    secondValue = value;
+                    hasSecondValue = true;
+                }
+                object = offeredObject;
+                value = offeredValue;
+                hasValue = true;
+            } else if (!hasSecondValue || offeredValue > secondValue) {
+                secondValue = offeredValue;
+                hasSecondValue = true;
+            }
+        }
+    }
+
+    /**
+     * Tag groups in decreasing number of common tags with a set of buyer tags.
+     */
+    private class GroupOrder {
+        private final TagGroup[] tagGroups;
+        private final int[] numCommonTags;
+
+        GroupOrder(TagBitSet buyerTags) {
+            tagGroups = OptimalMatcher.this.tagGroups.stream()
+                    .sorted(Comparator.comparingInt(tagGroup -> -buyerTags.countCommon(tagGroup.tags)))
+                    .toArray(TagGroup[]::new);
+            numCommonTags = Arrays.stream(tagGroups).mapToInt(tagGroup -> buyerTags.countCommon(tagGroup.tags))
+                    .toArray();
+        }
+    }
+
+    /**
+     * Properties sharing the same set of tags, sorted by price, with their values at the current auction prices.
+     */
+    private class TagGroup {
+        private final TagBitSet tags;
+        private final long[] prices;
+        private final TopTwoTree withinBudgetValues; // Price less auction price, for properties within a budget
+        private final TopTwoTree aboveBudgetValues; // Negated price less auction price, for properties above a budget
+
+        TagGroup(TagBitSet tags, int[] propertyIndexes, long[] prices) {
+            this.tags = tags;
+            this.prices = prices;
+            withinBudgetValues = new TopTwoTree(propertyIndexes);
+            aboveBudgetValues = new TopTwoTree(propertyIndexes);
+            for (int position = 0; position < prices.length; position++) {
+                setAuctionPrice(position, 0);
+            }
+        }
+
+        void setAuctionPrice(int position, long auctionPrice) {
+            withinBudgetValues.set(position, prices[position] - auctionPrice);
+            aboveBudgetValues.set(position, -prices[position] - auctionPrice);
+        }
+
+        /**
+         * Offers the best two properties within {@code budget}, and the best two above it if {@code canBeAbove},
+         * to {@code bid}, where {@code tagWeight} is the weight of the common tags.
+         */
+        void offerCandidates(Bid bid, long budget, long tagWeight, boolean canBeAbove) {
+            long withinBudgetBase = tagWeight + scoreWeight * Match.WITHIN_BUDGET_BONUS - budget;
+            long aboveBudgetBase = tagWeight + budget;
+            boolean canWithinBeBest = bid.isAmongBestTwo(withinBudgetBase + withinBudgetValues.getMax());
+            boolean canAboveBeBest = canBeAbove && bid.isAmongBestTwo(aboveBudgetBase + aboveBudgetValues.getMax());
+            if (!canWithinBeBest && !canAboveBeBest) {
+                return;
+            }
+            int withinBudgetCount = countWithinBudget(budget);
+            if (canWithinBeBest && withinBudgetCount > 0) {
+                withinBudgetValues.offer(0, withinBudgetCount, withinBudgetBase, bid);
+            }
+            if (canAboveBeBest && withinBudgetCount < prices.length) {
+                aboveBudgetValues.offer(withinBudgetCount, prices.length, aboveBudgetBase, bid);
+            }
+        }
+
+        /**
+         * Returns the number of properties with prices at most {@code budget}.
+         */
+        private int countWithinBudget(long budget) {
+            int low = 0;
+            int high = prices.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (prices[mid] <= budget) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * A tournament tree of values of objects that keeps the positions of the largest and second largest values
+     * of every subtree, so that the best two values in a range of positions can be offered to a bid.
+     */
+    private static class TopTwoTree {
+        private final int[] objects;
+        private final long[] values;
+        private final int leafCount;
+        private final int[] first;
+        private final int[] second; // UNASSIGNED if a subtree has a single leaf
+
+        TopTwoTree(int[] objects) {
+            this.objects = objects;
+            leafCount = objects.length;
+            values = new long[leafCount];
+            first = new int[2 * leafCount];
+            second = new int[2 * leafCount];
+            for (int i = 0; i < leafCount; i++) {
+                first[leafCount + i] = i;
+                second[leafCount + i] = UNASSIGNED;
+            }
+            for (int node = leafCount - 1; node > 0; node--) {
+                merge(node);
+            }
+        }
+
+        long getMax() {
+            return values[first[1]];
+        }
+
+        void set(int position, long value) {
+            values[position] = value;
+            for (int node = (leafCount + position) / 2; node > 0; node /= 2) {
+                merge(node);
+            }
+        }
+
+        /**
+         * Offers the objects with the best two values at positions from {@code from} to {@code to}, exclusive,
+         * with {@code base} added to their values, to {@code bid}.
+         */
+        void offer(int from, int to, long base, Bid bid) {
+            for (int left = from + leafCount, right = to + leafCount; left < right; left /= 2, right /= 2) {
+                if ((left & 1) == 1) {
+                    offerNode(left++, base, bid);
+                }
+                if ((right & 1) == 1) {
+                    offerNode(--right, base, bid);
+                }
+            }
+        }
+
+        private void offerNode(int node, long base, Bid bid) {
+            bid.offer(objects[first[node]], base + values[first[node]]);
+            if (second[node] != UNASSIGNED) {
+                bid.offer(objects[second[node]], base + values[second[node]]);
+            }
+        }
+
+        private void merge(int node) {
+            int left = 2 * node;
+            int right = 2 * node + 1;
+            int leftFirst = first[left];
+            int rightFirst = first[right];
+            if (values[leftFirst] >= values[rightFirst]) {
+                first[node] = leftFirst;
+                second[node] = better(second[left], rightFirst);
+            } else {
+                first[node] = rightFirst;
+                second[node] = better(leftFirst, second[right]);
+            }
+        }
+
+        private int better(int position, int otherPosition) {
+            if (position == UNASSIGNED) {
+                return otherPosition;
+            }
+            if (otherPosition == UNASSIGNED) {
+                return position;
+            }
+            return values[position] >= values[otherPosition] ? position : otherPosition;
+        }
+    }
+}
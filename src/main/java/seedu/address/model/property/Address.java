@@ -5,6 +5,8 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.StringUtil.compressWhitespace;
 import static seedu.address.commons.util.StringUtil.startCaseSentence;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Property's address in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -21,6 +23,7 @@ public class Address {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}\\-#,;][\\p{Alnum}\\-#,; ]{0," + (MAX_LENGTH - 1) + "}";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
@@ -30,16 +33,33 @@ public class Address {
      * @param address A valid address.
      */
     public Address(String address) {
+        this(toValue(address));
+    }
+
+    private Address(CharSequence value) {
+        this.value = value.toString();
+    }
+
+    private static CharSequence toValue(String address) {
         requireNonNull(address);
         checkArgument(isValidAddress(address), MESSAGE_CONSTRAINTS);
-        value = startCaseSentence(compressWhitespace(address));
+        return startCaseSentence(compressWhitespace(address));
+    }
+
+    /**
+     * Returns an {@code Address} with the given value, without validating or converting it.
+     * Only used for data written by this app, where {@code value} is the value of a valid {@code Address}.
+     */
+    public static Address ofTrusted(String value) {
+        requireNonNull(value);
+        return new Address((CharSequence) value);
     }
 
     /**
      * Returns true if a given string is a valid email.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -78,6 +78,14 @@ public class Buyer extends Person implements Pricable, Listable, Taggable {
         return isSameBuyer((Buyer) item);
     }
 
+    /**
+     * Returns the name of this buyer, which identifies it as a Listable.
+     */
+    @Override
+    public Object getListableIdentity() {
+        return getName();
+    }
+
     /**
      * Returns true if both buyers have the same identity, data fields, and
      * maximum price. This defines a stronger notion of equality between
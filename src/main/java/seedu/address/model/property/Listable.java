@@ -7,4 +7,10 @@ public interface Listable {
      */
     boolean isSameListable(Listable item);
 
+    /**
+     * Returns the identity key of this item, used by UniqueList to index its elements.
+     * Two items must have equal keys if and only if {@code isSameListable} holds between them.
+     */
+    Object getListableIdentity();
+
 }
@@ -1,6 +1,6 @@
 package seedu.address.model.property;
 
-import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
@@ -38,9 +38,17 @@ public class Match implements Listable {
      * Returns number of tags that a buyer and property have in common.
      */
     public static int getNumCommonTags(Buyer buyer, Property property) {
-        Set<Tag> intersection = new HashSet<>(buyer.getTags());
-        intersection.retainAll(property.getTags());
-        return intersection.size();
+        Set<Tag> buyerTags = buyer.getTags();
+        Set<Tag> propertyTags = property.getTags();
+        Set<Tag> smaller = buyerTags.size() <= propertyTags.size() ? buyerTags : propertyTags;
+        Set<Tag> larger = smaller == buyerTags ? propertyTags : buyerTags;
+        int numCommonTags = 0;
+        for (Tag tag : smaller) {
+            if (larger.contains(tag)) {
+                numCommonTags++;
+            }
+        }
+        return numCommonTags;
     }
 
 
@@ -83,6 +91,14 @@ public class Match implements Listable {
         return isSameMatch((Match) item);
     }
 
+    /**
+     * Returns the pair of property and buyer identities, which identifies this match as a Listable.
+     */
+    @Override
+    public Object getListableIdentity() {
+        return List.of(property.getListableIdentity(), buyer.getListableIdentity());
+    }
+
     /**
      * Returns true if both matches have the same name.
      * This defines a weaker notion of equality between two matches.
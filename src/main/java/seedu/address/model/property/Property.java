@@ -70,6 +70,14 @@ public class Property implements Listable, Taggable, Nameable, Pricable {
         return isSameProperty((Property) item);
     }
 
+    /**
+     * Returns the address of this property, which identifies it as a Listable.
+     */
+    @Override
+    public Object getListableIdentity() {
+        return address;
+    }
+
     /**
      * Returns true if both properties have the same name.
      * This defines a weaker notion of equality between two properties.
@@ -53,9 +53,9 @@ public class UniqueBuyerList extends UniqueList<Buyer> {
     }
 
     @Override
-    public void remove(Buyer toRemove) {
+    public int remove(Buyer toRemove) {
         try {
-            super.remove(toRemove);
+            return super.remove(toRemove);
         } catch (ListableNotFoundException e) {
             throw new BuyerNotFoundException();
         }
@@ -77,9 +77,9 @@ public class UniqueBuyerList extends UniqueList<Buyer> {
         }
     }
 
-    public void setBuyer(Buyer target, Buyer editedBuyer) {
+    public int setBuyer(Buyer target, Buyer editedBuyer) {
         try {
-            super.setListable(target, editedBuyer);
+            return super.setListable(target, editedBuyer);
         } catch (DuplicateListableException e) {
             throw new DuplicateBuyerException();
         } catch (ListableNotFoundException e) {
@@ -91,6 +91,13 @@ public class UniqueBuyerList extends UniqueList<Buyer> {
      * Sorts the list by the given {@code sortType} and {@code sortDirection}.
      */
     public void sort(SortType sortType, SortDirection sortDirection) {
+        super.sortListables(getComparator(sortType, sortDirection));
+    }
+
+    /**
+     * Returns the comparator that orders buyers by the given {@code sortType} and {@code sortDirection}.
+     */
+    public static Comparator<Buyer> getComparator(SortType sortType, SortDirection sortDirection) {
         Comparator<Buyer> comparator = null;
 
         switch (sortType) {
@@ -107,6 +114,6 @@ public class UniqueBuyerList extends UniqueList<Buyer> {
         if (sortDirection == SortDirection.DESC) {
             comparator = comparator.reversed();
         }
-        super.sortListables(comparator);
+        return comparator;
     }
 }
@@ -3,11 +3,15 @@ package seedu.address.model.property;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -22,6 +26,10 @@ import seedu.address.model.property.exceptions.ListableNotFoundException;
  * UniqueListableList. However, the removal of an element uses Listable#equals(Object) so
  * as to ensure that the element with exactly the same fields will be removed.
  *
+ * The identities ({@code Listable#getListableIdentity()}) of all elements are kept in a hash index,
+ * so that identity lookups do not need to scan the list. The index of each identity in the list is also kept once it
+ * is needed, until elements are moved in the list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Listable#isSameListable(Listable)
@@ -31,13 +39,16 @@ public class UniqueList<Item extends Listable> implements Iterable<Item> {
     private final ObservableList<Item> internalList = FXCollections.observableArrayList();
     private final ObservableList<Item> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Set<Object> identities = new HashSet<>();
+    private final Map<Object, Integer> identityIndexes = new HashMap<>();
+    private boolean areIdentityIndexesOutdated = true;
 
     /**
      * Returns true if the list contains an equivalent property as the given argument.
      */
     public boolean contains(Item toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameListable);
+        return identities.contains(toCheck.getListableIdentity());
     }
 
     /**
@@ -49,7 +60,10 @@ public class UniqueList<Item extends Listable> implements Iterable<Item> {
         if (contains(toAdd)) {
             throw new DuplicateListableException();
         }
+        identities.add(toAdd.getListableIdentity());
         internalList.add(toAdd);
+        // Appending moves no other element
+        identityIndexes.put(toAdd.getListableIdentity(), internalList.size() - 1);
     }
 
     /**
@@ -61,7 +75,23 @@ public class UniqueList<Item extends Listable> implements Iterable<Item> {
         if (contains(toAdd)) {
             throw new DuplicateListableException();
         }
+        identities.add(toAdd.getListableIdentity());
         internalList.add(0, toAdd);
+        areIdentityIndexesOutdated = true;
+    }
+
+    /**
+     * Adds an element to the list at {@code index}.
+     * The element must not already exist in the list.
+     */
+    public void add(int index, Item toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateListableException();
+        }
+        identities.add(toAdd.getListableIdentity());
+        internalList.add(index, toAdd);
+        areIdentityIndexesOutdated = true;
     }
 
     /**
@@ -77,15 +107,19 @@ public class UniqueList<Item extends Listable> implements Iterable<Item> {
                 throw new DuplicateListableException();
             }
         }
+        for (Item item: toAdd) {
+            identities.add(item.getListableIdentity());
+        }
         internalList.addAll(0, toAdd);
+        areIdentityIndexesOutdated = true;
     }
 
     /**
-     * Replaces the element {@code target} in the list with {@code editedListable}.
+     * Replaces the element {@code target} in the list with {@code editedListable}, and returns its index.
      * {@code target} must exist in the list.
      * The element identity of {@code editedListable} must not be the same as another existing element in the list.
      */
-    public void setListable(Item target, Item editedListable) {
+    public int setListable(Item target, Item editedListable) {
         requireAllNonNull(target, editedListable);
 
         int index = internalList.indexOf(target);
@@ -97,23 +131,94 @@ public class UniqueList<Item extends Listable> implements Iterable<Item> {
             throw new DuplicateListableException();
         }
 
+        identities.remove(target.getListableIdentity());
+        identities.add(editedListable.getListableIdentity());
         internalList.set(index, editedListable);
+        identityIndexes.remove(target.getListableIdentity());
+        identityIndexes.put(editedListable.getListableIdentity(), index);
+        return index;
     }
 
     /**
-     * Removes the equivalent element from the list.
+     * Removes the equivalent element from the list, and returns the index it was at.
      * The element must exist in the list.
      */
-    public void remove(Item toRemove) {
+    public int remove(Item toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new ListableNotFoundException();
         }
+        internalList.remove(index);
+        identities.remove(toRemove.getListableIdentity());
+        areIdentityIndexesOutdated = true;
+        return index;
+    }
+
+    /**
+     * Replaces each element of {@code targets} in the list with the element at the same index of
+     * {@code editedListables}, and returns the indexes they were at, in the same order.
+     * The list is gone over once for all of them, instead of once for each.
+     * Every element of {@code targets} must exist in the list.
+     * The element identities of {@code editedListables} must not be the same as other existing elements in the list.
+     */
+    public int[] setListables(List<Item> targets, List<Item> editedListables) {
+        requireAllNonNull(targets, editedListables);
+        assert targets.size() == editedListables.size();
+        Map<Item, Integer> targetOrders = new HashMap<>();
+        for (int i = 0; i < targets.size(); i++) {
+            Item target = targets.get(i);
+            Item editedListable = editedListables.get(i);
+            requireAllNonNull(target, editedListable);
+            if (!target.isSameListable(editedListable) && contains(editedListable)) {
+                throw new DuplicateListableException();
+            }
+            targetOrders.put(target, i);
+        }
+
+        int[] indexes = findIndexes(targetOrders);
+        for (Item target : targets) {
+            identities.remove(target.getListableIdentity());
+            identityIndexes.remove(target.getListableIdentity());
+        }
+        for (int i = 0; i < targets.size(); i++) {
+            identities.add(editedListables.get(i).getListableIdentity());
+            identityIndexes.put(editedListables.get(i).getListableIdentity(), indexes[i]);
+            internalList.set(indexes[i], editedListables.get(i));
+        }
+        return indexes;
+    }
+
+    /**
+     * Removes the equivalent elements of {@code toRemove} from the list, and returns the indexes they were at,
+     * in the same order.
+     * The list is gone over once for all of them, instead of once for each.
+     * Every element of {@code toRemove} must exist in the list, and must be different from the others.
+     */
+    public int[] removeAll(List<Item> toRemove) {
+        requireNonNull(toRemove);
+        Map<Item, Integer> removeOrders = new HashMap<>();
+        for (int i = 0; i < toRemove.size(); i++) {
+            if (removeOrders.put(requireNonNull(toRemove.get(i)), i) != null) {
+                throw new DuplicateListableException();
+            }
+        }
+
+        int[] indexes = findIndexes(removeOrders);
+        internalList.removeAll(removeOrders.keySet());
+        for (Item item : toRemove) {
+            identities.remove(item.getListableIdentity());
+        }
+        areIdentityIndexesOutdated = true;
+        return indexes;
     }
 
     public void setListables(UniqueList<Item> replacement) {
         requireNonNull(replacement);
+        identities.clear();
+        identities.addAll(replacement.identities);
         internalList.setAll(replacement.internalList);
+        areIdentityIndexesOutdated = true;
     }
 
     /**
@@ -121,12 +226,19 @@ public class UniqueList<Item extends Listable> implements Iterable<Item> {
      * {@code listables} must not contain duplicate elements.
      */
     public void setListables(List<Item> listables) {
-        requireAllNonNull(listables);
-        if (!listablesAreUnique(listables)) {
-            throw new DuplicateListableException();
+        requireNonNull(listables);
+        Set<Object> newIdentities = new HashSet<>();
+        for (Item item : listables) {
+            requireNonNull(item);
+            if (!newIdentities.add(item.getListableIdentity())) {
+                throw new DuplicateListableException();
+            }
         }
 
+        identities.clear();
+        identities.addAll(newIdentities);
         internalList.setAll(listables);
+        areIdentityIndexesOutdated = true;
     }
 
     /**
@@ -134,14 +246,54 @@ public class UniqueList<Item extends Listable> implements Iterable<Item> {
      */
     public void sortListables(Comparator<Item> comparator) {
         internalList.sort(comparator);
+        areIdentityIndexesOutdated = true;
     }
 
     /**
      * Filters the contents of this list with the given {@code pred}.
      */
     public void filter(Predicate<Item> pred) {
-        List<Item> newList = internalList.stream().filter(pred).collect(Collectors.toList());
-        internalList.retainAll(newList);
+        Set<Item> removed = new HashSet<>();
+        for (Item item : internalList) {
+            if (!pred.test(item)) {
+                removed.add(item);
+            }
+        }
+        // Removing them all at once goes over the list once, instead of once for each
+        internalList.removeAll(removed);
+        for (Item item : removed) {
+            identities.remove(item.getListableIdentity());
+        }
+        areIdentityIndexesOutdated = true;
+    }
+
+    /**
+     * Returns the indexes in the list of the elements with the identities {@code listableIdentities},
+     * in the order they are iterated over.
+     * The indexes of all identities are found again only if elements were moved since they were last found.
+     *
+     * @throws ListableNotFoundException if any of the identities is not in the list.
+     */
+    public int[] indexesOf(Collection<?> listableIdentities) {
+        requireNonNull(listableIdentities);
+        if (areIdentityIndexesOutdated) {
+            identityIndexes.clear();
+            for (int i = 0; i < internalList.size(); i++) {
+                identityIndexes.put(internalList.get(i).getListableIdentity(), i);
+            }
+            areIdentityIndexesOutdated = false;
+        }
+
+        int[] indexes = new int[listableIdentities.size()];
+        int count = 0;
+        for (Object identity : listableIdentities) {
+            Integer index = identityIndexes.get(identity);
+            if (index == null) {
+                throw new ListableNotFoundException();
+            }
+            indexes[count++] = index;
+        }
+        return indexes;
     }
 
     /**
@@ -168,15 +320,35 @@ public class UniqueList<Item extends Listable> implements Iterable<Item> {
         return internalList.hashCode();
     }
 
+    /**
+     * Returns the indexes of the keys of {@code orders} in the list, each at the index given by its value.
+     *
+     * @throws ListableNotFoundException if any of the keys is not in the list.
+     */
+    private int[] findIndexes(Map<Item, Integer> orders) {
+        int[] indexes = new int[orders.size()];
+        int foundCount = 0;
+        for (int i = 0; i < internalList.size() && foundCount < indexes.length; i++) {
+            Integer order = orders.get(internalList.get(i));
+            if (order != null) {
+                indexes[order] = i;
+                foundCount++;
+            }
+        }
+        if (foundCount < indexes.length) {
+            throw new ListableNotFoundException();
+        }
+        return indexes;
+    }
+
     /**
      * Returns true if {@code listables} contains only unique elements.
      */
     private boolean listablesAreUnique(List<Item> listables) {
-        for (int i = 0; i < listables.size() - 1; i++) {
-            for (int j = i + 1; j < listables.size(); j++) {
-                if (listables.get(i).isSameListable(listables.get(j))) {
-                    return false;
-                }
+        Set<Object> seenIdentities = new HashSet<>();
+        for (Item item : listables) {
+            if (!seenIdentities.add(item.getListableIdentity())) {
+                return false;
             }
         }
         return true;
@@ -16,9 +16,18 @@ public class UniqueMatchList extends UniqueList<Match> {
     }
 
     @Override
-    public void remove(Match toRemove) {
+    public void add(int index, Match toAdd) {
         try {
-            super.remove(toRemove);
+            super.add(index, toAdd);
+        } catch (DuplicateListableException e) {
+            throw new DuplicateMatchException();
+        }
+    }
+
+    @Override
+    public int remove(Match toRemove) {
+        try {
+            return super.remove(toRemove);
         } catch (ListableNotFoundException e) {
             throw new MatchNotFoundException();
         }
@@ -53,9 +53,18 @@ public class UniquePropertyList extends UniqueList<Property> {
     }
 
     @Override
-    public void remove(Property toRemove) {
+    public int remove(Property toRemove) {
         try {
-            super.remove(toRemove);
+            return super.remove(toRemove);
+        } catch (ListableNotFoundException e) {
+            throw new PropertyNotFoundException();
+        }
+    }
+
+    @Override
+    public int[] removeAll(List<Property> toRemove) {
+        try {
+            return super.removeAll(toRemove);
         } catch (ListableNotFoundException e) {
             throw new PropertyNotFoundException();
         }
@@ -77,9 +86,19 @@ public class UniquePropertyList extends UniqueList<Property> {
         }
     }
 
-    public void setProperty(Property target, Property editedProperty) {
+    public int setProperty(Property target, Property editedProperty) {
         try {
-            super.setListable(target, editedProperty);
+            return super.setListable(target, editedProperty);
+        } catch (DuplicateListableException e) {
+            throw new DuplicatePropertyException();
+        } catch (ListableNotFoundException e) {
+            throw new PropertyNotFoundException();
+        }
+    }
+
+    public int[] setProperties(List<Property> targets, List<Property> editedProperties) {
+        try {
+            return super.setListables(targets, editedProperties);
         } catch (DuplicateListableException e) {
             throw new DuplicatePropertyException();
         } catch (ListableNotFoundException e) {
@@ -91,6 +110,13 @@ public class UniquePropertyList extends UniqueList<Property> {
      * Sorts the list by the given {@code sortType} and {@code sortDirection}.
      */
     public void sort(SortType sortType, SortDirection sortDirection) {
+        super.sortListables(getComparator(sortType, sortDirection));
+    }
+
+    /**
+     * Returns the comparator that orders properties by the given {@code sortType} and {@code sortDirection}.
+     */
+    public static Comparator<Property> getComparator(SortType sortType, SortDirection sortDirection) {
         Comparator<Property> comparator = null;
 
         switch (sortType) {
@@ -107,6 +133,6 @@ public class UniquePropertyList extends UniqueList<Property> {
         if (sortDirection == SortDirection.DESC) {
             comparator = comparator.reversed();
         }
-        super.sortListables(comparator);
+        return comparator;
     }
 }
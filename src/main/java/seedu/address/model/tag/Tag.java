@@ -3,6 +3,8 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 import seedu.address.commons.util.StringUtil;
 
 /**
@@ -15,6 +17,7 @@ public class Tag {
             + "hyphens, and spaces and it should not be blank.\n"
             + "Tags should also be at most " + MAX_LENGTH + " characters long.";
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum}\\- ]{0," + (MAX_LENGTH - 1) + "}";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String tagName;
 
@@ -24,16 +27,33 @@ public class Tag {
      * @param tagName A valid tag name.
      */
     public Tag(String tagName) {
+        this(toTagName(tagName));
+    }
+
+    private Tag(CharSequence tagName) {
+        this.tagName = tagName.toString();
+    }
+
+    private static CharSequence toTagName(String tagName) {
         requireNonNull(tagName);
         checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
-        this.tagName = StringUtil.compressWhitespace(tagName.toLowerCase());
+        return StringUtil.compressWhitespace(tagName.toLowerCase());
+    }
+
+    /**
+     * Returns a {@code Tag} with the given tag name, without validating or converting it.
+     * Only used for data written by this app, where {@code tagName} is the tag name of a valid {@code Tag}.
+     */
+    public static Tag ofTrusted(String tagName) {
+        requireNonNull(tagName);
+        return new Tag((CharSequence) tagName);
     }
 
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -0,0 +1,74 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+/**
+ * A compact, immutable set of tags, storing the {@link TagDictionary} id of each tag as a bit.
+ * Bitsets can only be compared with bitsets from the same dictionary.
+ */
+public class TagBitSet {
+
+    private static final int BITS_PER_WORD = Long.SIZE;
+
+    private final long[] words;
+
+    private TagBitSet(long[] words) {
+        this.words = words;
+    }
+
+    /**
+     * Returns the bitset of the given tag {@code ids}, which must not be negative.
+     */
+    static TagBitSet of(int... ids) {
+        requireNonNull(ids);
+        int maxId = -1;
+        for (int id : ids) {
+            assert id >= 0;
+            maxId = Math.max(maxId, id);
+        }
+        long[] words = new long[maxId / BITS_PER_WORD + 1];
+        for (int id : ids) {
+            words[id / BITS_PER_WORD] |= 1L << (id % BITS_PER_WORD);
+        }
+        return new TagBitSet(words);
+    }
+
+    /**
+     * Returns the number of tags in both this set and {@code other}.
+     */
+    public int countCommon(TagBitSet other) {
+        int numWords = Math.min(words.length, other.words.length);
+        int count = 0;
+        for (int i = 0; i < numWords; i++) {
+            count += Long.bitCount(words[i] & other.words[i]);
+        }
+        return count;
+    }
+
+    /**
+     * Returns true if every tag in {@code other} is also in this set.
+     */
+    public boolean containsAll(TagBitSet other) {
+        for (int i = 0; i < other.words.length; i++) {
+            long word = i < words.length ? words[i] : 0;
+            if ((other.words[i] & ~word) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TagBitSet // instanceof handles nulls
+                && Arrays.equals(words, ((TagBitSet) other).words)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Interns tags to dense integer ids, so that sets of tags can be stored as bitsets.
+ * A tag is given the next free id the first time it is added, and keeps that id afterwards.
+ *
+ * Each dictionary is owned by what compares the tags, such as an address book for its properties and buyers, or a
+ * matcher for its pools, so ids are only as many as the tags it has seen. Tags are only looked up, never added,
+ * where a tag not seen yet cannot match anything.
+ */
+public class TagDictionary {
+
+    /** Id returned for a tag that is not in the dictionary. */
+    public static final int NO_ID = -1;
+
+    private final Map<Tag, Integer> tagToId = new HashMap<>();
+
+    /**
+     * Returns the id of {@code tag}, assigning a new id if the tag has not been added before.
+     */
+    public int addTag(Tag tag) {
+        requireNonNull(tag);
+        return tagToId.computeIfAbsent(tag, unused -> tagToId.size());
+    }
+
+    /**
+     * Returns the id of {@code tag}, or {@code NO_ID} if the tag has not been added, without adding it.
+     */
+    public int getId(Tag tag) {
+        requireNonNull(tag);
+        return tagToId.getOrDefault(tag, NO_ID);
+    }
+
+    /**
+     * Returns the bitset of {@code tags}, adding the tags that have not been added before.
+     */
+    public TagBitSet addTags(Collection<Tag> tags) {
+        requireNonNull(tags);
+        return TagBitSet.of(tags.stream().mapToInt(this::addTag).toArray());
+    }
+
+    /**
+     * Returns the bitset of the tags in {@code tags} that have been added, without adding any of them.
+     */
+    public TagBitSet getBitSet(Collection<Tag> tags) {
+        requireNonNull(tags);
+        return TagBitSet.of(tags.stream().mapToInt(this::getId).filter(id -> id != NO_ID).toArray());
+    }
+
+    /**
+     * Removes all tags, so that ids are assigned from 0 again.
+     * Bitsets from before are no longer valid.
+     */
+    public void clear() {
+        tagToId.clear();
+    }
+
+    /**
+     * Returns the number of ids assigned so far.
+     */
+    public int size() {
+        return tagToId.size();
+    }
+}
@@ -0,0 +1,121 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.property.Listable;
+import seedu.address.model.property.exceptions.DuplicateListableException;
+
+/**
+ * The changes that turn a list of listables into an updated list of them, where listables with the same identity
+ * ({@code Listable#getListableIdentity()}) are the same listable, edited if any of their fields differ.
+ *
+ * The current listables are looked up by their identities in a hash map, so finding the changes takes one pass over
+ * each list. Applying them to a list then takes one more pass over it, however many listables changed.
+ */
+public class ListableDiff<T extends Listable> {
+
+    private final List<T> added;
+    private final List<T> editTargets;
+    private final List<T> edited;
+    private final List<T> removed;
+    private final int unchangedCount;
+
+    private ListableDiff(List<T> added, List<T> editTargets, List<T> edited, List<T> removed, int unchangedCount) {
+        this.added = added;
+        this.editTargets = editTargets;
+        this.edited = edited;
+        this.removed = removed;
+        this.unchangedCount = unchangedCount;
+    }
+
+    /**
+     * Returns the changes that turn {@code current} into {@code updated}.
+     * The added, edited and removed listables are each in the order of the list they are from.
+     *
+     * @throws DuplicateListableException if either list contains listables with the same identity.
+     */
+    public static <T extends Listable> ListableDiff<T> of(List<T> current, List<T> updated) {
+        requireAllNonNull(current, updated);
+        Map<Object, T> identityToCurrent = new LinkedHashMap<>();
+        for (T listable : current) {
+            if (identityToCurrent.put(listable.getListableIdentity(), listable) != null) {
+                throw new DuplicateListableException();
+            }
+        }
+
+        List<T> added = new ArrayList<>();
+        List<T> editTargets = new ArrayList<>();
+        List<T> edited = new ArrayList<>();
+        int unchangedCount = 0;
+        Set<Object> updatedIdentities = new HashSet<>();
+        for (T listable : updated) {
+            Object identity = listable.getListableIdentity();
+            if (!updatedIdentities.add(identity)) {
+                throw new DuplicateListableException();
+            }
+            T target = identityToCurrent.remove(identity);
+            if (target == null) {
+                added.add(listable);
+            } else if (!target.equals(listable)) {
+                editTargets.add(target);
+                edited.add(listable);
+            } else {
+                unchangedCount++;
+            }
+        }
+        // The current listables left are those not in the updated list
+        List<T> removed = new ArrayList<>(identityToCurrent.values());
+        return new ListableDiff<>(added, editTargets, edited, removed, unchangedCount);
+    }
+
+    /**
+     * Returns the listables that are only in the updated list.
+     */
+    public List<T> getAdded() {
+        return Collections.unmodifiableList(added);
+    }
+
+    /**
+     * Returns the current listables that are edited, at the same indexes as their edited listables
+     * in {@link #getEdited()}.
+     */
+    public List<T> getEditTargets() {
+        return Collections.unmodifiableList(editTargets);
+    }
+
+    /**
+     * Returns the updated listables that differ from the current listables of the same identity.
+     */
+    public List<T> getEdited() {
+        return Collections.unmodifiableList(edited);
+    }
+
+    /**
+     * Returns the listables that are only in the current list.
+     */
+    public List<T> getRemoved() {
+        return Collections.unmodifiableList(removed);
+    }
+
+    /**
+     * Returns the number of listables that are the same in both lists.
+     */
+    public int getUnchangedCount() {
+        return unchangedCount;
+    }
+
+    /**
+     * Returns true if there are no changes.
+     */
+    public boolean isEmpty() {
+        return added.isEmpty() && edited.isEmpty() && removed.isEmpty();
+    }
+}
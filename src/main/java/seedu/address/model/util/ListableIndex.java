@@ -0,0 +1,195 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.field.ContainsPricePredicate;
+import seedu.address.model.field.ContainsTagsPredicate;
+import seedu.address.model.field.NameContainsKeywordsPredicate;
+import seedu.address.model.field.Price;
+import seedu.address.model.field.SortDirection;
+import seedu.address.model.field.SortType;
+import seedu.address.model.property.Listable;
+import seedu.address.model.property.Nameable;
+import seedu.address.model.property.Pricable;
+import seedu.address.model.property.Taggable;
+import seedu.address.model.tag.TagBitSet;
+import seedu.address.model.tag.TagDictionary;
+import seedu.address.model.util.QueryPlan.Criterion;
+import seedu.address.model.util.QueryPlan.Estimate;
+
+/**
+ * The name, tag and price indexes of a list of items, the orders of the items by name and by price, and the tag
+ * bitset of each item, kept up to date together as items are added and removed.
+ */
+public class ListableIndex<T extends Listable & Nameable & Taggable & Pricable> {
+
+    private final NameIndex<T> nameIndex = new NameIndex<>();
+    private final TagIndex<T> tagIndex = new TagIndex<>();
+    private final PriceIndex<T> priceIndex = new PriceIndex<>();
+    private final OrderedIndex<T, String> nameOrder = new OrderedIndex<>(item -> item.getName().getCollationKey());
+    private final TagDictionary tagDictionary;
+    private final Map<Object, TagBitSet> tagBitSets = new HashMap<>();
+
+    /**
+     * Creates an index with its own tag dictionary.
+     */
+    public ListableIndex() {
+        this(new TagDictionary());
+    }
+
+    /**
+     * Creates an index whose tag bitsets use the ids of {@code tagDictionary}, which may be shared with other indexes
+     * so that their bitsets can be compared.
+     */
+    public ListableIndex(TagDictionary tagDictionary) {
+        this.tagDictionary = requireNonNull(tagDictionary);
+    }
+
+    /**
+     * Indexes {@code item}.
+     */
+    public void add(T item) {
+        nameIndex.add(item);
+        tagIndex.add(item);
+        priceIndex.add(item);
+        nameOrder.add(item);
+        tagBitSets.put(item.getListableIdentity(), tagDictionary.addTags(item.getTags()));
+    }
+
+    /**
+     * Removes {@code item}, which must have been indexed, from the index.
+     */
+    public void remove(T item) {
+        nameIndex.remove(item);
+        tagIndex.remove(item);
+        priceIndex.remove(item);
+        nameOrder.remove(item);
+        tagBitSets.remove(item.getListableIdentity());
+    }
+
+    /**
+     * Replaces the contents of the index with {@code items}.
+     */
+    public void setAll(Iterable<T> items) {
+        nameIndex.setAll(items);
+        tagIndex.setAll(items);
+        priceIndex.setAll(items);
+        nameOrder.setAll(items);
+        setTagBitSets(items);
+    }
+
+    /**
+     * Makes the tag bitsets of {@code items}, the indexed items, again, such as after the tag dictionary was cleared.
+     */
+    public void setTagBitSets(Iterable<T> items) {
+        tagBitSets.clear();
+        for (T item : items) {
+            tagBitSets.put(item.getListableIdentity(), tagDictionary.addTags(item.getTags()));
+        }
+    }
+
+    /**
+     * Returns the tag bitset of {@code item}, which was made when it was indexed,
+     * or null if no item with its identity is indexed.
+     */
+    public TagBitSet getTagBitSet(T item) {
+        requireNonNull(item);
+        return tagBitSets.get(item.getListableIdentity());
+    }
+
+    /**
+     * Returns the identities of all items in the order of {@code sortType} and {@code sortDirection},
+     * grouped by the items that are equal in that order.
+     */
+    public Collection<Set<Object>> getOrder(SortType sortType, SortDirection sortDirection) {
+        requireNonNull(sortType);
+        switch (sortType) {
+        case NAME:
+            return nameOrder.getOrder(sortDirection);
+        case PRICE:
+            return priceIndex.getOrder(sortDirection);
+        default:
+            assert false;
+            return List.of();
+        }
+    }
+
+    /**
+     * Plans a query for the listed items that match {@code namePredicate}, {@code tagsPredicate} and
+     * {@code pricePredicate}, where {@code listedCount} items are listed.
+     * The number of items matching each criterion given is estimated from its index, and the query is driven from
+     * the index of the criterion with the lowest estimate, checking the other criteria only on the candidates found.
+     * If no criterion is estimated to match at most half of the listed items, the listed items are scanned instead,
+     * as looking up the candidates would cost about as much as checking every listed item.
+     */
+    public QueryPlan<T> plan(NameContainsKeywordsPredicate<T> namePredicate, ContainsTagsPredicate<T> tagsPredicate,
+                             ContainsPricePredicate<T> pricePredicate, int listedCount) {
+        requireNonNull(namePredicate);
+        requireNonNull(tagsPredicate);
+        requireNonNull(pricePredicate);
+
+        int selectiveLimit = listedCount / 2;
+        List<Estimate> estimates = new ArrayList<>();
+        Map<Criterion, Predicate<T>> predicates = new EnumMap<>(Criterion.class);
+        if (!namePredicate.getKeywords().isEmpty()) {
+            estimates.add(new Estimate(Criterion.NAME, nameIndex.estimate(namePredicate.getKeywords()), false));
+            predicates.put(Criterion.NAME, namePredicate);
+        }
+        if (!tagsPredicate.getTags().isEmpty()) {
+            estimates.add(new Estimate(Criterion.TAGS, tagIndex.estimateAll(tagsPredicate.getTags()), false));
+            predicates.put(Criterion.TAGS, tagsPredicate);
+        }
+        Price minPrice = pricePredicate.getMinPrice().orElse(null);
+        Price maxPrice = pricePredicate.getMaxPrice().orElse(null);
+        if (minPrice != null || maxPrice != null) {
+            // Counting a price range takes time, so it is only counted as far as needed to beat the other criteria
+            int limit = estimates.stream().mapToInt(Estimate::getCount).reduce(selectiveLimit, Math::min);
+            int count = priceIndex.countInRange(minPrice, maxPrice, limit);
+            estimates.add(new Estimate(Criterion.PRICE, count, count > limit));
+            predicates.put(Criterion.PRICE, pricePredicate);
+        }
+
+        Optional<Estimate> driving = estimates.stream()
+                .filter(estimate -> estimate.getCount() <= selectiveLimit)
+                .min(Comparator.comparingInt(Estimate::getCount));
+        if (driving.isEmpty()) {
+            Predicate<T> check = predicates.values().stream().reduce(item -> true, Predicate::and);
+            return new QueryPlan<>(estimates, listedCount, check);
+        }
+
+        Criterion drivingCriterion = driving.get().getCriterion();
+        Set<Object> candidates = findCandidates(drivingCriterion, namePredicate, tagsPredicate, minPrice, maxPrice);
+        Predicate<T> check = predicates.entrySet().stream()
+                .filter(entry -> entry.getKey() != drivingCriterion)
+                .map(Map.Entry::getValue)
+                .reduce(item -> true, Predicate::and);
+        Predicate<T> filter = item -> candidates.contains(item.getListableIdentity()) && check.test(item);
+        return new QueryPlan<>(estimates, drivingCriterion, candidates, check, filter);
+    }
+
+    private Set<Object> findCandidates(Criterion criterion, NameContainsKeywordsPredicate<T> namePredicate,
+                                       ContainsTagsPredicate<T> tagsPredicate, Price minPrice, Price maxPrice) {
+        switch (criterion) {
+        case NAME:
+            return nameIndex.find(namePredicate.getKeywords());
+        case TAGS:
+            return tagIndex.findAll(tagsPredicate.getTags());
+        case PRICE:
+            return priceIndex.findInRange(minPrice, maxPrice);
+        default:
+            assert false;
+            return Set.of();
+        }
+    }
+}
@@ -0,0 +1,419 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.model.property.Listable;
+import seedu.address.model.property.exceptions.ListableNotFoundException;
+
+/**
+ * A filtered and sorted view of a source list, kept as an array of positions into the source list
+ * instead of as a copy of its elements.
+ * Filtering compacts the positions, sorting permutes them, and showing all of the source list resets them,
+ * so none of these copy the source list. Only the elements that were shown are copied, for the listeners of the view.
+ * The shown elements can also be ranked, so that only the best ranked of them are shown a page at a time.
+ *
+ * The view is not notified of changes to the source list, so whoever changes the source list must tell the view
+ * about the change with {@link #sourceAdded}, {@link #sourceRemoved}, {@link #sourceSet} or {@link #sourceReplaced}.
+ */
+public class ListableView<T extends Listable> extends ObservableListBase<T> {
+
+    private final List<T> source;
+    private final ObservableList<T> unmodifiableView = FXCollections.unmodifiableObservableList(this);
+    private int[] positions = new int[0];
+    private int size = 0;
+    private RankedPages rankedPages; // Ranked elements not shown yet, if the shown elements were ranked
+    private int pageSize;
+
+    /**
+     * Creates a view of {@code source}, showing all of it.
+     */
+    public ListableView(List<T> source) {
+        this.source = requireNonNull(source);
+        showAll();
+    }
+
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return source.get(positions[index]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Shows all of the source list, in the order of the source list.
+     */
+    public void showAll() {
+        int[] allPositions = new int[source.size()];
+        Arrays.setAll(allPositions, i -> i);
+        replacePositions(allPositions, allPositions.length);
+    }
+
+    /**
+     * Shows all of the source list after all of it was replaced, in the order of the source list.
+     * {@code oldShown} must be the elements that were shown, copied before the source list was replaced, as they
+     * can no longer be read from it.
+     */
+    public void sourceReplaced(List<T> oldShown) {
+        requireNonNull(oldShown);
+        int[] allPositions = new int[source.size()];
+        Arrays.setAll(allPositions, i -> i);
+        replacePositions(allPositions, allPositions.length, oldShown);
+    }
+
+    /**
+     * Shows {@code items}, in the given order. Every item must be in the source list.
+     */
+    public void show(Collection<? extends T> items) {
+        requireNonNull(items);
+        Map<Object, Integer> sourcePositions = new HashMap<>();
+        for (int i = 0; i < source.size(); i++) {
+            sourcePositions.put(source.get(i).getListableIdentity(), i);
+        }
+
+        int[] itemPositions = new int[items.size()];
+        int count = 0;
+        for (T item : items) {
+            Integer position = sourcePositions.get(item.getListableIdentity());
+            if (position == null) {
+                throw new ListableNotFoundException();
+            }
+            itemPositions[count++] = position;
+        }
+        replacePositions(itemPositions, count);
+    }
+
+    /**
+     * Keeps only the shown elements that satisfy {@code predicate}, in the same order.
+     */
+    public void filter(Predicate<? super T> predicate) {
+        requireNonNull(predicate);
+        int[] keptPositions = new int[size];
+        int keptCount = 0;
+        for (int i = 0; i < size; i++) {
+            if (predicate.test(source.get(positions[i]))) {
+                keptPositions[keptCount++] = positions[i];
+            }
+        }
+        replacePositions(keptPositions, keptCount);
+    }
+
+    /**
+     * Keeps only the shown elements at {@code candidatePositions} of the source list that satisfy {@code predicate},
+     * in the same order.
+     * The shown positions are intersected with the candidates first, so only the candidates that are shown are read
+     * from the source list and tested.
+     */
+    public void filter(int[] candidatePositions, Predicate<? super T> predicate) {
+        requireNonNull(candidatePositions);
+        requireNonNull(predicate);
+        BitSet isCandidate = new BitSet(source.size());
+        for (int position : candidatePositions) {
+            isCandidate.set(position);
+        }
+
+        int[] keptPositions = new int[Math.min(size, candidatePositions.length)];
+        int keptCount = 0;
+        for (int i = 0; i < size; i++) {
+            if (isCandidate.get(positions[i]) && predicate.test(source.get(positions[i]))) {
+                keptPositions[keptCount++] = positions[i];
+            }
+        }
+        replacePositions(keptPositions, keptCount);
+    }
+
+    /**
+     * Sorts the shown elements with {@code comparator}, without changing the source list.
+     * Each shown element is read from the source list once for the sort.
+     */
+    @Override
+    public void sort(Comparator<? super T> comparator) {
+        requireNonNull(comparator);
+        List<Positioned<T>> shown = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            shown.add(new Positioned<>(source.get(positions[i]), i));
+        }
+        shown.sort((first, second) -> comparator.compare(first.item, second.item));
+
+        int[] newOrder = new int[size];
+        for (int i = 0; i < size; i++) {
+            newOrder[i] = shown.get(i).index;
+        }
+        reorder(newOrder);
+    }
+
+    /**
+     * Sorts the shown elements with {@code comparator}, given {@code order}, the identities of all elements of the
+     * source list grouped and ordered as by {@code comparator}, such as an order kept by an {@link OrderedIndex}.
+     * The result is the same as {@link #sort(Comparator)}, including the order of equal elements. If sorting the
+     * shown elements would take more comparisons than there are elements in the source list, the shown elements
+     * are picked from {@code order} instead of being compared.
+     */
+    public void sort(Comparator<? super T> comparator, Collection<? extends Collection<Object>> order) {
+        requireNonNull(order);
+        int comparisonCount = size * (Integer.SIZE - Integer.numberOfLeadingZeros(size));
+        if (comparisonCount < source.size()) {
+            sort(comparator);
+            return;
+        }
+
+        Map<Object, Integer> shownIndexes = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            shownIndexes.put(source.get(positions[i]).getListableIdentity(), i);
+        }
+
+        int[] newOrder = new int[size];
+        int count = 0;
+        for (Collection<Object> equalIdentities : order) {
+            int equalFrom = count;
+            for (Object identity : equalIdentities) {
+                Integer index = shownIndexes.get(identity);
+                if (index != null) {
+                    newOrder[count++] = index;
+                }
+            }
+            // Equal elements stay in the order they were shown, as in a stable sort
+            if (count - equalFrom > 1) {
+                Arrays.sort(newOrder, equalFrom, count);
+            }
+            if (count == size) {
+                break;
+            }
+        }
+        assert count == size : "Order does not contain all shown elements";
+        reorder(newOrder);
+    }
+
+    /**
+     * Ranks the shown elements by {@code scorer} and then by {@code tieBreaker}, both higher first, and then by
+     * the order they were shown in, and shows only the first {@code pageSize} of them.
+     * The rest are shown a page at a time by {@link #showMore()}, until the view is filtered, sorted or replaced.
+     * Each element is scored once, and only the pages that are shown are ever sorted.
+     */
+    public void rank(ToIntFunction<? super T> scorer, ToLongFunction<? super T> tieBreaker, int pageSize) {
+        requireNonNull(scorer);
+        requireNonNull(tieBreaker);
+        assert pageSize > 0;
+        int[] scores = new int[size];
+        long[] tieBreakers = new long[size];
+        for (int i = 0; i < size; i++) {
+            T item = source.get(positions[i]);
+            scores[i] = scorer.applyAsInt(item);
+            tieBreakers[i] = tieBreaker.applyAsLong(item);
+        }
+
+        RankedPages newRankedPages = new RankedPages(Arrays.copyOf(positions, size), scores, tieBreakers);
+        int[] firstPage = newRankedPages.next(pageSize);
+        replacePositions(firstPage, firstPage.length);
+        this.rankedPages = newRankedPages;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Returns true if the shown elements were ranked and there are ranked elements which are not shown yet.
+     */
+    public boolean hasMore() {
+        return rankedPages != null && rankedPages.hasNext();
+    }
+
+    /**
+     * Shows the next page of ranked elements after the shown elements, and returns the number of elements added.
+     * Nothing is shown if the shown elements were not ranked.
+     */
+    public int showMore() {
+        if (!hasMore()) {
+            return 0;
+        }
+        int[] page = rankedPages.next(pageSize);
+        int[] newPositions = Arrays.copyOf(positions, size + page.length);
+        System.arraycopy(page, 0, newPositions, size, page.length);
+        positions = newPositions;
+        size += page.length;
+
+        beginChange();
+        nextAdd(size - page.length, size);
+        endChange();
+        return page.length;
+    }
+
+    /**
+     * Updates the view after the elements from {@code from} (inclusive) to {@code to} (exclusive)
+     * were added to the source list. The elements are shown first if they were added to the front of the
+     * source list, and last otherwise.
+     */
+    public void sourceAdded(int from, int to) {
+        int addedCount = to - from;
+        for (int i = 0; i < size; i++) {
+            if (positions[i] >= from) {
+                positions[i] += addedCount;
+            }
+        }
+
+        int viewFrom = from == 0 ? 0 : size;
+        int[] newPositions = new int[size + addedCount];
+        System.arraycopy(positions, 0, newPositions, 0, viewFrom);
+        for (int i = 0; i < addedCount; i++) {
+            newPositions[viewFrom + i] = from + i;
+        }
+        System.arraycopy(positions, viewFrom, newPositions, viewFrom + addedCount, size - viewFrom);
+        positions = newPositions;
+        size += addedCount;
+        if (rankedPages != null) {
+            rankedPages.sourceAdded(from, addedCount);
+        }
+
+        beginChange();
+        nextAdd(viewFrom, viewFrom + addedCount);
+        endChange();
+    }
+
+    /**
+     * Updates the view after {@code removed} was removed from {@code index} of the source list.
+     */
+    public void sourceRemoved(int index, T removed) {
+        sourceRemoved(new int[] {index}, List.of(removed));
+    }
+
+    /**
+     * Updates the view after the elements of {@code removed} were removed from {@code indexes} of the source list,
+     * in the same order.
+     */
+    public void sourceRemoved(int[] indexes, List<T> removed) {
+        requireNonNull(removed);
+        assert indexes.length == removed.size();
+        Map<Integer, T> removedAt = new HashMap<>();
+        for (int i = 0; i < indexes.length; i++) {
+            removedAt.put(indexes[i], removed.get(i));
+        }
+        int[] sortedIndexes = indexes.clone();
+        Arrays.sort(sortedIndexes);
+        if (rankedPages != null) {
+            rankedPages.sourceRemoved(sortedIndexes);
+        }
+
+        beginChange();
+        int keptCount = 0;
+        for (int i = 0; i < size; i++) {
+            T removedItem = removedAt.get(positions[i]);
+            if (removedItem != null) {
+                nextRemove(keptCount, removedItem);
+            } else {
+                // The position moves back by the number of elements removed before it
+                int removedBeforeCount = -Arrays.binarySearch(sortedIndexes, positions[i]) - 1;
+                positions[keptCount++] = positions[i] - removedBeforeCount;
+            }
+        }
+        size = keptCount;
+        endChange();
+    }
+
+    /**
+     * Updates the view after the element {@code old} at {@code index} of the source list was replaced.
+     */
+    public void sourceSet(int index, T old) {
+        sourceSet(new int[] {index}, List.of(old));
+    }
+
+    /**
+     * Updates the view after the elements of {@code old} at {@code indexes} of the source list, in the same order,
+     * were replaced.
+     */
+    public void sourceSet(int[] indexes, List<T> old) {
+        requireNonNull(old);
+        assert indexes.length == old.size();
+        Map<Integer, T> replaced = new HashMap<>();
+        for (int i = 0; i < indexes.length; i++) {
+            replaced.put(indexes[i], old.get(i));
+        }
+
+        beginChange();
+        for (int i = 0; i < size; i++) {
+            T oldItem = replaced.get(positions[i]);
+            if (oldItem != null) {
+                nextSet(i, oldItem);
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Returns the view as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<T> asUnmodifiableObservableList() {
+        return unmodifiableView;
+    }
+
+    /**
+     * Shows the shown elements in a new order, where the {@code i}th element shown is the one that was shown
+     * at {@code newOrder[i]}.
+     */
+    private void reorder(int[] newOrder) {
+        int[] sortedPositions = new int[size];
+        int[] permutation = new int[size];
+        for (int i = 0; i < size; i++) {
+            sortedPositions[i] = positions[newOrder[i]];
+            permutation[newOrder[i]] = i;
+        }
+        positions = sortedPositions;
+        rankedPages = null;
+
+        beginChange();
+        nextPermutation(0, size, permutation);
+        endChange();
+    }
+
+    /**
+     * Shows the first {@code count} of {@code newPositions} instead of the shown elements, which must not have
+     * changed in the source list.
+     */
+    private void replacePositions(int[] newPositions, int count) {
+        // Listeners are given a copy of the replaced elements, so it is made before the view changes
+        replacePositions(newPositions, count, new ArrayList<>(this));
+    }
+
+    /**
+     * Shows the first {@code count} of {@code newPositions} instead of {@code replaced}, the shown elements.
+     */
+    private void replacePositions(int[] newPositions, int count, List<T> replaced) {
+        positions = newPositions;
+        size = count;
+        rankedPages = null;
+
+        beginChange();
+        nextReplace(0, size, replaced);
+        endChange();
+    }
+
+    /**
+     * A shown element and its index in the view, which are sorted together.
+     */
+    private static class Positioned<T> {
+        private final T item;
+        private final int index;
+
+        Positioned(T item, int index) {
+            this.item = item;
+            this.index = index;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import seedu.address.model.property.Listable;
+import seedu.address.model.property.Nameable;
+
+/**
+ * An inverted index from the words of the names of items to the listable identities of the items,
+ * so that items whose names contain a word can be found without going through every item.
+ * Words are matched case-insensitively, in the same way as {@link String#equalsIgnoreCase(String)}.
+ */
+public class NameIndex<T extends Listable & Nameable> {
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("\\s+");
+
+    private final Map<String, Set<Object>> postings = new HashMap<>();
+
+    /**
+     * Indexes the name of {@code item}.
+     */
+    public void add(T item) {
+        requireNonNull(item);
+        Object identity = item.getListableIdentity();
+        for (String word : WORD_SEPARATOR.split(item.getName().fullName)) {
+            postings.computeIfAbsent(fold(word), unused -> new HashSet<>()).add(identity);
+        }
+    }
+
+    /**
+     * Removes the name of {@code item}, which must have been indexed, from the index.
+     */
+    public void remove(T item) {
+        requireNonNull(item);
+        Object identity = item.getListableIdentity();
+        for (String word : WORD_SEPARATOR.split(item.getName().fullName)) {
+            String key = fold(word);
+            Set<Object> identities = postings.get(key);
+            if (identities != null) {
+                identities.remove(identity);
+                if (identities.isEmpty()) {
+                    postings.remove(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with the names of {@code items}.
+     */
+    public void setAll(Iterable<T> items) {
+        requireNonNull(items);
+        postings.clear();
+        for (T item : items) {
+            add(item);
+        }
+    }
+
+    /**
+     * Returns the identities of the items whose names contain any of the {@code words}.
+     * The time taken depends on the number of items found, not on the number of items indexed.
+     */
+    public Set<Object> find(Collection<String> words) {
+        requireNonNull(words);
+        Set<Object> found = new HashSet<>();
+        for (String word : words) {
+            found.addAll(postings.getOrDefault(fold(word.trim()), Set.of()));
+        }
+        return found;
+    }
+
+    /**
+     * Returns an upper bound of the number of items whose names contain any of the {@code words},
+     * taken from the sizes of the postings without finding the items.
+     */
+    public int estimate(Collection<String> words) {
+        requireNonNull(words);
+        int estimate = 0;
+        for (String word : words) {
+            estimate += postings.getOrDefault(fold(word.trim()), Set.of()).size();
+        }
+        return estimate;
+    }
+
+    /**
+     * Returns {@code word} with every character folded to a single case, such that two words are
+     * equal ignoring case if and only if their folded forms are equal.
+     */
+    private static String fold(String word) {
+        StringBuilder folded = new StringBuilder(word.length());
+        for (int i = 0; i < word.length(); i++) {
+            folded.append(Character.toLowerCase(Character.toUpperCase(word.charAt(i))));
+        }
+        return folded.toString();
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import seedu.address.model.field.SortDirection;
+import seedu.address.model.property.Listable;
+
+/**
+ * A sorted index from a key of each item to the listable identities of the items with that key,
+ * which keeps the items in the order of their keys as they are added and removed.
+ * The index is a balanced tree, so each item is added or removed in logarithmic time without rebuilding the index.
+ */
+public class OrderedIndex<T extends Listable, K extends Comparable<K>> {
+
+    protected final NavigableMap<K, Set<Object>> postings = new TreeMap<>();
+    private final Function<T, K> keyExtractor;
+
+    /**
+     * Creates an index of the keys extracted from items by {@code keyExtractor}.
+     */
+    public OrderedIndex(Function<T, K> keyExtractor) {
+        this.keyExtractor = requireNonNull(keyExtractor);
+    }
+
+    /**
+     * Indexes the key of {@code item}.
+     */
+    public void add(T item) {
+        requireNonNull(item);
+        postings.merge(keyExtractor.apply(item), Set.of(item.getListableIdentity()), OrderedIndex::union);
+    }
+
+    /**
+     * Removes the key of {@code item}, which must have been indexed, from the index.
+     */
+    public void remove(T item) {
+        requireNonNull(item);
+        K key = keyExtractor.apply(item);
+        Set<Object> identities = postings.get(key);
+        if (identities == null) {
+            return;
+        }
+        if (identities.size() > 1) {
+            identities.remove(item.getListableIdentity());
+        } else if (identities.contains(item.getListableIdentity())) {
+            postings.remove(key);
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with the keys of {@code items}.
+     */
+    public void setAll(Iterable<T> items) {
+        requireNonNull(items);
+        postings.clear();
+        for (T item : items) {
+            add(item);
+        }
+    }
+
+    /**
+     * Returns the identities of all indexed items in the order of their keys in {@code sortDirection},
+     * grouped by key. This is a view of the index, so it takes no time to build.
+     */
+    public Collection<Set<Object>> getOrder(SortDirection sortDirection) {
+        requireNonNull(sortDirection);
+        return sortDirection == SortDirection.DESC ? postings.descendingMap().values() : postings.values();
+    }
+
+    /**
+     * Returns the identities of {@code identities} and {@code added} together.
+     * Most keys belong to a single item, so a posting is kept as a compact immutable set
+     * until a second item with its key is added.
+     */
+    private static Set<Object> union(Set<Object> identities, Set<Object> added) {
+        Set<Object> union = identities instanceof HashSet ? identities : new HashSet<>(identities);
+        union.addAll(added);
+        return union;
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.address.model.util;
+
+import java.util.HashSet;
+import java.util.NavigableMap;
+import java.util.Set;
+
+import seedu.address.model.field.Price;
+import seedu.address.model.property.Listable;
+import seedu.address.model.property.Pricable;
+
+/**
+ * A sorted index from the prices of items to their listable identities, so that items with prices in a range
+ * can be found by a range scan instead of going through every item.
+ */
+public class PriceIndex<T extends Listable & Pricable> extends OrderedIndex<T, Long> {
+
+    public PriceIndex() {
+        super(item -> item.getPrice().value);
+    }
+
+    /**
+     * Returns the identities of the items with prices from {@code minPrice} to {@code maxPrice} inclusive.
+     * Either bound may be {@code null}, in which case the range is unbounded on that side.
+     */
+    public Set<Object> findInRange(Price minPrice, Price maxPrice) {
+        Set<Object> found = new HashSet<>();
+        for (Set<Object> identities : getRange(minPrice, maxPrice).values()) {
+            found.addAll(identities);
+        }
+        return found;
+    }
+
+    /**
+     * Returns the number of items with prices from {@code minPrice} to {@code maxPrice} inclusive, where either
+     * bound may be {@code null}. Counting stops as soon as the count exceeds {@code limit}, so the count returned is
+     * only exact if it is at most {@code limit}, and the time taken is bounded by {@code limit}.
+     */
+    public int countInRange(Price minPrice, Price maxPrice, int limit) {
+        int count = 0;
+        for (Set<Object> identities : getRange(minPrice, maxPrice).values()) {
+            count += identities.size();
+            if (count > limit) {
+                break;
+            }
+        }
+        return count;
+    }
+
+    private NavigableMap<Long, Set<Object>> getRange(Price minPrice, Price maxPrice) {
+        NavigableMap<Long, Set<Object>> range = postings;
+        if (minPrice != null) {
+            range = range.tailMap(minPrice.value, true);
+        }
+        if (maxPrice != null) {
+            range = range.headMap(maxPrice.value, true);
+        }
+        return range;
+    }
+}
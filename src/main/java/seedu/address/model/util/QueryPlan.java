@@ -0,0 +1,158 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * The way a find query over the listed items is answered, as chosen by {@link ListableIndex#plan}.
+ * The query is either driven from the index of its most selective criterion, with the other criteria checked only
+ * on the candidates found, or answered by scanning the listed items and checking every criterion.
+ * The candidates are kept as identities, so that they can be looked up by position in the source list.
+ */
+public class QueryPlan<T> {
+
+    /**
+     * A criterion of a find query.
+     */
+    public enum Criterion {
+        NAME, TAGS, PRICE;
+
+        @Override
+        public String toString() {
+            return name().toLowerCase();
+        }
+    }
+
+    /**
+     * The estimated number of items matching a criterion, taken from its index.
+     */
+    public static class Estimate {
+        private final Criterion criterion;
+        private final int count;
+        private final boolean isLowerBound;
+
+        /**
+         * Creates an estimate of {@code count} items for {@code criterion}. If {@code isLowerBound} is true,
+         * counting was stopped early and more than {@code count} items may match.
+         */
+        public Estimate(Criterion criterion, int count, boolean isLowerBound) {
+            this.criterion = requireNonNull(criterion);
+            this.count = count;
+            this.isLowerBound = isLowerBound;
+        }
+
+        public Criterion getCriterion() {
+            return criterion;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        @Override
+        public String toString() {
+            return criterion + " " + (isLowerBound ? "at least " : "") + count;
+        }
+    }
+
+    private final List<Estimate> estimates;
+    private final Criterion drivingCriterion;
+    private final int candidateCount;
+    private final Set<Object> candidates;
+    private final Predicate<T> check;
+    private final Predicate<T> filter;
+
+    /**
+     * Creates a plan that scans the {@code listedCount} listed items, checking each of them with {@code check}.
+     */
+    QueryPlan(List<Estimate> estimates, int listedCount, Predicate<T> check) {
+        this.estimates = List.copyOf(estimates);
+        this.drivingCriterion = null;
+        this.candidateCount = listedCount;
+        this.candidates = null;
+        this.check = requireNonNull(check);
+        this.filter = check;
+    }
+
+    /**
+     * Creates a plan that is driven from {@code drivingCriterion}, whose index found the items with the identities
+     * {@code candidates}, which are checked with {@code check}.
+     * {@code filter} must be the same as looking up each item in {@code candidates} and checking it with {@code check}.
+     */
+    QueryPlan(List<Estimate> estimates, Criterion drivingCriterion, Set<Object> candidates, Predicate<T> check,
+              Predicate<T> filter) {
+        this.estimates = List.copyOf(estimates);
+        this.drivingCriterion = requireNonNull(drivingCriterion);
+        this.candidateCount = candidates.size();
+        this.candidates = candidates;
+        this.check = requireNonNull(check);
+        this.filter = requireNonNull(filter);
+    }
+
+    public List<Estimate> getEstimates() {
+        return estimates;
+    }
+
+    /**
+     * Returns the criterion whose index drives the query, or an empty {@code Optional} if the listed items are
+     * scanned instead.
+     */
+    public Optional<Criterion> getDrivingCriterion() {
+        return Optional.ofNullable(drivingCriterion);
+    }
+
+    /**
+     * Returns the number of candidates found from the index of the driving criterion,
+     * or the number of listed items if they are scanned.
+     */
+    public int getCandidateCount() {
+        return candidateCount;
+    }
+
+    /**
+     * Returns the identities of the candidates found from the index of the driving criterion,
+     * or an empty {@code Optional} if the listed items are scanned.
+     */
+    public Optional<Set<Object>> getCandidates() {
+        return Optional.ofNullable(candidates);
+    }
+
+    /**
+     * Returns the predicate that the candidates, or the listed items if they are scanned, are checked with.
+     */
+    public Predicate<T> getCheck() {
+        return check;
+    }
+
+    /**
+     * Returns the predicate that the listed items are filtered by to answer the query.
+     * If the query is driven from an index, each item tested is looked up in the candidates, so the listed items
+     * are better filtered by the positions of the candidates in the source list where those are known.
+     */
+    public Predicate<T> getFilter() {
+        return filter;
+    }
+
+    @Override
+    public String toString() {
+        List<String> checkedCriteria = estimates.stream()
+                .map(Estimate::getCriterion)
+                .filter(criterion -> criterion != drivingCriterion)
+                .map(Criterion::toString)
+                .collect(Collectors.toList());
+        String checks = checkedCriteria.isEmpty() ? "" : ", checking " + String.join(", ", checkedCriteria);
+        String estimateSummary = estimates.isEmpty() ? ""
+                : estimates.stream().map(Estimate::toString).collect(Collectors.joining(", ", " (estimates: ", ")"));
+
+        if (drivingCriterion == null) {
+            return String.format("scan %d listed items%s%s", candidateCount, checks, estimateSummary);
+        }
+        return String.format("look up %s index for %d candidates%s%s",
+                drivingCriterion, candidateCount, checks, estimateSummary);
+    }
+}
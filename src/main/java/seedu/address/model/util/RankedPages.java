@@ -0,0 +1,126 @@
+package seedu.address.model.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Positions of candidates in a source list, ranked by a score and then a tie-breaker, both higher first,
+ * and then by their order when ranked. The score and tie-breaker of each candidate are computed once beforehand.
+ *
+ * Candidates are taken a page at a time in rank order. Each page is selected from the candidates ranked after the
+ * previous page with a heap bounded by the page size, so only the candidates that are taken are ever sorted.
+ */
+class RankedPages {
+
+    private static final int REMOVED = -1;
+
+    private final int[] positions;
+    private final int[] scores;
+    private final long[] tieBreakers;
+    private final Comparator<Integer> rankOrder = this::compareRanks;
+    private int lastTaken = -1; // Candidate taken last, which every candidate taken so far ranks before or as
+    private int remainingCount;
+
+    /**
+     * Creates the pages of the candidates at {@code positions}, with the {@code scores} and {@code tieBreakers}
+     * at the same indexes. The arrays are not copied.
+     */
+    RankedPages(int[] positions, int[] scores, long[] tieBreakers) {
+        assert positions.length == scores.length && positions.length == tieBreakers.length;
+        this.positions = positions;
+        this.scores = scores;
+        this.tieBreakers = tieBreakers;
+        remainingCount = positions.length;
+    }
+
+    /**
+     * Returns true if there are candidates which have not been taken.
+     */
+    boolean hasNext() {
+        return remainingCount > 0;
+    }
+
+    /**
+     * Takes the next {@code pageSize} candidates, or all the remaining ones if there are fewer,
+     * and returns their positions in rank order.
+     */
+    int[] next(int pageSize) {
+        assert pageSize > 0;
+        // The worst ranked of the best candidates found so far is at the head, to be dropped for a better one
+        PriorityQueue<Integer> best = new PriorityQueue<>(Math.min(pageSize, remainingCount) + 1,
+                rankOrder.reversed());
+        for (int i = 0; i < positions.length; i++) {
+            if (positions[i] == REMOVED || (lastTaken != -1 && compareRanks(i, lastTaken) <= 0)) {
+                continue;
+            }
+            if (best.size() < pageSize) {
+                best.add(i);
+            } else if (compareRanks(i, best.peek()) < 0) {
+                best.poll();
+                best.add(i);
+            }
+        }
+
+        List<Integer> page = new ArrayList<>(best);
+        page.sort(rankOrder);
+        int[] pagePositions = new int[page.size()];
+        for (int i = 0; i < pagePositions.length; i++) {
+            pagePositions[i] = positions[page.get(i)];
+        }
+        if (!page.isEmpty()) {
+            lastTaken = page.get(page.size() - 1);
+        }
+        remainingCount -= pagePositions.length;
+        return pagePositions;
+    }
+
+    /**
+     * Updates the positions of the candidates after {@code count} elements were added at {@code from}
+     * of the source list. The added elements are not candidates.
+     */
+    void sourceAdded(int from, int count) {
+        for (int i = 0; i < positions.length; i++) {
+            if (positions[i] >= from) {
+                positions[i] += count;
+            }
+        }
+    }
+
+    /**
+     * Updates the positions of the candidates after the elements at {@code removedPositions} of the source list,
+     * in increasing order, were removed. A candidate that was removed can no longer be taken.
+     */
+    void sourceRemoved(int[] removedPositions) {
+        for (int i = 0; i < positions.length; i++) {
+            if (positions[i] == REMOVED) {
+                continue;
+            }
+            int removedIndex = Arrays.binarySearch(removedPositions, positions[i]);
+            if (removedIndex >= 0) {
+                if (lastTaken == -1 || compareRanks(i, lastTaken) > 0) {
+                    remainingCount--;
+                }
+                // Removed candidates keep their rank, so that candidates are still compared to the last one taken
+                positions[i] = REMOVED;
+            } else {
+                positions[i] -= -removedIndex - 1;
+            }
+        }
+    }
+
+    /**
+     * Compares the candidates at indexes {@code first} and {@code second}, where the better ranked one is smaller.
+     */
+    private int compareRanks(int first, int second) {
+        if (scores[first] != scores[second]) {
+            return Integer.compare(scores[second], scores[first]);
+        }
+        if (tieBreakers[first] != tieBreakers[second]) {
+            return Long.compare(tieBreakers[second], tieBreakers[first]);
+        }
+        return Integer.compare(first, second);
+    }
+}
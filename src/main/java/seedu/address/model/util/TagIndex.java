@@ -0,0 +1,105 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.property.Listable;
+import seedu.address.model.property.Taggable;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An index from each tag to the listable identities of the items with that tag,
+ * so that items with all of the given tags can be found without going through every item.
+ */
+public class TagIndex<T extends Listable & Taggable> {
+
+    private final Map<Tag, Set<Object>> postings = new HashMap<>();
+
+    /**
+     * Indexes the tags of {@code item}.
+     */
+    public void add(T item) {
+        requireNonNull(item);
+        Object identity = item.getListableIdentity();
+        for (Tag tag : item.getTags()) {
+            postings.computeIfAbsent(tag, unused -> new HashSet<>()).add(identity);
+        }
+    }
+
+    /**
+     * Removes the tags of {@code item}, which must have been indexed, from the index.
+     */
+    public void remove(T item) {
+        requireNonNull(item);
+        Object identity = item.getListableIdentity();
+        for (Tag tag : item.getTags()) {
+            Set<Object> identities = postings.get(tag);
+            if (identities != null) {
+                identities.remove(identity);
+                if (identities.isEmpty()) {
+                    postings.remove(tag);
+                }
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with the tags of {@code items}.
+     */
+    public void setAll(Iterable<T> items) {
+        requireNonNull(items);
+        postings.clear();
+        for (T item : items) {
+            add(item);
+        }
+    }
+
+    /**
+     * Returns the identities of the items with all of the {@code tags}, which must not be empty.
+     * The postings of the tags are intersected from the smallest, so the time taken is bounded by the number of
+     * items with the rarest tag.
+     */
+    public Set<Object> findAll(Collection<Tag> tags) {
+        requireNonNull(tags);
+        assert !tags.isEmpty();
+
+        List<Set<Object>> tagPostings = new ArrayList<>();
+        for (Tag tag : tags) {
+            Set<Object> identities = postings.get(tag);
+            if (identities == null) {
+                return new HashSet<>();
+            }
+            tagPostings.add(identities);
+        }
+        tagPostings.sort(Comparator.comparingInt(Set::size));
+
+        Set<Object> found = new HashSet<>(tagPostings.get(0));
+        for (int i = 1; i < tagPostings.size() && !found.isEmpty(); i++) {
+            found.retainAll(tagPostings.get(i));
+        }
+        return found;
+    }
+
+    /**
+     * Returns an upper bound of the number of items with all of the {@code tags}, which must not be empty.
+     * This is the size of the smallest posting of the tags.
+     */
+    public int estimateAll(Collection<Tag> tags) {
+        requireNonNull(tags);
+        assert !tags.isEmpty();
+
+        int estimate = Integer.MAX_VALUE;
+        for (Tag tag : tags) {
+            estimate = Math.min(estimate, postings.getOrDefault(tag, Set.of()).size());
+        }
+        return estimate;
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.ChangeLog;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.match.MatchState;
+import seedu.address.model.property.Buyer;
+import seedu.address.model.property.Match;
+import seedu.address.model.property.Property;
+
+/**
+ * An immutable copy of a {@code ReadOnlyAddressBook} at one point in time, which can be saved on another thread.
+ * Properties, buyers and matches are immutable, so only the lists holding them and the change log are copied.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Property> properties;
+    private final ObservableList<Property> currProperties;
+    private final ObservableList<Buyer> buyers;
+    private final ObservableList<Buyer> currBuyers;
+    private final ObservableList<Match> matches;
+    private final long version;
+    private final ChangeLog changeLog;
+    private final MatchState matchState;
+    private final long matchVersion;
+
+    /**
+     * Creates a copy of {@code source}.
+     */
+    AddressBookSnapshot(ReadOnlyAddressBook source) {
+        requireNonNull(source);
+        properties = copyOf(source.getPropertyList());
+        currProperties = copyOf(source.getCurrPropertyList());
+        buyers = copyOf(source.getBuyerList());
+        currBuyers = copyOf(source.getCurrBuyerList());
+        matches = copyOf(source.getMatchList());
+        version = source.getVersion();
+        changeLog = new ChangeLog(source.getChangeLog());
+        matchState = source.getMatchState();
+        matchVersion = source.getMatchVersion();
+    }
+
+    private static <T> ObservableList<T> copyOf(ObservableList<T> list) {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(list));
+    }
+
+    @Override
+    public ObservableList<Property> getPropertyList() {
+        return properties;
+    }
+
+    @Override
+    public ObservableList<Property> getCurrPropertyList() {
+        return currProperties;
+    }
+
+    @Override
+    public ObservableList<Buyer> getBuyerList() {
+        return buyers;
+    }
+
+    @Override
+    public ObservableList<Buyer> getCurrBuyerList() {
+        return currBuyers;
+    }
+
+    @Override
+    public ObservableList<Match> getMatchList() {
+        return matches;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public ChangeLog getChangeLog() {
+        return changeLog;
+    }
+
+    @Override
+    public MatchState getMatchState() {
+        return matchState;
+    }
+
+    @Override
+    public long getMatchVersion() {
+        return matchVersion;
+    }
+}
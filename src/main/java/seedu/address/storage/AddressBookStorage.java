@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -42,4 +43,17 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Waits until all saves are written to the storage.
+     * Storages that save before returning from {@link #saveAddressBook(ReadOnlyAddressBook)} have nothing to wait for.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void flush() throws IOException {}
+
+    /**
+     * Sets the handler of errors in saves that are written after {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * returns. Storages that save before returning report errors by throwing instead.
+     */
+    default void setSaveErrorHandler(Consumer<IOException> saveErrorHandler) {}
+
 }
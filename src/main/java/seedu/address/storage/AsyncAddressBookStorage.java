@@ -0,0 +1,165 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves AddressBook data on a background writer thread, so that callers do not wait for the data to be written.
+ *
+ * Each save takes a snapshot of the address book and hands it to the writer. If several saves are requested
+ * while the writer is busy, only the latest snapshot is written, so a burst of commands results in one write.
+ * Failures are reported to the save error handler, since the caller has already returned.
+ */
+public class AsyncAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncAddressBookStorage.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final Object lock = new Object();
+
+    // Guarded by lock
+    private ReadOnlyAddressBook pendingAddressBook;
+    private boolean isWriting = false;
+    private IOException lastSaveError;
+
+    private volatile Consumer<IOException> saveErrorHandler = unused -> {};
+
+    /**
+     * Creates an {@code AsyncAddressBookStorage} that writes to {@code addressBookStorage} in the background.
+     */
+    public AsyncAddressBookStorage(AddressBookStorage addressBookStorage) {
+        requireNonNull(addressBookStorage);
+        this.addressBookStorage = addressBookStorage;
+
+        Thread writer = new Thread(this::runWriter, "address-book-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return addressBookStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        awaitPendingSaves();
+        return addressBookStorage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Data saved to a path other than this storage's file path is written immediately, after pending saves.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getAddressBookFilePath())) {
+            awaitPendingSaves();
+            addressBookStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+        synchronized (lock) {
+            pendingAddressBook = snapshot; // Replaces any older snapshot that has not been written yet
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Waits until all requested saves are written.
+     *
+     * @throws IOException if the last write failed.
+     */
+    @Override
+    public void flush() throws IOException {
+        awaitPendingSaves();
+        synchronized (lock) {
+            if (lastSaveError != null) {
+                throw lastSaveError;
+            }
+        }
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<IOException> saveErrorHandler) {
+        requireNonNull(saveErrorHandler);
+        this.saveErrorHandler = saveErrorHandler;
+    }
+
+    private void awaitPendingSaves() throws InterruptedIOException {
+        synchronized (lock) {
+            while (pendingAddressBook != null || isWriting) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for address book to be saved");
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes pending snapshots, one at a time, until the app exits.
+     */
+    private void runWriter() {
+        while (true) {
+            ReadOnlyAddressBook addressBook;
+            synchronized (lock) {
+                while (pendingAddressBook == null) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                addressBook = pendingAddressBook;
+                pendingAddressBook = null;
+                isWriting = true;
+            }
+
+            IOException saveError = null;
+            try {
+                addressBookStorage.saveAddressBook(addressBook);
+            } catch (IOException e) {
+                saveError = e;
+            } catch (RuntimeException e) {
+                saveError = new IOException(e); // Keeps the writer alive for later saves
+            }
+            if (saveError != null) {
+                logger.warning("Failed to save address book: " + saveError);
+                saveErrorHandler.accept(saveError);
+            }
+
+            synchronized (lock) {
+                lastSaveError = saveError;
+                isWriting = false;
+                lock.notifyAll();
+            }
+        }
+    }
+}
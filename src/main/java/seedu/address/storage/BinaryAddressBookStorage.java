@@ -0,0 +1,130 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a binary snapshot on the hard disk,
+ * in the format of {@link BinaryAddressBookStream}.
+ *
+ * The snapshot is much faster to load than a json file, as the data file of this storage is trusted and its
+ * field values are not validated again. Data at any other path is fully validated.
+ * If the data file does not exist yet, the json data file with the same name is imported instead.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+    public static final String JSON_FILE_EXTENSION = ".json";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns true if {@code filePath} is the path of a binary data file.
+     */
+    public static boolean isBinaryFilePath(Path filePath) {
+        return filePath.getFileName().toString().endsWith(FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the path of the json data file with the same name as the binary data file at {@code filePath}.
+     */
+    public static Path getJsonFilePath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        if (fileName.endsWith(FILE_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - FILE_EXTENSION.length());
+        }
+        return filePath.resolveSibling(fileName + JSON_FILE_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        if (!Files.exists(filePath)) {
+            Path jsonFilePath = getJsonFilePath(filePath);
+            logger.info("Binary file " + filePath + " not found, importing " + jsonFilePath);
+            return importFromJson(jsonFilePath);
+        }
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(BinaryAddressBookStream.read(filePath, filePath.equals(this.filePath)));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        BinaryAddressBookStream.write(addressBook, filePath);
+    }
+
+    /**
+     * Reads the json data at {@code jsonFilePath}, including its journal if any, and saves it to the data file.
+     * Returns the data read, or an empty {@code Optional} if there is none.
+     *
+     * @throws DataConversionException if the json data is not in the correct format, or cannot be saved.
+     */
+    public Optional<ReadOnlyAddressBook> importFromJson(Path jsonFilePath) throws DataConversionException {
+        requireNonNull(jsonFilePath);
+
+        Optional<ReadOnlyAddressBook> addressBook = new JournalAddressBookStorage(jsonFilePath).readAddressBook();
+        if (addressBook.isPresent()) {
+            try {
+                saveAddressBook(addressBook.get());
+            } catch (IOException e) {
+                throw new DataConversionException(e);
+            }
+        }
+        return addressBook;
+    }
+}
@@ -0,0 +1,375 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.field.Email;
+import seedu.address.model.field.Name;
+import seedu.address.model.field.Person;
+import seedu.address.model.field.Phone;
+import seedu.address.model.field.Price;
+import seedu.address.model.match.MatchState;
+import seedu.address.model.property.Address;
+import seedu.address.model.property.Buyer;
+import seedu.address.model.property.Match;
+import seedu.address.model.property.Property;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads and writes AddressBook data in a compact binary format.
+ *
+ * The file starts with a magic number and a format version. Tag names and sellers, which are shared by many
+ * properties and buyers, are written once in tables and referred to by index. Then come the properties and buyers,
+ * with every string prefixed by its length, then the matches of {@code match auto} if they are up to date, and
+ * finally a CRC32 checksum of everything before it.
+ *
+ * Matches refer to their property and buyer by index. They are written in the same checksummed file as the
+ * properties and buyers they were matched from, so unlike the json format, no fingerprint of those is needed.
+ * Files of version 1, which have no matches, can still be read.
+ *
+ * A trusted read skips the validation of field values, since the data was written from valid model objects.
+ * The checksum is still verified, and the data is discarded if it does not match.
+ */
+class BinaryAddressBookStream {
+
+    public static final int MAGIC = 0x50574842; // "PWHB"
+    public static final int FORMAT_VERSION = 2;
+    /** First format version with matches. */
+    public static final int MATCHES_FORMAT_VERSION = 2;
+    /** Count of matches written when there are no up to date matches. */
+    public static final int NO_MATCHES = -1;
+
+    public static final String MESSAGE_NOT_BINARY = "Address book data is not in the binary format.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION =
+            "Binary address book format version %1$d is not supported.";
+    public static final String MESSAGE_CORRUPTED = "Binary address book data is corrupted.";
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int MAX_STRING_LENGTH = 1 << 16;
+
+    private BinaryAddressBookStream() {}
+
+    /**
+     * Writes the properties, buyers and up to date matches of {@code addressBook} to {@code filePath},
+     * replacing the file atomically.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        boolean hasMatches = addressBook.getMatchState() == MatchState.UP_TO_DATE;
+        Map<String, Integer> tagIndexes = new LinkedHashMap<>();
+        Map<Person, Integer> sellerIndexes = new LinkedHashMap<>();
+        Map<Object, Integer> propertyIndexes = new HashMap<>();
+        Map<Object, Integer> buyerIndexes = new HashMap<>();
+        for (Property property : addressBook.getPropertyList()) {
+            sellerIndexes.putIfAbsent(property.getSeller(), sellerIndexes.size());
+            property.getTags().forEach(tag -> tagIndexes.putIfAbsent(tag.tagName, tagIndexes.size()));
+        }
+        for (Buyer buyer : addressBook.getBuyerList()) {
+            buyer.getTags().forEach(tag -> tagIndexes.putIfAbsent(tag.tagName, tagIndexes.size()));
+        }
+
+        Path tempFilePath = FileUtil.getTempFile(filePath);
+        FileUtil.createParentDirsOfFile(tempFilePath);
+        CRC32 checksum = new CRC32();
+        try (DataOutputStream out = new DataOutputStream(new CheckedOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(tempFilePath), BUFFER_SIZE), checksum))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+
+            out.writeInt(tagIndexes.size());
+            for (String tagName : tagIndexes.keySet()) {
+                writeString(out, tagName);
+            }
+            out.writeInt(sellerIndexes.size());
+            for (Person seller : sellerIndexes.keySet()) {
+                writeString(out, seller.getName().fullName);
+                writeString(out, seller.getPhone().value);
+                writeString(out, seller.getEmail().value);
+            }
+
+            out.writeInt(addressBook.getPropertyList().size());
+            for (Property property : addressBook.getPropertyList()) {
+                if (hasMatches) {
+                    propertyIndexes.put(property.getListableIdentity(), propertyIndexes.size());
+                }
+                writeString(out, property.getName().fullName);
+                writeString(out, property.getAddress().value);
+                out.writeInt(sellerIndexes.get(property.getSeller()));
+                out.writeLong(property.getPrice().value);
+                writeTags(out, property.getTags(), tagIndexes);
+            }
+            out.writeInt(addressBook.getBuyerList().size());
+            for (Buyer buyer : addressBook.getBuyerList()) {
+                if (hasMatches) {
+                    buyerIndexes.put(buyer.getListableIdentity(), buyerIndexes.size());
+                }
+                writeString(out, buyer.getName().fullName);
+                writeString(out, buyer.getPhone().value);
+                writeString(out, buyer.getEmail().value);
+                out.writeLong(buyer.getPrice().value);
+                writeTags(out, buyer.getTags(), tagIndexes);
+            }
+
+            if (hasMatches) {
+                out.writeInt(addressBook.getMatchList().size());
+                for (Match match : addressBook.getMatchList()) {
+                    out.writeInt(propertyIndexes.get(match.getProperty().getListableIdentity()));
+                    out.writeInt(buyerIndexes.get(match.getBuyer().getListableIdentity()));
+                }
+            } else {
+                out.writeInt(NO_MATCHES);
+            }
+
+            out.writeLong(checksum.getValue());
+        }
+        FileUtil.moveAtomically(tempFilePath, filePath);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeTags(DataOutputStream out, Set<Tag> tags, Map<String, Integer> tagIndexes)
+            throws IOException {
+        out.writeInt(tags.size());
+        for (Tag tag : tags) {
+            out.writeInt(tagIndexes.get(tag.tagName));
+        }
+    }
+
+    /**
+     * Reads the data at {@code filePath}, which must exist.
+     *
+     * @param isTrusted whether the data was written by this app, so that field values need not be validated.
+     * @throws IOException if the file cannot be read or ends unexpectedly.
+     * @throws IllegalValueException if the data is not in the binary format or is corrupted,
+     *     or if there were any data constraints violated.
+     */
+    public static AddressBook read(Path filePath, boolean isTrusted) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+
+        CRC32 checksum = new CRC32();
+        try (DataInputStream in = new DataInputStream(new CheckedInputStream(
+                new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE), checksum))) {
+            if (in.readInt() != MAGIC) {
+                throw new IllegalValueException(MESSAGE_NOT_BINARY);
+            }
+            int formatVersion = in.readInt();
+            checkFormatVersion(formatVersion);
+            RecordReader reader = new RecordReader(in, isTrusted);
+            // Counts are not used to presize collections, as the checksum is only verified at the end
+
+            List<Tag> tags = new ArrayList<>();
+            for (int i = readCount(in); i > 0; i--) {
+                tags.add(reader.readTag());
+            }
+            List<Person> sellers = new ArrayList<>();
+            for (int i = readCount(in); i > 0; i--) {
+                sellers.add(reader.readPerson());
+            }
+
+            List<Property> properties = new ArrayList<>();
+            Set<Address> addresses = new HashSet<>();
+            for (int i = readCount(in); i > 0; i--) {
+                Property property = new Property(reader.readName(), reader.readAddress(),
+                        sellers.get(readIndex(in, sellers.size())), reader.readPrice(), readTags(in, tags));
+                if (!addresses.add(property.getAddress())) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PROPERTY);
+                }
+                properties.add(property);
+            }
+            List<Buyer> buyers = new ArrayList<>();
+            Set<Name> buyerNames = new HashSet<>();
+            for (int i = readCount(in); i > 0; i--) {
+                Buyer buyer = new Buyer(reader.readPerson(), reader.readPrice(), readTags(in, tags));
+                if (!buyerNames.add(buyer.getName())) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_BUYER);
+                }
+                buyers.add(buyer);
+            }
+            List<Match> matches = null;
+            int matchCount = formatVersion >= MATCHES_FORMAT_VERSION ? in.readInt() : NO_MATCHES;
+            if (matchCount != NO_MATCHES) {
+                matches = new ArrayList<>();
+                for (int i = checkCount(matchCount); i > 0; i--) {
+                    matches.add(new Match(properties.get(readIndex(in, properties.size())),
+                            buyers.get(readIndex(in, buyers.size()))));
+                }
+            }
+
+            long expectedChecksum = checksum.getValue();
+            if (in.readLong() != expectedChecksum || in.read() != -1) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+
+            AddressBook addressBook = new AddressBook();
+            addressBook.setAllProperties(properties);
+            addressBook.setAllBuyers(buyers);
+            if (matches != null) {
+                restoreMatches(addressBook, matches);
+            }
+            return addressBook;
+        }
+    }
+
+    /**
+     * Checks that data of {@code formatVersion} can be read.
+     *
+     * @throws IllegalValueException if the format version is not supported.
+     */
+    private static void checkFormatVersion(int formatVersion) throws IllegalValueException {
+        if (formatVersion < 1 || formatVersion > FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, formatVersion));
+        }
+    }
+
+    /**
+     * Restores the saved {@code matches} to {@code addressBook}, or records that they are outdated if they are not
+     * matches between its properties and buyers, as they can always be matched again.
+     */
+    private static void restoreMatches(AddressBook addressBook, List<Match> matches) {
+        try {
+            addressBook.restoreMatches(matches);
+        } catch (IllegalArgumentException e) {
+            addressBook.setMatchesOutdated();
+        }
+    }
+
+    private static int readCount(DataInputStream in) throws IOException, IllegalValueException {
+        return checkCount(in.readInt());
+    }
+
+    private static int checkCount(int count) throws IllegalValueException {
+        if (count < 0) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        return count;
+    }
+
+    private static int readIndex(DataInputStream in, int tableSize) throws IOException, IllegalValueException {
+        int index = in.readInt();
+        if (index < 0 || index >= tableSize) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        return index;
+    }
+
+    private static Set<Tag> readTags(DataInputStream in, List<Tag> tags) throws IOException, IllegalValueException {
+        Set<Tag> result = new HashSet<>();
+        for (int i = readCount(in); i > 0; i--) {
+            result.add(tags.get(readIndex(in, tags.size())));
+        }
+        return result;
+    }
+
+    /**
+     * Reads field values, validating them unless the data is trusted.
+     */
+    private static class RecordReader {
+        private final DataInputStream in;
+        private final boolean isTrusted;
+
+        private RecordReader(DataInputStream in, boolean isTrusted) {
+            this.in = in;
+            this.isTrusted = isTrusted;
+        }
+
+        private String readString() throws IOException, IllegalValueException {
+            int length = in.readInt();
+            if (length < 0 || length > MAX_STRING_LENGTH) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            byte[] bytes = new byte[length];
+            in.readFully(bytes);
+            return new String(bytes, UTF_8);
+        }
+
+        private Name readName() throws IOException, IllegalValueException {
+            String name = readString();
+            if (isTrusted) {
+                return Name.ofTrusted(name);
+            }
+            if (!Name.isValidName(name)) {
+                throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+            }
+            return new Name(name);
+        }
+
+        private Address readAddress() throws IOException, IllegalValueException {
+            String address = readString();
+            if (isTrusted) {
+                return Address.ofTrusted(address);
+            }
+            if (!Address.isValidAddress(address)) {
+                throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
+            }
+            return new Address(address);
+        }
+
+        private Email readEmail() throws IOException, IllegalValueException {
+            String email = readString();
+            if (isTrusted) {
+                return Email.ofTrusted(email);
+            }
+            if (!Email.isValidEmail(email)) {
+                throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
+            }
+            return new Email(email);
+        }
+
+        private Person readPerson() throws IOException, IllegalValueException {
+            Name name = readName();
+            Phone phone = new Phone(readString());
+            Email email = readEmail();
+            return new Person(name, phone, email);
+        }
+
+        private Price readPrice() throws IOException, IllegalValueException {
+            long price = in.readLong();
+            if (isTrusted) {
+                return Price.ofTrusted(price);
+            }
+            if (price < 0 || !Price.isValidPrice(Long.toString(price))) {
+                throw new IllegalValueException(Price.MESSAGE_CONSTRAINTS);
+            }
+            return Price.ofTrusted(price);
+        }
+
+        private Tag readTag() throws IOException, IllegalValueException {
+            String tagName = readString();
+            if (isTrusted) {
+                return Tag.ofTrusted(tagName);
+            }
+            if (!Tag.isValidTagName(tagName)) {
+                throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            return new Tag(tagName);
+        }
+    }
+}
@@ -0,0 +1,430 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvValidationException;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.property.Listable;
+import seedu.address.model.property.exceptions.DuplicateListableException;
+
+/**
+ * An import of the entries in a csv file, running in the background.
+ *
+ * The rows are parsed in chunks on a pool of worker threads, one per core. Small files are streamed: the rows are
+ * read one at a time, and handed to the workers in chunks while the rest of the file is read. Large files are parsed
+ * in parallel: the file is only scanned for the line breaks that end records, and each worker reads and parses the
+ * byte range of its chunk itself. The entries are then collected in the order of the file, and checked for duplicates
+ * by their identities.
+ *
+ * Errors in a row name the row, counting the header as row 1. The number of rows parsed is reported after each chunk,
+ * and the import can be cancelled at any time.
+ */
+public class CsvImport<T extends Listable> {
+
+    /** Number of rows parsed together by a worker thread. */
+    public static final int CHUNK_SIZE = 2048;
+
+    /** Size in bytes of the smallest file parsed in parallel, as smaller files are read quickly enough. */
+    public static final long PARALLEL_MIN_SIZE = 1 << 20;
+
+    private static final int NUM_PARSERS = Runtime.getRuntime().availableProcessors();
+    private static final int SCAN_BUFFER_SIZE = 1 << 16;
+
+    private static final ExecutorService readers = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "csv-import-reader");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final ExecutorService parsers = Executors.newFixedThreadPool(NUM_PARSERS, runnable -> {
+        Thread thread = new Thread(runnable, "csv-import-parser");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final File file;
+    private final HeaderParser<T> headerParser;
+    private final Consumer<Integer> progressHandler;
+    private final CompletableFuture<List<T>> result = new CompletableFuture<>();
+    private final List<Future<List<T>>> chunks = new ArrayList<>();
+    private final AtomicInteger numRowsParsed = new AtomicInteger();
+    private volatile boolean isCancelled = false;
+
+    private CsvImport(File file, HeaderParser<T> headerParser, Consumer<Integer> progressHandler) {
+        this.file = file;
+        this.headerParser = headerParser;
+        this.progressHandler = progressHandler;
+    }
+
+    /**
+     * Starts importing the entries in {@code file}, whose rows are parsed by the parser {@code headerParser}
+     * returns for its header. {@code progressHandler} is called from background threads with the number of rows
+     * parsed so far.
+     */
+    public static <T extends Listable> CsvImport<T> start(File file, HeaderParser<T> headerParser,
+                                                          Consumer<Integer> progressHandler) {
+        requireAllNonNull(file, headerParser, progressHandler);
+        return start(file, headerParser, progressHandler, NUM_PARSERS > 1 && file.length() >= PARALLEL_MIN_SIZE);
+    }
+
+    /**
+     * Similar to {@link #start(File, HeaderParser, Consumer)}, but parses the file in parallel byte ranges if
+     * {@code isParallel}, and streams it otherwise, whatever its size.
+     */
+    static <T extends Listable> CsvImport<T> start(File file, HeaderParser<T> headerParser,
+                                                   Consumer<Integer> progressHandler, boolean isParallel) {
+        requireAllNonNull(file, headerParser, progressHandler);
+        CsvImport<T> csvImport = new CsvImport<>(file, headerParser, progressHandler);
+        readers.execute(() -> csvImport.run(isParallel));
+        return csvImport;
+    }
+
+    /**
+     * Cancels the import. Rows that are not yet read or parsed are skipped.
+     */
+    public void cancel() {
+        isCancelled = true;
+        result.cancel(false);
+        synchronized (chunks) {
+            chunks.forEach(chunk -> chunk.cancel(false));
+        }
+    }
+
+    /**
+     * Calls {@code action} from a background thread once the import has finished, failed or been cancelled.
+     */
+    public void whenDone(Runnable action) {
+        result.whenComplete((entries, error) -> action.run());
+    }
+
+    /**
+     * Returns the entries in the file in order, waiting for them if needed.
+     *
+     * @throws IOException if the file cannot be read.
+     * @throws ParseException if the csv file content cannot be recognized.
+     * @throws DuplicateListableException if the file contains duplicate entries.
+     * @throws CancellationException if the import was cancelled.
+     */
+    public List<T> getResult() throws IOException, ParseException {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            if (e.getCause() instanceof ParseException) {
+                throw (ParseException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private void run(boolean isParallel) {
+        try {
+            result.complete(isParallel ? readRanges() : readRows());
+        } catch (IOException | ParseException | RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Reads the rows one at a time, and hands them to the workers in chunks.
+     */
+    private List<T> readRows() throws IOException, ParseException {
+        int numRows = 0;
+        try (CSVReader reader = new CSVReader(new FileReader(file))) {
+            String[] header = reader.readNext();
+            if (header == null) {
+                throw new ParseException(CsvManager.MESSAGE_INVALID_CSV_FORMAT);
+            }
+
+            RowParser<T> rowParser = null; // Found once there is a row, as a file without rows has no entries
+            List<String[]> rows = new ArrayList<>(CHUNK_SIZE);
+            String[] row;
+            while (!isCancelled && (row = reader.readNext()) != null) {
+                if (rowParser == null) {
+                    rowParser = headerParser.parse(header);
+                }
+                rows.add(row);
+                numRows++;
+                if (rows.size() == CHUNK_SIZE) {
+                    submitRows(rowParser, header.length, rows, getRowNumber(numRows - rows.size()));
+                    rows = new ArrayList<>(CHUNK_SIZE);
+                }
+            }
+            if (!rows.isEmpty()) {
+                submitRows(rowParser, header.length, rows, getRowNumber(numRows - rows.size()));
+            }
+        } catch (CsvValidationException e) {
+            throw new ParseException(String.format(CsvManager.MESSAGE_INVALID_ROW, getRowNumber(numRows),
+                    CsvManager.MESSAGE_INVALID_CSV_FORMAT));
+        }
+        return collectChunks(numRows);
+    }
+
+    private void submitRows(RowParser<T> rowParser, int numColumns, List<String[]> rows, int firstRowNumber) {
+        submitChunk(() -> {
+            List<T> entries = new ArrayList<>(rows.size());
+            int rowNumber = firstRowNumber;
+            for (String[] row : rows) {
+                entries.add(parseRow(rowParser, numColumns, row, rowNumber++));
+            }
+            return entries;
+        }, rows.size());
+    }
+
+    /**
+     * Scans the file for the ends of records, which are the line breaks outside quoted fields, and hands the byte
+     * range of every chunk of records to the workers as soon as it is found.
+     * Quotes escaped by a backslash are skipped, as the csv reader does, while doubled quotes toggle twice.
+     */
+    private List<T> readRanges() throws IOException, ParseException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            String[] header = null;
+            RowParser<T> rowParser = null;
+            int numRows = 0;
+            int numRowsInChunk = 0;
+            long chunkStart = 0;
+            long recordStart = 0;
+            boolean isInQuotes = false;
+            boolean isEscaped = false;
+
+            ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+            long bufferStart = 0;
+            int numBytesRead;
+            while (!isCancelled && (numBytesRead = channel.read(buffer, bufferStart)) > 0) {
+                byte[] bytes = buffer.array();
+                for (int i = 0; i < numBytesRead; i++) {
+                    if (isEscaped) {
+                        isEscaped = false;
+                    } else if (bytes[i] == '"') {
+                        isInQuotes = !isInQuotes;
+                    } else if (bytes[i] == '\\' && isInQuotes) {
+                        isEscaped = true;
+                    } else if (bytes[i] == '\n' && !isInQuotes) {
+                        recordStart = bufferStart + i + 1;
+                        if (header == null) {
+                            header = readHeader(channel, recordStart);
+                            chunkStart = recordStart;
+                            continue;
+                        }
+                        if (rowParser == null) {
+                            rowParser = headerParser.parse(header);
+                        }
+                        numRows++;
+                        numRowsInChunk++;
+                        if (numRowsInChunk == CHUNK_SIZE) {
+                            submitRange(channel, rowParser, header.length, chunkStart, recordStart,
+                                    numRowsInChunk, getRowNumber(numRows - numRowsInChunk));
+                            chunkStart = recordStart;
+                            numRowsInChunk = 0;
+                        }
+                    }
+                }
+                bufferStart += numBytesRead;
+                buffer.clear();
+            }
+            if (isCancelled) {
+                return collectChunks(numRows);
+            }
+
+            if (recordStart < bufferStart) { // The last record does not end with a line break
+                if (header == null) {
+                    header = readHeader(channel, bufferStart);
+                    chunkStart = bufferStart;
+                } else {
+                    if (rowParser == null) {
+                        rowParser = headerParser.parse(header);
+                    }
+                    numRows++;
+                    numRowsInChunk++;
+                }
+            }
+            if (header == null) {
+                throw new ParseException(CsvManager.MESSAGE_INVALID_CSV_FORMAT);
+            }
+            if (numRowsInChunk > 0) {
+                submitRange(channel, rowParser, header.length, chunkStart, bufferStart, numRowsInChunk,
+                        getRowNumber(numRows - numRowsInChunk));
+            }
+            // The workers read from the channel, so it is only closed once they are done
+            return collectChunks(numRows);
+        }
+    }
+
+    private String[] readHeader(FileChannel channel, long headerEnd) throws IOException, ParseException {
+        try (CSVReader reader = new CSVReader(getReader(channel, 0, headerEnd))) {
+            String[] header = reader.readNext();
+            if (header == null) {
+                throw new ParseException(CsvManager.MESSAGE_INVALID_CSV_FORMAT);
+            }
+            return header;
+        } catch (CsvValidationException e) {
+            throw new ParseException(CsvManager.MESSAGE_INVALID_CSV_FORMAT);
+        }
+    }
+
+    private void submitRange(FileChannel channel, RowParser<T> rowParser, int numColumns, long start, long end,
+                             int numRowsInRange, int firstRowNumber) {
+        submitChunk(() -> {
+            List<T> entries = new ArrayList<>(numRowsInRange);
+            int rowNumber = firstRowNumber;
+            try (CSVReader reader = new CSVReader(getReader(channel, start, end))) {
+                String[] row;
+                while ((row = reader.readNext()) != null) {
+                    entries.add(parseRow(rowParser, numColumns, row, rowNumber++));
+                }
+            } catch (CsvValidationException e) {
+                throw new ParseException(String.format(CsvManager.MESSAGE_INVALID_ROW, rowNumber,
+                        CsvManager.MESSAGE_INVALID_CSV_FORMAT));
+            }
+            return entries;
+        }, numRowsInRange);
+    }
+
+    /**
+     * Returns a reader of the bytes of the file from {@code start} to {@code end}, decoded in the charset the rows of
+     * smaller files are read in. A line break is a single byte in that charset, so a range of whole records decodes
+     * on its own.
+     */
+    private static InputStreamReader getReader(FileChannel channel, long start, long end) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(Math.toIntExact(end - start));
+        while (bytes.hasRemaining()) {
+            if (channel.read(bytes, start + bytes.position()) < 0) {
+                throw new EOFException();
+            }
+        }
+        return new InputStreamReader(new ByteArrayInputStream(bytes.array()), Charset.defaultCharset());
+    }
+
+    /**
+     * Returns the row number in the file of the row after {@code numRowsBefore} rows, counting the header as row 1.
+     */
+    private static int getRowNumber(int numRowsBefore) {
+        return numRowsBefore + 2;
+    }
+
+    /**
+     * Returns the entry in {@code row}, which is row {@code rowNumber} of the file.
+     *
+     * @throws ParseException if the row content cannot be recognized, with the row number in its message.
+     */
+    private static <T> T parseRow(RowParser<T> rowParser, int numColumns, String[] row, int rowNumber)
+            throws ParseException {
+        if (row.length != numColumns) {
+            throw new ParseException(String.format(CsvManager.MESSAGE_INVALID_ROW, rowNumber,
+                    CsvManager.MESSAGE_INVALID_CSV_FORMAT));
+        }
+        try {
+            return rowParser.parse(row);
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(CsvManager.MESSAGE_INVALID_ROW, rowNumber, pe.getMessage()), pe);
+        }
+    }
+
+    private void submitChunk(Callable<List<T>> chunkParser, int numRowsInChunk) {
+        synchronized (chunks) {
+            if (isCancelled) {
+                return;
+            }
+            chunks.add(parsers.submit(() -> {
+                List<T> entries = chunkParser.call();
+                progressHandler.accept(numRowsParsed.addAndGet(numRowsInChunk));
+                return entries;
+            }));
+        }
+    }
+
+    /**
+     * Returns the entries parsed by the chunks in order, failing with the error of the first chunk that failed.
+     */
+    private List<T> collectChunks(int numRows) throws IOException, ParseException {
+        List<T> entries = new ArrayList<>(numRows);
+        Set<Object> identities = new HashSet<>();
+        for (Future<List<T>> chunk : chunks) {
+            List<T> chunkEntries;
+            try {
+                chunkEntries = chunk.get();
+            } catch (CancellationException | InterruptedException e) {
+                throw new CancellationException();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                }
+                if (e.getCause() instanceof ParseException) {
+                    throw (ParseException) e.getCause();
+                }
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+            for (T entry : chunkEntries) {
+                if (!identities.add(entry.getListableIdentity())) {
+                    throw new DuplicateListableException();
+                }
+                entries.add(entry);
+            }
+        }
+        if (entries.isEmpty() && !isCancelled) {
+            throw new ParseException(CsvManager.MESSAGE_NO_ENTRIES);
+        }
+        progressHandler.accept(entries.size());
+        return entries;
+    }
+
+    /**
+     * Represents a function that returns the parser of the rows under a csv header.
+     */
+    @FunctionalInterface
+    public interface HeaderParser<T> {
+        /**
+         * Returns the parser of the rows under {@code header}.
+         *
+         * @throws ParseException if the header is missing a column.
+         */
+        RowParser<T> parse(String[] header) throws ParseException;
+    }
+
+    /**
+     * Represents a function that parses a csv row into an entry.
+     */
+    @FunctionalInterface
+    public interface RowParser<T> {
+        /**
+         * Returns the entry in {@code row}.
+         *
+         * @throws ParseException if the row content cannot be recognized.
+         */
+        T parse(String[] row) throws ParseException;
+    }
+}
@@ -3,20 +3,18 @@ package seedu.address.storage;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.File;
-import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
-import com.opencsv.CSVReaderHeaderAware;
 import com.opencsv.CSVWriter;
-import com.opencsv.exceptions.CsvValidationException;
 
 import seedu.address.logic.parser.ParserUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -33,6 +31,8 @@ import seedu.address.model.tag.Tag;
 
 /**
  * Manages exporting to or importing from csv.
+ * Imports parse the rows with the columns of the header found once, in parallel in the background,
+ * see {@link CsvImport}.
  */
 public class CsvManager {
     public static final String HEADER_NAME = "Name";
@@ -47,6 +47,7 @@ public class CsvManager {
     public static final String MESSAGE_INVALID_CSV_FORMAT = "Invalid csv format!";
     public static final String MESSAGE_MISSING_HEADER = "Missing Header: ";
     public static final String MESSAGE_NO_ENTRIES = "No recognized entries within csv!";
+    public static final String MESSAGE_INVALID_ROW = "Row %1$d: %2$s";
 
     private static final String[] propertyHeaders = {HEADER_NAME, HEADER_ADDRESS, HEADER_SELLER,
         HEADER_PHONE, HEADER_EMAIL, HEADER_PRICE, HEADER_TAGS};
@@ -98,108 +99,115 @@ public class CsvManager {
         writer.close();
     }
 
-    private static Property getProperty(Map<String, String> values) throws ParseException {
-        for (String header : propertyHeaders) {
-            if (!values.containsKey(header)) {
-                throw new ParseException(MESSAGE_MISSING_HEADER + header);
-            }
+    /**
+     * Returns the column of each of {@code headers} in the csv {@code header}.
+     *
+     * @throws ParseException if any of {@code headers} is missing.
+     */
+    private static Map<String, Integer> getColumns(String[] header, String[] headers) throws ParseException {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.length; i++) {
+            columns.putIfAbsent(header[i], i);
         }
-        Name propertyName = ParserUtil.parseName(values.get(HEADER_NAME));
-        Address address = ParserUtil.parseAddress(values.get(HEADER_ADDRESS));
-        Name sellerName = ParserUtil.parseName(values.get(HEADER_SELLER));
-        Phone sellerPhone = ParserUtil.parsePhone(values.get(HEADER_PHONE));
-        Email sellerEmail = ParserUtil.parseEmail(values.get(HEADER_EMAIL));
-        Person seller = new Person(sellerName, sellerPhone, sellerEmail);
-        Price price = ParserUtil.parsePrice(values.get(HEADER_PRICE));
-        Set<Tag> tagList = new HashSet<Tag>();
-        if (!values.get(HEADER_TAGS).isEmpty()) {
-            tagList = ParserUtil.parseTags(Arrays.asList(values.get(HEADER_TAGS).split(",")));
+        for (String expectedHeader : headers) {
+            if (!columns.containsKey(expectedHeader)) {
+                throw new ParseException(MESSAGE_MISSING_HEADER + expectedHeader);
+            }
         }
+        return columns;
+    }
 
-        Property property = new Property(propertyName, address, seller, price, tagList);
-        return property;
+    static CsvImport.RowParser<Property> getPropertyParser(String[] header) throws ParseException {
+        Map<String, Integer> columns = getColumns(header, propertyHeaders);
+        int nameColumn = columns.get(HEADER_NAME);
+        int addressColumn = columns.get(HEADER_ADDRESS);
+        int sellerColumn = columns.get(HEADER_SELLER);
+        int phoneColumn = columns.get(HEADER_PHONE);
+        int emailColumn = columns.get(HEADER_EMAIL);
+        int priceColumn = columns.get(HEADER_PRICE);
+        int tagsColumn = columns.get(HEADER_TAGS);
+        return row -> {
+            Name propertyName = ParserUtil.parseName(row[nameColumn]);
+            Address address = ParserUtil.parseAddress(row[addressColumn]);
+            Name sellerName = ParserUtil.parseName(row[sellerColumn]);
+            Phone sellerPhone = ParserUtil.parsePhone(row[phoneColumn]);
+            Email sellerEmail = ParserUtil.parseEmail(row[emailColumn]);
+            Person seller = new Person(sellerName, sellerPhone, sellerEmail);
+            Price price = ParserUtil.parsePrice(row[priceColumn]);
+            Set<Tag> tagList = getTags(row[tagsColumn]);
+
+            Property property = new Property(propertyName, address, seller, price, tagList);
+            return property;
+        };
     }
 
-    private static Buyer getBuyer(Map<String, String> values) throws ParseException {
-        for (String header : buyerHeaders) {
-            if (!values.containsKey(header)) {
-                throw new ParseException(MESSAGE_MISSING_HEADER + header);
-            }
-        }
-        Name name = ParserUtil.parseName(values.get(HEADER_NAME));
-        Phone phone = ParserUtil.parsePhone(values.get(HEADER_PHONE));
-        Email email = ParserUtil.parseEmail(values.get(HEADER_EMAIL));
-        Price maxPrice = ParserUtil.parsePrice(values.get(HEADER_BUDGET));
-        Set<Tag> tagList = new HashSet<Tag>();
-        if (!values.get(HEADER_TAGS).isEmpty()) {
-            tagList = ParserUtil.parseTags(Arrays.asList(values.get(HEADER_TAGS).split(",")));
+    static CsvImport.RowParser<Buyer> getBuyerParser(String[] header) throws ParseException {
+        Map<String, Integer> columns = getColumns(header, buyerHeaders);
+        int nameColumn = columns.get(HEADER_NAME);
+        int phoneColumn = columns.get(HEADER_PHONE);
+        int emailColumn = columns.get(HEADER_EMAIL);
+        int budgetColumn = columns.get(HEADER_BUDGET);
+        int tagsColumn = columns.get(HEADER_TAGS);
+        return row -> {
+            Name name = ParserUtil.parseName(row[nameColumn]);
+            Phone phone = ParserUtil.parsePhone(row[phoneColumn]);
+            Email email = ParserUtil.parseEmail(row[emailColumn]);
+            Price maxPrice = ParserUtil.parsePrice(row[budgetColumn]);
+            Set<Tag> tagList = getTags(row[tagsColumn]);
+
+            Buyer buyer = new Buyer(name, phone, email, maxPrice, tagList);
+            return buyer;
+        };
+    }
+
+    private static Set<Tag> getTags(String tags) throws ParseException {
+        if (tags.isEmpty()) {
+            return new HashSet<Tag>();
         }
+        return ParserUtil.parseTags(Arrays.asList(tags.split(",")));
+    }
 
-        Buyer buyer = new Buyer(name, phone, email, maxPrice, tagList);
-        return buyer;
+    /**
+     * Starts importing properties in the given csv file in the background.
+     *
+     * @param file cannot be null.
+     * @param progressHandler called from background threads with the number of rows parsed so far.
+     */
+    public static CsvImport<Property> startImportProperties(File file, Consumer<Integer> progressHandler) {
+        return CsvImport.start(file, CsvManager::getPropertyParser, progressHandler);
     }
 
     /**
-     * Imports properties in the given csv file to the {@link ReadOnlyAddressBook}.
+     * Starts importing buyers in the given csv file in the background.
      *
      * @param file cannot be null.
-     * @throws IOException if there was any problem writing to the file.
+     * @param progressHandler called from background threads with the number of rows parsed so far.
+     */
+    public static CsvImport<Buyer> startImportBuyers(File file, Consumer<Integer> progressHandler) {
+        return CsvImport.start(file, CsvManager::getBuyerParser, progressHandler);
+    }
+
+    /**
+     * Imports properties in the given csv file, waiting for the import to finish.
+     *
+     * @param file cannot be null.
+     * @throws IOException if there was any problem reading from the file.
      * @throws ParseException if the csv file content cannot be recognized.
      */
     public static List<Property> importProperties(File file) throws IOException, ParseException {
         requireAllNonNull(file);
-        CSVReaderHeaderAware reader;
-        try {
-            reader = new CSVReaderHeaderAware(new FileReader(file));
-        } catch (NullPointerException ex) {
-            throw new ParseException(MESSAGE_INVALID_CSV_FORMAT);
-        }
-        Map<String, String> values;
-        List<Property> properties = new ArrayList<>();
-        try {
-            while ((values = reader.readMap()) != null) {
-                properties.add(getProperty(values));
-            }
-        } catch (CsvValidationException e) {
-            throw new ParseException(MESSAGE_INVALID_CSV_FORMAT);
-        } catch (IOException ioe) {
-            throw new ParseException(MESSAGE_INVALID_CSV_FORMAT, ioe);
-        }
-        if (properties.isEmpty()) {
-            throw new ParseException(MESSAGE_NO_ENTRIES);
-        }
-        return properties;
+        return startImportProperties(file, rowsRead -> {}).getResult();
     }
 
     /**
-     * Imports buyers in the given csv file to the {@link ReadOnlyAddressBook}.
+     * Imports buyers in the given csv file, waiting for the import to finish.
      *
      * @param file cannot be null.
-     * @throws IOException if there was any problem writing to the file.
+     * @throws IOException if there was any problem reading from the file.
      * @throws ParseException if the csv file content cannot be recognized.
      */
     public static List<Buyer> importBuyers(File file) throws IOException, ParseException {
         requireAllNonNull(file);
-        CSVReaderHeaderAware reader;
-        try {
-            reader = new CSVReaderHeaderAware(new FileReader(file));
-        } catch (NullPointerException ex) {
-            throw new ParseException(MESSAGE_INVALID_CSV_FORMAT);
-        }
-        Map<String, String> values;
-        List<Buyer> buyers = new ArrayList<>();
-        try {
-            while ((values = reader.readMap()) != null) {
-                buyers.add(getBuyer(values));
-            }
-        } catch (CsvValidationException e) {
-            throw new ParseException(MESSAGE_INVALID_CSV_FORMAT);
-        } catch (IOException ioe) {
-            throw new ParseException(MESSAGE_INVALID_CSV_FORMAT, ioe);
-        }
-        if (buyers.isEmpty()) {
-            throw new ParseException(MESSAGE_NO_ENTRIES);
-        }
-        return buyers;
+        return startImportBuyers(file, rowsRead -> {}).getResult();
     }
 }
@@ -0,0 +1,352 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.ChangeLog;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.match.MatchState;
+import seedu.address.model.property.Buyer;
+import seedu.address.model.property.Match;
+import seedu.address.model.property.Property;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus an append-only journal on the hard disk.
+ *
+ * Saving only appends a record for each property or buyer that was added, edited or deleted since the last save,
+ * as logged by the {@link ChangeLog} of the address book, so unchanged data is not serialized or compared again.
+ * Changes that were not logged, such as reordering a whole list, are saved in a new snapshot instead.
+ * Once the journal grows large, it is compacted into a new snapshot on a background thread.
+ * Reading replays the journal on top of the snapshot.
+ *
+ * The snapshot is in the same format as {@link JsonAddressBookStorage}, and records the sequence number of the last
+ * journal record it includes, so that records are never applied twice even if the app exits during compaction.
+ * Up-to-date matches are only saved in snapshots, so they are outdated once a record is journaled after them.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    /** Number of journal records after which the journal is compacted. */
+    public static final int RECORDS_BEFORE_COMPACTION = 1000;
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String COMPACTING_JOURNAL_FILE_SUFFIX = ".journal.compacting";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final Path filePath;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "journal-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // State of the data as last written to the snapshot and journal of filePath
+    private long savedVersion;
+    private boolean isJournalReady = false;
+    private long nextSeq = 1;
+    private int numJournalRecords = 0;
+    private long savedMatchVersion = Long.MIN_VALUE;
+    private boolean hasSavedMatches = false;
+    private Future<?> pendingCompaction;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal of the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    private static Path getCompactingJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + COMPACTING_JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or journal is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        awaitCompaction();
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        Path compactingJournalFilePath = getCompactingJournalFilePath(filePath);
+        boolean hasSnapshot = Files.exists(filePath);
+        if (!hasSnapshot && !Files.exists(journalFilePath) && !Files.exists(compactingJournalFilePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        JournaledList<Property> readProperties = new JournaledList<>();
+        JournaledList<Buyer> readBuyers = new JournaledList<>();
+        long snapshotSeq = 0;
+        MatchState snapshotMatchState = MatchState.NONE;
+        List<Match> snapshotMatches = List.of();
+        long lastSeq = 0;
+        int numRecords = 0;
+        try {
+            if (hasSnapshot) {
+                JsonAddressBookStream snapshot = JsonAddressBookStream.read(filePath);
+                readProperties.setItems(snapshot.getAddressBook().getPropertyList());
+                readBuyers.setItems(snapshot.getAddressBook().getBuyerList());
+                snapshotSeq = snapshot.getJournalSeq();
+                snapshotMatchState = snapshot.getAddressBook().getMatchState();
+                snapshotMatches = snapshot.getAddressBook().getMatchList();
+            }
+            lastSeq = snapshotSeq;
+            // Records in the compacting journal come before those in the journal
+            for (Path path : List.of(compactingJournalFilePath, journalFilePath)) {
+                for (JsonAdaptedJournalRecord record : readJournal(path)) {
+                    numRecords++;
+                    if (record.getSeq() <= snapshotSeq) {
+                        continue; // Already included in the snapshot
+                    }
+                    record.applyTo(readProperties, readBuyers);
+                    lastSeq = Math.max(lastSeq, record.getSeq());
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setAllProperties(readProperties.getItems());
+        addressBook.setAllBuyers(readBuyers.getItems());
+        if (snapshotMatchState == MatchState.UP_TO_DATE && lastSeq == snapshotSeq) {
+            addressBook.restoreMatches(snapshotMatches);
+        } else if (snapshotMatchState != MatchState.NONE) {
+            addressBook.setMatchesOutdated();
+        }
+
+        if (filePath.equals(this.filePath)) {
+            // The change log of a copy of the address book read starts from its version
+            savedVersion = addressBook.getVersion();
+            nextSeq = lastSeq + 1;
+            numJournalRecords = numRecords;
+            hasSavedMatches = snapshotMatchState != MatchState.NONE;
+            isJournalReady = true;
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Returns the records in the journal at {@code journalFilePath}, or an empty list if it does not exist.
+     * An incomplete last record, left by an interrupted write, is removed from the journal.
+     */
+    private static List<JsonAdaptedJournalRecord> readJournal(Path journalFilePath) throws DataConversionException {
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        if (!Files.exists(journalFilePath)) {
+            return records;
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(journalFilePath, UTF_8);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+        for (int i = 0; i < lines.size(); i++) {
+            if (lines.get(i).isEmpty()) {
+                continue;
+            }
+            try {
+                records.add(JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalRecord.class));
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Dropping incomplete last record in journal file " + journalFilePath);
+                    dropLastLine(journalFilePath, lines);
+                    break;
+                }
+                logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+                throw new DataConversionException(e);
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Rewrites the journal at {@code journalFilePath} without the last of its {@code lines},
+     * so that later records are not appended to an incomplete line.
+     */
+    private static void dropLastLine(Path journalFilePath, List<String> lines) throws DataConversionException {
+        try {
+            Files.write(journalFilePath, lines.subList(0, lines.size() - 1), UTF_8);
+        } catch (IOException e) {
+            logger.warning("Error repairing journal file " + journalFilePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Data saved to a path other than this storage's file path is written as a full snapshot, without a journal.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            writeSnapshot(filePath, 0, addressBook);
+            return;
+        }
+
+        if (!isJournalReady) {
+            // The journal may not match the snapshot, so start over from a full snapshot
+            awaitCompaction();
+            writeSnapshot(filePath, nextSeq - 1, addressBook);
+            Files.deleteIfExists(getJournalFilePath(filePath));
+            Files.deleteIfExists(getCompactingJournalFilePath(filePath));
+            savedVersion = addressBook.getVersion();
+            numJournalRecords = 0;
+            savedMatchVersion = addressBook.getMatchVersion();
+            hasSavedMatches = addressBook.getMatchState() == MatchState.UP_TO_DATE;
+            isJournalReady = true;
+            return;
+        }
+
+        boolean areMatchesChanged = savedMatchVersion != addressBook.getMatchVersion();
+        savedMatchVersion = addressBook.getMatchVersion();
+        Optional<List<AddressBookChange>> changes = addressBook.getChangeLog().getChangesSince(savedVersion);
+        savedVersion = addressBook.getVersion();
+        if (changes.isEmpty()) {
+            // Replaced or reordered data, or changes too many to be logged, cannot be journaled
+            compact(addressBook);
+            return;
+        }
+        if (changes.get().isEmpty()) {
+            if (areMatchesChanged && (hasSavedMatches || addressBook.getMatchState() == MatchState.UP_TO_DATE)) {
+                // Matches are not journaled, so a new snapshot is needed to save or drop them
+                compact(addressBook);
+            }
+            return;
+        }
+
+        List<String> lines = new ArrayList<>();
+        for (AddressBookChange change : changes.get()) {
+            lines.add(JsonUtil.toCompactJsonString(JsonAdaptedJournalRecord.of(nextSeq++, change)));
+        }
+        try {
+            FileUtil.createParentDirsOfFile(filePath);
+            Files.write(getJournalFilePath(filePath), lines, UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            // Part of the changes may have been written, so write a full snapshot on the next save
+            isJournalReady = false;
+            throw e;
+        }
+        numJournalRecords += lines.size();
+
+        if (numJournalRecords >= RECORDS_BEFORE_COMPACTION) {
+            compact(addressBook);
+        }
+    }
+
+    /**
+     * Moves the journal aside and writes {@code addressBook}, the last saved data, with its matches if they are
+     * up to date, to a new snapshot on a background thread. Records saved in the meantime go to a new journal.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        awaitCompaction();
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        Path compactingJournalFilePath = getCompactingJournalFilePath(filePath);
+        if (Files.exists(journalFilePath)) {
+            if (Files.exists(compactingJournalFilePath)) {
+                // An earlier compaction failed, so its journal must be kept
+                Files.write(compactingJournalFilePath, Files.readAllBytes(journalFilePath), StandardOpenOption.APPEND);
+                Files.delete(journalFilePath);
+            } else {
+                Files.move(journalFilePath, compactingJournalFilePath);
+            }
+        }
+        numJournalRecords = 0;
+
+        long snapshotSeq = nextSeq - 1;
+        List<Property> snapshotProperties = new ArrayList<>(addressBook.getPropertyList());
+        List<Buyer> snapshotBuyers = new ArrayList<>(addressBook.getBuyerList());
+        hasSavedMatches = addressBook.getMatchState() == MatchState.UP_TO_DATE;
+        List<Match> snapshotMatches = hasSavedMatches ? new ArrayList<>(addressBook.getMatchList()) : null;
+        pendingCompaction = compactor.submit(() -> {
+            try {
+                AddressBook snapshot = new AddressBook();
+                snapshot.setProperties(snapshotProperties);
+                snapshot.setBuyers(snapshotBuyers);
+                if (snapshotMatches != null) {
+                    snapshot.restoreMatches(snapshotMatches);
+                }
+                writeSnapshot(filePath, snapshotSeq, snapshot);
+                Files.deleteIfExists(compactingJournalFilePath);
+            } catch (IOException e) {
+                logger.warning("Failed to compact journal of " + filePath + ": " + e);
+            }
+        });
+    }
+
+    /**
+     * Waits for any compaction in progress to finish.
+     */
+    void awaitCompaction() {
+        if (pendingCompaction == null) {
+            return;
+        }
+        try {
+            pendingCompaction.get();
+        } catch (InterruptedException | ExecutionException e) {
+            logger.warning("Interrupted while waiting for journal compaction: " + e);
+        }
+        pendingCompaction = null;
+    }
+
+    /**
+     * Writes a snapshot of the given data to {@code filePath}, replacing any existing snapshot atomically.
+     */
+    private static void writeSnapshot(Path filePath, long journalSeq, ReadOnlyAddressBook addressBook)
+            throws IOException {
+        JsonAddressBookStream.write(addressBook, journalSeq, filePath);
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.property.Listable;
+
+/**
+ * A list of items read from a snapshot, indexed by their listable identity, that journaled changes are replayed on.
+ */
+class JournaledList<T extends Listable> {
+
+    public static final String MESSAGE_DUPLICATE_ITEM = "Journal adds an item that already exists: %1$s";
+    public static final String MESSAGE_MISSING_ITEM = "Journal changes an item that does not exist: %1$s";
+    public static final String MESSAGE_INVALID_INDEX = "Journal adds an item at an invalid index: %1$d";
+
+    private final List<T> items = new ArrayList<>();
+    private final Map<Object, T> identityToItem = new HashMap<>();
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * Replaces the contents of this list with {@code newItems}.
+     */
+    public void setItems(List<? extends T> newItems) {
+        items.clear();
+        items.addAll(newItems);
+        identityToItem.clear();
+        for (T item : newItems) {
+            identityToItem.put(item.getListableIdentity(), item);
+        }
+    }
+
+    /**
+     * Inserts {@code item} at {@code index}.
+     *
+     * @throws IllegalValueException if an item with the same identity exists, or the index is out of bounds.
+     */
+    public void add(int index, T item) throws IllegalValueException {
+        if (identityToItem.containsKey(item.getListableIdentity())) {
+            throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_ITEM, item.getListableIdentity()));
+        }
+        if (index < 0 || index > items.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_INDEX, index));
+        }
+        items.add(index, item);
+        identityToItem.put(item.getListableIdentity(), item);
+    }
+
+    /**
+     * Replaces the item with the same identity as {@code editedItem}, keeping its position.
+     *
+     * @throws IllegalValueException if no item has the same identity.
+     */
+    public void set(T editedItem) throws IllegalValueException {
+        Object identity = editedItem.getListableIdentity();
+        T target = identityToItem.get(identity);
+        if (target == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_ITEM, identity));
+        }
+        items.set(indexOf(target), editedItem);
+        identityToItem.put(identity, editedItem);
+    }
+
+    /**
+     * Removes the item with the given {@code identity}.
+     *
+     * @throws IllegalValueException if no item has the identity.
+     */
+    public void remove(Object identity) throws IllegalValueException {
+        T target = identityToItem.remove(identity);
+        if (target == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_ITEM, identity));
+        }
+        items.remove(indexOf(target));
+    }
+
+    private int indexOf(T item) {
+        for (int i = 0; i < items.size(); i++) {
+            if (items.get(i) == item) {
+                return i;
+            }
+        }
+        throw new AssertionError("Indexed item must be in the list");
+    }
+}
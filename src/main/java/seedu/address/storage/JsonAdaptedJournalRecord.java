@@ -0,0 +1,173 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.field.Name;
+import seedu.address.model.property.Address;
+import seedu.address.model.property.Buyer;
+import seedu.address.model.property.Property;
+
+/**
+ * Jackson-friendly version of a single change to the properties or buyers, as written to the journal.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal record's %s field is missing!";
+
+    /**
+     * Kinds of changes that can be journaled.
+     */
+    enum Type {
+        ADD_PROPERTY, EDIT_PROPERTY, DELETE_PROPERTY, ADD_BUYER, EDIT_BUYER, DELETE_BUYER
+    }
+
+    private final long seq;
+    private final Type type;
+    private final Integer index;
+    private final String key;
+    private final JsonAdaptedProperty property;
+    private final JsonAdaptedBuyer buyer;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("seq") long seq, @JsonProperty("type") Type type,
+                                    @JsonProperty("index") Integer index, @JsonProperty("key") String key,
+                                    @JsonProperty("property") JsonAdaptedProperty property,
+                                    @JsonProperty("buyer") JsonAdaptedBuyer buyer) {
+        this.seq = seq;
+        this.type = type;
+        this.index = index;
+        this.key = key;
+        this.property = property;
+        this.buyer = buyer;
+    }
+
+    public static JsonAdaptedJournalRecord addProperty(long seq, int index, Property property) {
+        return new JsonAdaptedJournalRecord(seq, Type.ADD_PROPERTY, index, null, new JsonAdaptedProperty(property),
+                null);
+    }
+
+    public static JsonAdaptedJournalRecord editProperty(long seq, Property property) {
+        return new JsonAdaptedJournalRecord(seq, Type.EDIT_PROPERTY, null, null, new JsonAdaptedProperty(property),
+                null);
+    }
+
+    public static JsonAdaptedJournalRecord deleteProperty(long seq, Property property) {
+        return new JsonAdaptedJournalRecord(seq, Type.DELETE_PROPERTY, null, property.getAddress().value, null, null);
+    }
+
+    public static JsonAdaptedJournalRecord addBuyer(long seq, int index, Buyer buyer) {
+        return new JsonAdaptedJournalRecord(seq, Type.ADD_BUYER, index, null, null, new JsonAdaptedBuyer(buyer));
+    }
+
+    public static JsonAdaptedJournalRecord editBuyer(long seq, Buyer buyer) {
+        return new JsonAdaptedJournalRecord(seq, Type.EDIT_BUYER, null, null, null, new JsonAdaptedBuyer(buyer));
+    }
+
+    public static JsonAdaptedJournalRecord deleteBuyer(long seq, Buyer buyer) {
+        return new JsonAdaptedJournalRecord(seq, Type.DELETE_BUYER, null, buyer.getName().fullName, null, null);
+    }
+
+    /**
+     * Returns the record of {@code change}, with the sequence number {@code seq}.
+     */
+    public static JsonAdaptedJournalRecord of(long seq, AddressBookChange change) {
+        switch (change.getType()) {
+        case ADD_PROPERTY:
+            return addProperty(seq, change.getIndex(), change.getProperty());
+        case EDIT_PROPERTY:
+            return editProperty(seq, change.getProperty());
+        case DELETE_PROPERTY:
+            return deleteProperty(seq, change.getProperty());
+        case ADD_BUYER:
+            return addBuyer(seq, change.getIndex(), change.getBuyer());
+        case EDIT_BUYER:
+            return editBuyer(seq, change.getBuyer());
+        case DELETE_BUYER:
+            return deleteBuyer(seq, change.getBuyer());
+        default:
+            assert false;
+            return null;
+        }
+    }
+
+    public long getSeq() {
+        return seq;
+    }
+
+    /**
+     * Applies this change to the given {@code properties} and {@code buyers}.
+     *
+     * @throws IllegalValueException if this record is incomplete, or cannot be applied to the lists.
+     */
+    public void applyTo(JournaledList<Property> properties, JournaledList<Buyer> buyers)
+            throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+
+        switch (type) {
+        case ADD_PROPERTY:
+            properties.add(getIndex(), getProperty());
+            break;
+        case EDIT_PROPERTY:
+            properties.set(getProperty());
+            break;
+        case DELETE_PROPERTY:
+            if (!Address.isValidAddress(getKey())) {
+                throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
+            }
+            properties.remove(new Address(key));
+            break;
+        case ADD_BUYER:
+            buyers.add(getIndex(), getBuyer());
+            break;
+        case EDIT_BUYER:
+            buyers.set(getBuyer());
+            break;
+        case DELETE_BUYER:
+            if (!Name.isValidName(getKey())) {
+                throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+            }
+            buyers.remove(new Name(key));
+            break;
+        default:
+            assert false;
+        }
+    }
+
+    private int getIndex() throws IllegalValueException {
+        if (index == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "index"));
+        }
+        return index;
+    }
+
+    private String getKey() throws IllegalValueException {
+        if (key == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "key"));
+        }
+        return key;
+    }
+
+    private Property getProperty() throws IllegalValueException {
+        if (property == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "property"));
+        }
+        return property.toModelType();
+    }
+
+    private Buyer getBuyer() throws IllegalValueException {
+        if (buyer == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "buyer"));
+        }
+        return buyer.toModelType();
+    }
+}
@@ -12,20 +12,23 @@ import seedu.address.model.property.Property;
 
 /**
  * Jackson-friendly version of {@link Match}.
+ * The property and buyer are referred to by their identities, the address of the property and the name of the buyer,
+ * as they are stored in full elsewhere.
  */
 class JsonAdaptedMatch {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Match's %s field is missing!";
-    private final String propertyName;
+    public static final String UNKNOWN_FIELD_MESSAGE_FORMAT = "Match's %s is not in the address book!";
+    private final String propertyAddress;
     private final String buyerName;
 
     /**
      * Constructs a {@code JsonAdaptedMatch} with the given match details.
      */
     @JsonCreator
-    public JsonAdaptedMatch(@JsonProperty("propertyName") String propertyName,
+    public JsonAdaptedMatch(@JsonProperty("propertyAddress") String propertyAddress,
                             @JsonProperty("buyerName") String buyerName) {
-        this.propertyName = propertyName;
+        this.propertyAddress = propertyAddress;
         this.buyerName = buyerName;
     }
 
@@ -33,39 +36,39 @@ class JsonAdaptedMatch {
      * Converts a given {@code Match} into this class for Jackson use.
      */
     public JsonAdaptedMatch(Match source) {
-        propertyName = source.getProperty().getName().toString();
-        buyerName = source.getBuyer().getName().toString();
+        propertyAddress = source.getProperty().getListableIdentity().toString();
+        buyerName = source.getBuyer().getListableIdentity().toString();
     }
 
     /**
-     * Converts this Jackson-friendly adapted match object into the model's {@code Match} object.
+     * Converts this Jackson-friendly adapted match object into the model's {@code Match} object, between the
+     * property in {@code addressToProperty} and the buyer in {@code nameToBuyer} it refers to.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted match.
      */
-    public Match toModelType(Map<String, Property> propertyNameToPropertyMap, Map<String, Buyer> buyerNameToBuyerMap)
+    public Match toModelType(Map<String, Property> addressToProperty, Map<String, Buyer> nameToBuyer)
             throws IllegalValueException {
-        if (propertyName == null) {
+        if (propertyAddress == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     Property.class.getSimpleName()));
         }
-        final Property modelProperty = propertyNameToPropertyMap.get(propertyName);
+        final Property modelProperty = addressToProperty.get(propertyAddress);
 
         if (modelProperty == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+            throw new IllegalValueException(String.format(UNKNOWN_FIELD_MESSAGE_FORMAT,
                     Property.class.getSimpleName()));
         }
 
         if (buyerName == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Buyer.class.getSimpleName()));
         }
-        final Buyer modelBuyer = buyerNameToBuyerMap.get(buyerName);
+        final Buyer modelBuyer = nameToBuyer.get(buyerName);
 
         if (modelBuyer == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Buyer.class.getSimpleName()));
+            throw new IllegalValueException(String.format(UNKNOWN_FIELD_MESSAGE_FORMAT, Buyer.class.getSimpleName()));
         }
 
-        final Match match = new Match(modelProperty, modelBuyer);
-        return match;
+        return new Match(modelProperty, modelBuyer);
     }
 
 }
@@ -55,7 +55,7 @@ class JsonAdaptedProperty {
         name = source.getName().fullName;
         address = source.getAddress().value;
         seller = new JsonAdaptedPerson(source.getSeller());
-        price = source.getPrice().value.toString();
+        price = source.getPrice().toString();
         tagged.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
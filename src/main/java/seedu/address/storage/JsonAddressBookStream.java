@@ -0,0 +1,204 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.match.MatchFingerprint;
+import seedu.address.model.match.MatchState;
+import seedu.address.model.property.Buyer;
+import seedu.address.model.property.Match;
+import seedu.address.model.property.Property;
+
+/**
+ * Reads and writes AddressBook data in the format of {@link JsonSerializableAddressBook}, one record at a time.
+ * Each property or buyer is converted to or from the model type as soon as it is written or read,
+ * so the whole document is never held in memory as a string or as Jackson-friendly objects.
+ *
+ * The data may also record the sequence number of the last journal record it includes,
+ * see {@link JournalAddressBookStorage}.
+ * Matches are only written if they are up to date, and only restored if they still are when read.
+ */
+class JsonAddressBookStream {
+
+    public static final String MESSAGE_NOT_AN_OBJECT = "Address book data should be a JSON object.";
+    public static final String MESSAGE_NOT_AN_ARRAY = "Field %1$s should be a JSON array.";
+
+    private static final String JOURNAL_SEQ_FIELD = "journalSeq";
+    private static final String PROPERTIES_FIELD = "properties";
+    private static final String BUYERS_FIELD = "buyers";
+    private static final String MATCH_FINGERPRINT_FIELD = "matchFingerprint";
+    private static final String MATCHES_FIELD = "matches";
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final AddressBook addressBook;
+    private final long journalSeq;
+
+    private JsonAddressBookStream(AddressBook addressBook, long journalSeq) {
+        this.addressBook = addressBook;
+        this.journalSeq = journalSeq;
+    }
+
+    public AddressBook getAddressBook() {
+        return addressBook;
+    }
+
+    /**
+     * Returns the sequence number of the last journal record included in the data, or 0 if there is none.
+     */
+    public long getJournalSeq() {
+        return journalSeq;
+    }
+
+    /**
+     * Writes the properties, buyers and up-to-date matches of {@code addressBook} to {@code filePath},
+     * replacing the file atomically.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        write(addressBook, 0, filePath);
+    }
+
+    /**
+     * Writes the properties, buyers and up-to-date matches of {@code addressBook}, and the sequence number of
+     * the last journal record they include, to {@code filePath}, replacing the file atomically.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, long journalSeq, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        Path tempFilePath = FileUtil.getTempFile(filePath);
+        FileUtil.createParentDirsOfFile(tempFilePath);
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFilePath), BUFFER_SIZE);
+             JsonGenerator generator = JsonUtil.createJsonGenerator(out)) {
+            generator.writeStartObject();
+            if (journalSeq > 0) {
+                generator.writeNumberField(JOURNAL_SEQ_FIELD, journalSeq);
+            }
+            generator.writeArrayFieldStart(PROPERTIES_FIELD);
+            for (Property property : addressBook.getPropertyList()) {
+                generator.writeObject(new JsonAdaptedProperty(property));
+            }
+            generator.writeEndArray();
+            generator.writeArrayFieldStart(BUYERS_FIELD);
+            for (Buyer buyer : addressBook.getBuyerList()) {
+                generator.writeObject(new JsonAdaptedBuyer(buyer));
+            }
+            generator.writeEndArray();
+            if (addressBook.getMatchState() == MatchState.UP_TO_DATE) {
+                generator.writeStringField(MATCH_FINGERPRINT_FIELD,
+                        MatchFingerprint.of(addressBook.getPropertyList(), addressBook.getBuyerList()));
+                generator.writeArrayFieldStart(MATCHES_FIELD);
+                for (Match match : addressBook.getMatchList()) {
+                    generator.writeObject(new JsonAdaptedMatch(match));
+                }
+                generator.writeEndArray();
+            }
+            generator.writeEndObject();
+        }
+        FileUtil.moveAtomically(tempFilePath, filePath);
+    }
+
+    /**
+     * Reads the data at {@code filePath}, which must exist.
+     *
+     * @throws IOException if the file cannot be read or is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static JsonAddressBookStream read(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+
+        AddressBook addressBook = new AddressBook();
+        long journalSeq = 0;
+        String matchFingerprint = null;
+        List<JsonAdaptedMatch> matches = new ArrayList<>();
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE);
+             JsonParser parser = JsonUtil.createJsonParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalValueException(MESSAGE_NOT_AN_OBJECT);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                switch (fieldName) {
+                case JOURNAL_SEQ_FIELD:
+                    journalSeq = parser.getValueAsLong();
+                    break;
+                case PROPERTIES_FIELD:
+                    readProperties(parser, addressBook);
+                    break;
+                case BUYERS_FIELD:
+                    readBuyers(parser, addressBook);
+                    break;
+                case MATCH_FINGERPRINT_FIELD:
+                    matchFingerprint = parser.getValueAsString();
+                    break;
+                case MATCHES_FIELD:
+                    readMatches(parser, matches);
+                    break;
+                default:
+                    parser.skipChildren(); // Unknown fields are ignored, like in JsonUtil
+                }
+            }
+        }
+        JsonSerializableAddressBook.restoreMatches(addressBook, matchFingerprint, matches);
+        return new JsonAddressBookStream(addressBook, journalSeq);
+    }
+
+    private static void readProperties(JsonParser parser, AddressBook addressBook)
+            throws IOException, IllegalValueException {
+        checkIsArray(parser, PROPERTIES_FIELD);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            Property property = parser.readValueAs(JsonAdaptedProperty.class).toModelType();
+            if (addressBook.hasProperty(property)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PROPERTY);
+            }
+            addressBook.addProperty(property);
+        }
+    }
+
+    private static void readBuyers(JsonParser parser, AddressBook addressBook)
+            throws IOException, IllegalValueException {
+        checkIsArray(parser, BUYERS_FIELD);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            Buyer buyer = parser.readValueAs(JsonAdaptedBuyer.class).toModelType();
+            if (addressBook.hasBuyer(buyer)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_BUYER);
+            }
+            addressBook.addBuyer(buyer);
+        }
+    }
+
+    /**
+     * Reads the matches into {@code matches}, to be restored once all properties and buyers are read.
+     */
+    private static void readMatches(JsonParser parser, List<JsonAdaptedMatch> matches)
+            throws IOException, IllegalValueException {
+        checkIsArray(parser, MATCHES_FIELD);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            matches.add(parser.readValueAs(JsonAdaptedMatch.class));
+        }
+    }
+
+    private static void checkIsArray(JsonParser parser, String fieldName) throws IllegalValueException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new IllegalValueException(String.format(MESSAGE_NOT_AN_ARRAY, fieldName));
+        }
+    }
+}
@@ -13,11 +13,17 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.match.MatchFingerprint;
+import seedu.address.model.match.MatchState;
 import seedu.address.model.property.Buyer;
+import seedu.address.model.property.Match;
 import seedu.address.model.property.Property;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
+ *
+ * The matches of {@code match auto} between all properties and buyers are saved with the fingerprint of the
+ * properties and buyers, so that they are only restored if they are still the matches of the loaded data.
  */
 @JsonRootName(value = "addressbook")
 class JsonSerializableAddressBook {
@@ -29,15 +35,23 @@ class JsonSerializableAddressBook {
 
     private final List<JsonAdaptedProperty> properties = new ArrayList<>();
     private final List<JsonAdaptedBuyer> buyers = new ArrayList<>();
+    private final String matchFingerprint;
+    private final List<JsonAdaptedMatch> matches = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonSerializableAddressBook} with the given properties.
+     * Constructs a {@code JsonSerializableAddressBook} with the given properties, buyers and matches.
      */
     @JsonCreator
     public JsonSerializableAddressBook(@JsonProperty("properties") List<JsonAdaptedProperty> properties,
-                                       @JsonProperty("buyers") List<JsonAdaptedBuyer> buyers) {
+                                       @JsonProperty("buyers") List<JsonAdaptedBuyer> buyers,
+                                       @JsonProperty("matchFingerprint") String matchFingerprint,
+                                       @JsonProperty("matches") List<JsonAdaptedMatch> matches) {
         this.properties.addAll(properties);
         this.buyers.addAll(buyers);
+        this.matchFingerprint = matchFingerprint;
+        if (matches != null) {
+            this.matches.addAll(matches);
+        }
     }
 
     /**
@@ -48,6 +62,12 @@ class JsonSerializableAddressBook {
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
         properties.addAll(source.getPropertyList().stream().map(JsonAdaptedProperty::new).collect(Collectors.toList()));
         buyers.addAll(source.getBuyerList().stream().map(JsonAdaptedBuyer::new).collect(Collectors.toList()));
+        if (source.getMatchState() == MatchState.UP_TO_DATE) {
+            matchFingerprint = MatchFingerprint.of(source.getPropertyList(), source.getBuyerList());
+            matches.addAll(source.getMatchList().stream().map(JsonAdaptedMatch::new).collect(Collectors.toList()));
+        } else {
+            matchFingerprint = null;
+        }
     }
 
     /**
@@ -57,11 +77,8 @@ class JsonSerializableAddressBook {
      */
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
-        Map<String, Property> propertyNameToPropertyMap = new HashMap<>();
-        Map<String, Buyer> buyerNameToBuyerMap = new HashMap<>();
         for (JsonAdaptedProperty jsonAdaptedProperty : properties) {
             Property property = jsonAdaptedProperty.toModelType();
-            propertyNameToPropertyMap.put(property.getName().toString(), property);
             if (addressBook.hasProperty(property)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PROPERTY);
             }
@@ -70,14 +87,47 @@ class JsonSerializableAddressBook {
 
         for (JsonAdaptedBuyer jsonAdaptedBuyer : buyers) {
             Buyer buyer = jsonAdaptedBuyer.toModelType();
-            buyerNameToBuyerMap.put(buyer.getName().toString(), buyer);
             if (addressBook.hasBuyer(buyer)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_BUYER);
             }
             addressBook.addBuyer(buyer);
         }
 
+        restoreMatches(addressBook, matchFingerprint, matches);
         return addressBook;
     }
 
+    /**
+     * Restores the {@code matches} saved with {@code matchFingerprint}, if any, to {@code addressBook} if they are
+     * still the matches of its properties and buyers, or records that they are outdated otherwise.
+     * Saved matches that cannot be restored are also treated as outdated, as they can always be matched again.
+     */
+    static void restoreMatches(AddressBook addressBook, String matchFingerprint, List<JsonAdaptedMatch> matches) {
+        if (matchFingerprint == null) {
+            return;
+        }
+        if (!matchFingerprint.equals(MatchFingerprint.of(addressBook.getPropertyList(), addressBook.getBuyerList()))) {
+            addressBook.setMatchesOutdated();
+            return;
+        }
+
+        Map<String, Property> addressToProperty = new HashMap<>();
+        for (Property property : addressBook.getPropertyList()) {
+            addressToProperty.put(property.getListableIdentity().toString(), property);
+        }
+        Map<String, Buyer> nameToBuyer = new HashMap<>();
+        for (Buyer buyer : addressBook.getBuyerList()) {
+            nameToBuyer.put(buyer.getListableIdentity().toString(), buyer);
+        }
+        try {
+            List<Match> modelMatches = new ArrayList<>();
+            for (JsonAdaptedMatch match : matches) {
+                modelMatches.add(match.toModelType(addressToProperty, nameToBuyer));
+            }
+            addressBook.restoreMatches(modelMatches);
+        } catch (IllegalValueException | IllegalArgumentException e) {
+            addressBook.setMatchesOutdated();
+        }
+    }
+
 }
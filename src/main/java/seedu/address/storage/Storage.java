@@ -5,12 +5,10 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataConversionException;
-import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -63,36 +61,26 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     }
 
     /**
-     * Imports properties from the given csv file to the {@link ReadOnlyAddressBook}.
+     * Starts importing properties from the given csv file in the background.
      *
-     * @param addressBook cannot be null.
      * @param file cannot be null.
-     * @return new AddressBook after importing properties.
-     * @throws IOException if there was any problem reading from the file.
-     * @throws ParseException if the csv file content cannot be recognized.
+     * @param progressHandler called from a background thread with the number of rows read so far.
+     * @return the import, which returns the properties in the file.
      */
-    static AddressBook importProperties(ReadOnlyAddressBook addressBook, File file) throws IOException, ParseException {
-        requireAllNonNull(file, addressBook);
-        List<Property> properties = CsvManager.importProperties(file);
-        AddressBook newAddressBook = new AddressBook(addressBook);
-        newAddressBook.addAllProperties(properties);
-        return newAddressBook;
+    static CsvImport<Property> importProperties(File file, Consumer<Integer> progressHandler) {
+        requireAllNonNull(file, progressHandler);
+        return CsvManager.startImportProperties(file, progressHandler);
     }
 
     /**
-     * Imports buyers from the given csv file to the {@link ReadOnlyAddressBook}.
+     * Starts importing buyers from the given csv file in the background.
      *
-     * @param addressBook cannot be null.
      * @param file cannot be null.
-     * @return new AddressBook after importing buyers.
-     * @throws IOException if there was any problem reading from the file.
-     * @throws ParseException if the csv file content cannot be recognized.
+     * @param progressHandler called from a background thread with the number of rows read so far.
+     * @return the import, which returns the buyers in the file.
      */
-    static AddressBook importBuyers(ReadOnlyAddressBook addressBook, File file) throws IOException, ParseException {
-        requireAllNonNull(file, addressBook);
-        List<Buyer> buyers = CsvManager.importBuyers(file);
-        AddressBook newAddressBook = new AddressBook(addressBook);
-        newAddressBook.addAllBuyers(buyers);
-        return newAddressBook;
+    static CsvImport<Buyer> importBuyers(File file, Consumer<Integer> progressHandler) {
+        requireAllNonNull(file, progressHandler);
+        return CsvManager.startImportBuyers(file, progressHandler);
     }
 }
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -76,4 +77,14 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void flush() throws IOException {
+        addressBookStorage.flush();
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<IOException> saveErrorHandler) {
+        addressBookStorage.setSaveErrorHandler(saveErrorHandler);
+    }
+
 }
@@ -1,9 +1,5 @@
 package seedu.address.ui;
 
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.List;
-
 import javafx.beans.property.ReadOnlyDoubleProperty;
 import javafx.beans.value.ObservableDoubleValue;
 import javafx.fxml.FXML;
@@ -12,7 +8,6 @@ import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import seedu.address.model.property.Buyer;
-import seedu.address.model.tag.Tag;
 
 /**
  * An UI component that displays information of a {@code Buyer}.
@@ -30,7 +25,8 @@ public class BuyerCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Buyer buyer;
+    private final ObservableDoubleValue maxWidth;
+    private Buyer buyer;
 
     @FXML
     private HBox cardPane;
@@ -47,6 +43,20 @@ public class BuyerCard extends UiPart<Region> {
     @FXML
     private Label price;
 
+    /**
+     * Creates an empty {@code BuyerCard}, which can be reused to display different buyers.
+     *
+     * @param parentWidthProperty The width of the parent container.
+     */
+    public BuyerCard(ReadOnlyDoubleProperty parentWidthProperty) {
+        super(FXML);
+
+        // Allow wrapping of labels
+        maxWidth = parentWidthProperty.subtract(WIDTH_PADDING);
+        phone.maxWidthProperty().bind(maxWidth);
+        email.maxWidthProperty().bind(maxWidth);
+    }
+
     /**
      * Creates a {@code BuyerCard} with the given {@code Buyer} and index to display.
      *
@@ -55,27 +65,25 @@ public class BuyerCard extends UiPart<Region> {
      * @param parentWidthProperty The width of the parent container.
      */
     public BuyerCard(Buyer buyer, int displayedIndex, ReadOnlyDoubleProperty parentWidthProperty) {
-        super(FXML);
+        this(parentWidthProperty);
+        setBuyer(buyer, displayedIndex);
+    }
+
+    public Buyer getBuyer() {
+        return buyer;
+    }
+
+    /**
+     * Displays {@code buyer} with the given index in this card, in place of the buyer displayed before.
+     */
+    public void setBuyer(Buyer buyer, int displayedIndex) {
         this.buyer = buyer;
         id.setText(displayedIndex + ". ");
         name.setText(buyer.getName().fullName);
         price.setText('$' + buyer.getPrice().toString());
         phone.setText(buyer.getPhone().value);
         email.setText(buyer.getEmail().value);
-
-        // Allow wrapping of labels
-        ObservableDoubleValue maxWidth = parentWidthProperty.subtract(WIDTH_PADDING);
-        phone.maxWidthProperty().bind(maxWidth);
-        email.maxWidthProperty().bind(maxWidth);
-
-        List<Tag> tagList = new ArrayList<>(buyer.getTags());
-        tagList.sort(Comparator.comparing(tag -> tag.tagName));
-        for (Tag tag : tagList) {
-            Label label = new Label(tag.tagName);
-            label.setWrapText(true);
-            label.maxWidthProperty().bind(maxWidth);
-            tags.getChildren().add(label);
-        }
+        TagLabels.show(tags, buyer.getTags(), maxWidth);
     }
 
     @Override
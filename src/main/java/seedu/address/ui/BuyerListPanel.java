@@ -2,6 +2,7 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
@@ -20,11 +21,16 @@ public class BuyerListPanel extends UiPart<Region> {
     @FXML
     private ListView<Buyer> buyerListView;
 
+    private final Runnable endReachedHandler;
+
     /**
      * Creates a {@code BuyerListPanel} with the given {@code ObservableList}.
+     *
+     * @param endReachedHandler Run when the last buyer of the list is shown, such as to show more of the list.
      */
-    public BuyerListPanel(ObservableList<Buyer> buyerList) {
+    public BuyerListPanel(ObservableList<Buyer> buyerList, Runnable endReachedHandler) {
         super(FXML);
+        this.endReachedHandler = endReachedHandler;
         buyerListView.setItems(buyerList);
         buyerListView.setCellFactory(listView -> new BuyerListViewCell());
     }
@@ -33,6 +39,8 @@ public class BuyerListPanel extends UiPart<Region> {
      * Custom {@code ListCell} that displays the graphics of a {@code Buyer} using a {@code BuyerCard}.
      */
     class BuyerListViewCell extends ListCell<Buyer> {
+        private BuyerCard card;
+
         @Override
         protected void updateItem(Buyer buyer, boolean empty) {
             super.updateItem(buyer, empty);
@@ -41,8 +49,15 @@ public class BuyerListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                BuyerCard card = new BuyerCard(buyer, getIndex() + 1, buyerListView.widthProperty());
+                if (card == null) {
+                    card = new BuyerCard(buyerListView.widthProperty());
+                }
+                card.setBuyer(buyer, getIndex() + 1);
                 setGraphic(card.getRoot());
+                if (getIndex() == buyerListView.getItems().size() - 1) {
+                    // The list is not changed while its cells are being laid out
+                    Platform.runLater(endReachedHandler);
+                }
             }
         }
     }
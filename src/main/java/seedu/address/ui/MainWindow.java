@@ -5,10 +5,12 @@ import java.nio.file.Paths;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextInputControl;
+import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.HBox;
@@ -19,12 +21,16 @@ import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandPreAction;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.commands.MoreCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.property.Listable;
+import seedu.address.storage.CsvImport;
 import seedu.address.ui.stats.Stat;
 
 /**
@@ -49,6 +55,8 @@ public class MainWindow extends UiPart<Stage> {
     private StatWindow statWindow;
 
     private boolean showingMatchAutoView = false;
+    private ImportCommand<?> runningImportCommand; // Import command reading its file in the background, if any
+    private CsvImport<?> runningImport;
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -91,6 +99,7 @@ public class MainWindow extends UiPart<Stage> {
         setWindowDefaultSize(logic.getGuiSettings());
 
         setAccelerators();
+        setImportCancelKey();
 
         helpWindow = new HelpWindow();
         statWindow = new StatWindow();
@@ -135,14 +144,26 @@ public class MainWindow extends UiPart<Stage> {
         });
     }
 
+    /**
+     * Cancels the import running in the background, if any, when Esc is pressed.
+     */
+    private void setImportCancelKey() {
+        getRoot().addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.ESCAPE && runningImport != null) {
+                runningImport.cancel();
+                event.consume();
+            }
+        });
+    }
+
     /**
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        propertyListPanel = new PropertyListPanel(logic.getFilteredPropertyList());
+        propertyListPanel = new PropertyListPanel(logic.getFilteredPropertyList(), this::handleListEndReached);
         propertyListPanelPlaceholder.getChildren().add(propertyListPanel.getRoot());
 
-        buyerListPanel = new BuyerListPanel(logic.getFilteredBuyerList());
+        buyerListPanel = new BuyerListPanel(logic.getFilteredBuyerList(), this::handleListEndReached);
         buyerListPanelPlaceholder.getChildren().add(buyerListPanel.getRoot());
 
         matchListPanel = new MatchListPanel(logic.getMatchList());
@@ -150,6 +171,7 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveErrorHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
@@ -250,6 +272,20 @@ public class MainWindow extends UiPart<Stage> {
         }
     }
 
+    /**
+     * Shows more matches after the user scrolls to the end of the matches shown, if there are more to show.
+     */
+    private void handleListEndReached() {
+        if (!logic.hasMoreMatches()) {
+            return;
+        }
+        try {
+            executeCommand(MoreCommand.COMMAND_WORD);
+        } catch (CommandException | ParseException e) {
+            logger.warning("handleListEndReached failed!");
+        }
+    }
+
     /**
      * Closes the application.
      */
@@ -266,18 +302,22 @@ public class MainWindow extends UiPart<Stage> {
     /**
      * Executes the command and returns the result.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see seedu.address.logic.Logic#parseCommand(String, boolean)
      */
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
         try {
-            logic.validateCommand(commandText, showingMatchAutoView);
+            Command command = logic.parseCommand(commandText, showingMatchAutoView);
             CommandResult commandResult;
-            CommandPreAction commandPreAction = logic.getCommandPreAction(commandText);
+            CommandPreAction commandPreAction = command.getPreAction();
             if (commandPreAction.requiresFile()) {
                 File file = getCsvFile(commandPreAction.getFileDialogPrompt(), commandPreAction.isFileSave());
-                commandResult = logic.execute(commandText, file);
+                if (file != null && command instanceof ImportCommand) {
+                    commandResult = startImport((ImportCommand<?>) command, file);
+                } else {
+                    commandResult = logic.execute(command, file);
+                }
             } else {
-                commandResult = logic.execute(commandText);
+                commandResult = logic.execute(command);
             }
 
             handleUiAction(commandResult);
@@ -293,6 +333,42 @@ public class MainWindow extends UiPart<Stage> {
         }
     }
 
+    /**
+     * Starts reading the file of the import {@code command} in the background, showing its progress in the result
+     * display. The entries read are added once the whole file is read, unless the import is cancelled.
+     */
+    private <T extends Listable> CommandResult startImport(ImportCommand<T> command, File file)
+            throws CommandException {
+        if (runningImport != null) {
+            throw new CommandException(ImportCommand.MESSAGE_ALREADY_IMPORTING);
+        }
+        String entities = command.getEntities();
+        CsvImport<T> csvImport = logic.startImport(command, file, rowsRead -> Platform.runLater(() -> {
+            if (runningImportCommand == command) {
+                resultDisplay.setFeedbackToUser(String.format(ImportCommand.MESSAGE_IN_PROGRESS, entities, rowsRead));
+            }
+        }));
+        runningImportCommand = command;
+        runningImport = csvImport;
+        csvImport.whenDone(() -> Platform.runLater(() -> finishImport(command, csvImport)));
+        return new CommandResult(String.format(ImportCommand.MESSAGE_IN_PROGRESS, entities, 0));
+    }
+
+    /**
+     * Adds the entries read by {@code csvImport} in one batch, and shows the result.
+     */
+    private <T extends Listable> void finishImport(ImportCommand<T> command, CsvImport<T> csvImport) {
+        runningImportCommand = null;
+        runningImport = null;
+        try {
+            CommandResult commandResult = logic.finishImport(command, csvImport);
+            logger.info("Result: " + commandResult.getFeedbackToUser());
+            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+        } catch (CommandException e) {
+            resultDisplay.setFeedbackToUser(e.getMessage());
+        }
+    }
+
     /**
      * Gets user to select a destination for saving csv.
      *
@@ -1,7 +1,5 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
-
 import javafx.beans.property.ReadOnlyDoubleProperty;
 import javafx.beans.value.ObservableDoubleValue;
 import javafx.fxml.FXML;
@@ -28,8 +26,8 @@ public class MatchCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Match match;
-    private ObservableDoubleValue maxWidth;
+    private final ObservableDoubleValue maxWidth;
+    private Match match;
 
     @FXML
     private Label id;
@@ -60,6 +58,21 @@ public class MatchCard extends UiPart<Region> {
     @FXML
     private FlowPane buyerTags;
 
+    /**
+     * Creates an empty {@code MatchCard}, which can be reused to display different matches.
+     *
+     * @param parentWidthProperty The width of the parent container.
+     */
+    public MatchCard(ReadOnlyDoubleProperty parentWidthProperty) {
+        super(FXML);
+
+        // Set internal width of property/buyer half, and allow wrapping of labels
+        maxWidth = parentWidthProperty.divide(2).subtract(WIDTH_PADDING);
+        propertyPhone.maxWidthProperty().bind(maxWidth);
+        propertySeller.maxWidthProperty().bind(maxWidth);
+        propertyEmail.maxWidthProperty().bind(maxWidth);
+    }
+
     /**
      * Creates a {@code MatchCard} with the given {@code Match} and index to display.
      *
@@ -68,50 +81,40 @@ public class MatchCard extends UiPart<Region> {
      * @param parentWidthProperty The width of the parent container.
      */
     public MatchCard(Match match, int displayedIndex, ReadOnlyDoubleProperty parentWidthProperty) {
-        super(FXML);
+        this(parentWidthProperty);
+        setMatch(match, displayedIndex);
+    }
+
+    public Match getMatch() {
+        return match;
+    }
+
+    /**
+     * Displays {@code match} with the given index in this card, in place of the match displayed before.
+     */
+    public void setMatch(Match match, int displayedIndex) {
         this.match = match;
         id.setText(displayedIndex + ". ");
-
-        // Set internal width of property/buyer half
-        maxWidth = parentWidthProperty.divide(2).subtract(WIDTH_PADDING);
-        initProperty(match.getProperty());
-        initBuyer(match.getBuyer());
+        setProperty(match.getProperty());
+        setBuyer(match.getBuyer());
     }
 
-    private void initProperty(Property property) {
+    private void setProperty(Property property) {
         propertyName.setText(property.getName().fullName);
         propertyPrice.setText('$' + property.getPrice().toString());
         propertyAddress.setText(property.getAddress().value);
         propertySeller.setText(property.getSeller().getName().fullName);
         propertyPhone.setText(property.getSeller().getPhone().value);
         propertyEmail.setText(property.getSeller().getEmail().value);
-
-        // Allow wrapping of labels
-        propertyPhone.maxWidthProperty().bind(maxWidth);
-        propertySeller.maxWidthProperty().bind(maxWidth);
-        propertyEmail.maxWidthProperty().bind(maxWidth);
-
-        property.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> propertyTags.getChildren().add(makeLabel(tag.tagName)));
+        TagLabels.show(propertyTags, property.getTags(), maxWidth);
     }
 
-    private void initBuyer(Buyer buyer) {
+    private void setBuyer(Buyer buyer) {
         buyerName.setText(buyer.getName().fullName);
         buyerPrice.setText('$' + buyer.getPrice().toString());
         buyerPhone.setText(buyer.getPhone().value);
         buyerEmail.setText(buyer.getEmail().value);
-
-        buyer.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> buyerTags.getChildren().add(makeLabel(tag.tagName)));
-    }
-
-    private Label makeLabel(String text) {
-        Label label = new Label(text);
-        label.setWrapText(true);
-        label.maxWidthProperty().bind(maxWidth);
-        return label;
+        TagLabels.show(buyerTags, buyer.getTags(), maxWidth);
     }
 
     @Override
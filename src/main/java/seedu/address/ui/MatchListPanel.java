@@ -29,6 +29,8 @@ public class MatchListPanel extends UiPart<Region> {
      * Custom {@code ListCell} that displays the graphics of a {@code Match}
      */
     class MatchListViewCell extends ListCell<Match> {
+        private MatchCard card;
+
         @Override
         protected void updateItem(Match match, boolean empty) {
             super.updateItem(match, empty);
@@ -37,7 +39,10 @@ public class MatchListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                MatchCard card = new MatchCard(match, getIndex() + 1, matchListView.widthProperty());
+                if (card == null) {
+                    card = new MatchCard(matchListView.widthProperty());
+                }
+                card.setMatch(match, getIndex() + 1);
                 setGraphic(card.getRoot());
             }
         }
@@ -1,9 +1,5 @@
 package seedu.address.ui;
 
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.List;
-
 import javafx.beans.property.ReadOnlyDoubleProperty;
 import javafx.beans.value.ObservableDoubleValue;
 import javafx.fxml.FXML;
@@ -12,7 +8,6 @@ import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import seedu.address.model.property.Property;
-import seedu.address.model.tag.Tag;
 
 /**
  * An UI component that displays information of a {@code Property}.
@@ -30,7 +25,8 @@ public class PropertyCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Property property;
+    private final ObservableDoubleValue maxWidth;
+    private Property property;
 
     @FXML
     private HBox cardPane;
@@ -51,6 +47,21 @@ public class PropertyCard extends UiPart<Region> {
     @FXML
     private Label seller;
 
+    /**
+     * Creates an empty {@code PropertyCard}, which can be reused to display different properties.
+     *
+     * @param parentWidthProperty The width of the parent container.
+     */
+    public PropertyCard(ReadOnlyDoubleProperty parentWidthProperty) {
+        super(FXML);
+
+        // Allow wrapping of labels
+        maxWidth = parentWidthProperty.subtract(WIDTH_PADDING);
+        phone.maxWidthProperty().bind(maxWidth);
+        seller.maxWidthProperty().bind(maxWidth);
+        email.maxWidthProperty().bind(maxWidth);
+    }
+
     /**
      * Creates a {@code PropertyCard} with the given {@code Property} and index to display.
      *
@@ -59,7 +70,18 @@ public class PropertyCard extends UiPart<Region> {
      * @param parentWidthProperty The width of the parent container.
      */
     public PropertyCard(Property property, int displayedIndex, ReadOnlyDoubleProperty parentWidthProperty) {
-        super(FXML);
+        this(parentWidthProperty);
+        setProperty(property, displayedIndex);
+    }
+
+    public Property getProperty() {
+        return property;
+    }
+
+    /**
+     * Displays {@code property} with the given index in this card, in place of the property displayed before.
+     */
+    public void setProperty(Property property, int displayedIndex) {
         this.property = property;
         id.setText(displayedIndex + ". ");
         name.setText(property.getName().fullName);
@@ -68,21 +90,7 @@ public class PropertyCard extends UiPart<Region> {
         phone.setText(property.getSeller().getPhone().value);
         address.setText(property.getAddress().value);
         email.setText(property.getSeller().getEmail().value);
-
-        // Allow wrapping of labels
-        ObservableDoubleValue maxWidth = parentWidthProperty.subtract(WIDTH_PADDING);
-        phone.maxWidthProperty().bind(maxWidth);
-        seller.maxWidthProperty().bind(maxWidth);
-        email.maxWidthProperty().bind(maxWidth);
-
-        List<Tag> tagList = new ArrayList<>(property.getTags());
-        tagList.sort(Comparator.comparing(tag -> tag.tagName));
-        for (Tag tag : tagList) {
-            Label label = new Label(tag.tagName);
-            label.setWrapText(true);
-            label.maxWidthProperty().bind(maxWidth);
-            tags.getChildren().add(label);
-        }
+        TagLabels.show(tags, property.getTags(), maxWidth);
     }
 
     @Override
@@ -2,6 +2,7 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
@@ -20,11 +21,16 @@ public class PropertyListPanel extends UiPart<Region> {
     @FXML
     private ListView<Property> propertyListView;
 
+    private final Runnable endReachedHandler;
+
     /**
      * Creates a {@code PropertyListPanel} with the given {@code ObservableList}.
+     *
+     * @param endReachedHandler Run when the last property of the list is shown, such as to show more of the list.
      */
-    public PropertyListPanel(ObservableList<Property> propertyList) {
+    public PropertyListPanel(ObservableList<Property> propertyList, Runnable endReachedHandler) {
         super(FXML);
+        this.endReachedHandler = endReachedHandler;
         propertyListView.setItems(propertyList);
         propertyListView.setCellFactory(listView -> new PropertyListViewCell());
     }
@@ -33,6 +39,8 @@ public class PropertyListPanel extends UiPart<Region> {
      * Custom {@code ListCell} that displays the graphics of a {@code Property} using a {@code PropertyCard}.
      */
     class PropertyListViewCell extends ListCell<Property> {
+        private PropertyCard card;
+
         @Override
         protected void updateItem(Property property, boolean empty) {
             super.updateItem(property, empty);
@@ -41,8 +49,15 @@ public class PropertyListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                PropertyCard card = new PropertyCard(property, getIndex() + 1, propertyListView.widthProperty());
+                if (card == null) {
+                    card = new PropertyCard(propertyListView.widthProperty());
+                }
+                card.setProperty(property, getIndex() + 1);
                 setGraphic(card.getRoot());
+                if (getIndex() == propertyListView.getItems().size() - 1) {
+                    // The list is not changed while its cells are being laid out
+                    Platform.runLater(endReachedHandler);
+                }
             }
         }
     }
@@ -0,0 +1,45 @@
+package seedu.address.ui;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import javafx.beans.value.ObservableDoubleValue;
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.layout.FlowPane;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Displays tags as labels in a {@code FlowPane}, reusing the labels created for previously displayed tags.
+ */
+class TagLabels {
+
+    private TagLabels() {}
+
+    /**
+     * Shows {@code tags} in {@code tagPane} in alphabetical order, each in a wrapping label of at most
+     * {@code maxWidth}. Existing labels are reused, and the labels left over are hidden instead of removed.
+     */
+    static void show(FlowPane tagPane, Set<Tag> tags, ObservableDoubleValue maxWidth) {
+        List<Tag> tagList = new ArrayList<>(tags);
+        tagList.sort(Comparator.comparing(tag -> tag.tagName));
+
+        ObservableList<Node> labels = tagPane.getChildren();
+        while (labels.size() < tagList.size()) {
+            Label label = new Label();
+            label.setWrapText(true);
+            label.maxWidthProperty().bind(maxWidth);
+            labels.add(label);
+        }
+        for (int i = 0; i < labels.size(); i++) {
+            Label label = (Label) labels.get(i);
+            boolean isShown = i < tagList.size();
+            label.setText(isShown ? tagList.get(i).tagName : null);
+            label.setVisible(isShown);
+            label.setManaged(isShown);
+        }
+    }
+}
@@ -49,8 +49,7 @@ public class SystemTest {
         for (String command : commands) {
             try {
                 log.add(command);
-                logic.validateCommand(command, showingMatchView);
-                CommandResult result = logic.execute(command);
+                CommandResult result = logic.execute(logic.parseCommand(command, showingMatchView));
                 showingMatchView = getShowingMatchView(showingMatchView, result.getUiAction());
                 log.add(result.toString());
             } catch (CommandException | ParseException e) {
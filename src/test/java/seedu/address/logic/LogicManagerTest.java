@@ -1,8 +1,10 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.commons.core.Messages.MESSAGE_DEFAULT_VIEW_INVALID_COMMAND;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PROPERTY_DISPLAYED_INDEX;
+import static seedu.address.commons.core.Messages.MESSAGE_MATCH_AUTO_VIEW_INVALID_COMMAND;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.LogicManager.COMMANDTEXT_INVALID_MESSAGE;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -17,23 +19,30 @@ import static seedu.address.testutil.TypicalProperties.P_AMY;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BackCommand;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandPreAction;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.property.Property;
+import seedu.address.storage.AsyncAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
@@ -96,6 +105,40 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_readOnlyCommandWithFailingStorage_success() throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        // Address book is not modified, so it is not saved
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void execute_backgroundSaveFails_savedAgainByNextCommand() throws Exception {
+        Path filePath = temporaryFolder.resolve("failingOnceAddressBook.json");
+        StorageManager storage = new StorageManager(
+                new AsyncAddressBookStorage(new JsonAddressBookFailingOnceStub(filePath)),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("failingOnceUserPrefs.json")));
+        logic = new LogicManager(model, storage);
+        AtomicReference<String> saveErrorMessage = new AtomicReference<>();
+        logic.setSaveErrorHandler(saveErrorMessage::set);
+
+        logic.execute(AddCommand.COMMAND_WORD + " " + PREAMBLE_PROPERTY + " " + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + SELLER_DESC_AMY + PRICE_DESC_AMY);
+        assertThrows(IOException.class, storage::flush);
+        assertEquals(LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION, saveErrorMessage.get());
+
+        // The address book is not modified again, but it is saved again as the last save failed
+        logic.execute(ListCommand.COMMAND_WORD);
+        storage.flush();
+        assertEquals(model.getAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
     @Test
     public void executeWithFile_invalidCommandFormat_throwsParseException() {
         String invalidCommand = "";
@@ -120,6 +163,28 @@ public class LogicManagerTest {
         assertEquals(expectedModel, model);
     }
 
+    @Test
+    public void parseCommand_commandWithFile_executedWithPreAction() throws Exception {
+        String commandText = ExportCommand.COMMAND_WORD + " " + ExportCommand.BUYERS;
+        Command command = logic.parseCommand(commandText, false);
+        assertEquals(new CommandPreAction(commandText, true), command.getPreAction());
+
+        CommandResult result = logic.execute(command, temporaryFolder.resolve("TempBuyers.csv").toFile());
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, ExportCommand.BUYERS), result.getFeedbackToUser());
+    }
+
+    @Test
+    public void parseCommand_invalidInView_throwsCommandException() throws Exception {
+        assertThrows(CommandException.class, MESSAGE_DEFAULT_VIEW_INVALID_COMMAND, () ->
+                logic.parseCommand(BackCommand.COMMAND_WORD, false));
+        assertThrows(CommandException.class, MESSAGE_MATCH_AUTO_VIEW_INVALID_COMMAND, () ->
+                logic.parseCommand(ClearCommand.COMMAND_WORD, true));
+
+        Command command = logic.parseCommand(ListCommand.COMMAND_WORD, true);
+        assertEquals(new CommandPreAction(), command.getPreAction());
+        assertEquals(ListCommand.MESSAGE_SUCCESS, logic.execute(command).getFeedbackToUser());
+    }
+
     @Test
     public void getFilteredPropertyList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPropertyList().remove(0));
@@ -191,4 +256,24 @@ public class LogicManagerTest {
             throw DUMMY_IO_EXCEPTION;
         }
     }
+
+    /**
+     * A stub class to throw an {@code IOException} the first time the save method is called only.
+     */
+    private static class JsonAddressBookFailingOnceStub extends JsonAddressBookStorage {
+        private boolean hasFailed = false;
+
+        private JsonAddressBookFailingOnceStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            if (!hasFailed) {
+                hasFailed = true;
+                throw DUMMY_IO_EXCEPTION;
+            }
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
 }
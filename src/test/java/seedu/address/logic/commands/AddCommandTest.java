@@ -11,7 +11,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 import org.junit.jupiter.api.Test;
 
@@ -23,11 +26,16 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.field.ContainsPricePredicate;
+import seedu.address.model.field.ContainsTagsPredicate;
+import seedu.address.model.field.NameContainsKeywordsPredicate;
 import seedu.address.model.field.SortDirection;
 import seedu.address.model.field.SortType;
+import seedu.address.model.match.IncrementalMatcher;
 import seedu.address.model.property.Buyer;
 import seedu.address.model.property.Match;
 import seedu.address.model.property.Property;
+import seedu.address.model.util.QueryPlan;
 import seedu.address.testutil.PropertyBuilder;
 
 public class AddCommandTest {
@@ -127,6 +135,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addAllProperties(List<Property> properties) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -152,6 +165,12 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void deleteAndSetProperties(List<Property> targets, List<Property> editTargets,
+                                           List<Property> editedProperties) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Property> getFilteredPropertyList() {
             throw new AssertionError("This method should not be called.");
@@ -162,6 +181,20 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPropertyList(NameContainsKeywordsPredicate<Property> namePredicate,
+                                               ContainsTagsPredicate<Property> tagsPredicate,
+                                               ContainsPricePredicate<Property> pricePredicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public QueryPlan<Property> planFilteredPropertyList(NameContainsKeywordsPredicate<Property> namePredicate,
+                                                            ContainsTagsPredicate<Property> tagsPredicate,
+                                                            ContainsPricePredicate<Property> pricePredicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredAndSortedPropertyList(Predicate<Property> predicate,
                                                         Comparator<Property> comparator) {
@@ -173,6 +206,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void sortProperties(Comparator<Property> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasBuyer(Buyer buyer) {
             throw new AssertionError("This method should not be called.");
@@ -193,6 +231,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addAllBuyers(List<Buyer> buyers) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setBuyer(Buyer target, Buyer editedBuyer) {
             throw new AssertionError("This method should not be called.");
@@ -208,16 +251,72 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredBuyerList(NameContainsKeywordsPredicate<Buyer> namePredicate,
+                                            ContainsTagsPredicate<Buyer> tagsPredicate,
+                                            ContainsPricePredicate<Buyer> pricePredicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public QueryPlan<Buyer> planFilteredBuyerList(NameContainsKeywordsPredicate<Buyer> namePredicate,
+                                                      ContainsTagsPredicate<Buyer> tagsPredicate,
+                                                      ContainsPricePredicate<Buyer> pricePredicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredAndSortedBuyerList(Predicate<Buyer> predicate, Comparator<Buyer> comparator) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void rankFilteredPropertyList(ToIntFunction<Property> scorer, ToLongFunction<Property> tieBreaker,
+                                             int pageSize) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int showMoreProperties() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasMoreProperties() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void sortBuyers(SortType sortType, SortDirection sortDirection) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void sortBuyers(Comparator<Buyer> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rankFilteredBuyerList(ToIntFunction<Buyer> scorer, ToLongFunction<Buyer> tieBreaker,
+                                          int pageSize) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int showMoreBuyers() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasMoreBuyers() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getNumCommonTags(Buyer buyer, Property property) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Match> getMatchList() {
             throw new AssertionError("This method should not be called.");
@@ -228,6 +327,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setMatcher(IncrementalMatcher matcher) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<IncrementalMatcher> getMatcher() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void showAllBuyers() {
             throw new AssertionError("This method should not be called.");
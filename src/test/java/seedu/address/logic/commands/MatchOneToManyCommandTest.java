@@ -74,6 +74,23 @@ public class MatchOneToManyCommandTest {
         assertEquals(Arrays.asList(P_ALICE, P_BENSON, P_CARL), model.getFilteredPropertyList());
     }
 
+    @Test
+    public void execute_moreMatchesThanPageSize_pagedByMore() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setMatchPageSize(2);
+        model.setUserPrefs(userPrefs);
+
+        CommandResult result = new MatchPropertyCommand(Index.fromOneBased(3)).execute(model); // P_CARL
+        assertEquals(MatchPropertyCommand.MESSAGE_SUCCESS + "\n" + MoreCommand.MESSAGE_MORE_COMMAND,
+                result.getFeedbackToUser());
+        assertEquals(Arrays.asList(B_GEORGE, B_FIONA), model.getFilteredBuyerList());
+
+        new MoreCommand().execute(model);
+        new MoreCommand().execute(model);
+        assertEquals(Arrays.asList(B_GEORGE, B_FIONA, B_ELLE, B_DANIEL, B_CARL), model.getFilteredBuyerList());
+        assertCommandFailure(new MoreCommand(), model, MoreCommand.MESSAGE_NO_MORE_MATCHES);
+    }
+
     @Test
     public void execute_invalidPropertyIndexUnfilteredList_failure() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPropertyList().size() + 1);
@@ -24,6 +24,7 @@ import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.commands.FindCommand;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
@@ -171,6 +172,17 @@ public class FindBuyerCommandTest {
         assertEquals(getTypicalBuyers(), model.getFilteredBuyerList());
     }
 
+    @Test
+    public void execute_explain_planShownAndListUnchanged() {
+        ContainsTagsPredicate<Buyer> tagsPredicate = new ContainsTagsPredicate<>(Set.of(new Tag("condo")));
+        FindBuyerCommand command = new FindBuyerCommand(new NameContainsKeywordsPredicate<>(), tagsPredicate,
+                new ContainsPricePredicate<>(), true);
+        String expectedMessage = String.format(FindCommand.MESSAGE_EXPLAIN,
+                "look up tags index for 1 candidates (estimates: tags 1)", 1, 7);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(getTypicalBuyers(), model.getFilteredBuyerList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
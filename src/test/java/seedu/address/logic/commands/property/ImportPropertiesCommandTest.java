@@ -0,0 +1,91 @@
+package seedu.address.logic.commands.property;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.ImportCommand.MESSAGE_DUPLICATE;
+import static seedu.address.logic.commands.ImportCommand.MESSAGE_UPSERT_SUCCESS;
+import static seedu.address.logic.commands.ImportCommand.PROPERTIES;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalProperties.P_ALICE;
+import static seedu.address.testutil.TypicalProperties.P_BENSON;
+import static seedu.address.testutil.TypicalProperties.P_CARL;
+import static seedu.address.testutil.TypicalProperties.P_DANIEL;
+import static seedu.address.testutil.TypicalProperties.P_ELLE;
+import static seedu.address.testutil.TypicalProperties.P_FIONA;
+import static seedu.address.testutil.TypicalProperties.P_HOON;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.match.IncrementalMatcher;
+import seedu.address.model.property.Property;
+import seedu.address.storage.CsvManager;
+import seedu.address.testutil.PropertyBuilder;
+
+public class ImportPropertiesCommandTest {
+    private static final Property EDITED_ALICE = new PropertyBuilder(P_ALICE).withPrice("500000").build();
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_upsert_onlyChangesAppliedAndMatchesKept() throws IOException {
+        model.setMatcher(new IncrementalMatcher(model.getAddressBook().getPropertyList(),
+                model.getAddressBook().getBuyerList(), 1));
+        File file = writeProperties(List.of(EDITED_ALICE, P_BENSON, P_CARL, P_DANIEL, P_ELLE, P_FIONA, P_HOON));
+
+        CommandResult result = new ImportPropertiesCommand(true).execute(model, file);
+
+        assertEquals(String.format(MESSAGE_UPSERT_SUCCESS, PROPERTIES, 1, 1, 1, 5), result.getFeedbackToUser());
+        assertEquals(List.of(P_HOON, EDITED_ALICE, P_BENSON, P_CARL, P_DANIEL, P_ELLE, P_FIONA),
+                model.getAddressBook().getPropertyList());
+        assertTrue(model.getMatcher().isPresent());
+        IncrementalMatcher expectedMatcher = new IncrementalMatcher(model.getAddressBook().getPropertyList(),
+                model.getAddressBook().getBuyerList(), 1);
+        assertEquals(expectedMatcher.getMatches(), model.getMatchList());
+    }
+
+    @Test
+    public void execute_withoutUpsert_existingPropertiesRejected() throws IOException {
+        File file = writeProperties(List.of(EDITED_ALICE, P_HOON));
+
+        CommandResult result = new ImportPropertiesCommand().execute(model, file);
+
+        assertEquals(String.format(MESSAGE_DUPLICATE, PROPERTIES, PROPERTIES), result.getFeedbackToUser());
+        assertEquals(getTypicalAddressBook().getPropertyList(), model.getAddressBook().getPropertyList());
+    }
+
+    @Test
+    public void equals() {
+        ImportPropertiesCommand importCommand = new ImportPropertiesCommand();
+        ImportPropertiesCommand upsertCommand = new ImportPropertiesCommand(true);
+
+        // same values -> returns true
+        assertTrue(importCommand.equals(new ImportPropertiesCommand(false)));
+        assertTrue(upsertCommand.equals(new ImportPropertiesCommand(true)));
+
+        // null -> returns false
+        assertFalse(upsertCommand.equals(null));
+
+        // different mode -> returns false
+        assertFalse(importCommand.equals(upsertCommand));
+    }
+
+    private File writeProperties(List<Property> properties) throws IOException {
+        File file = testFolder.resolve("properties.csv").toFile();
+        CsvManager.exportProperties(properties, file);
+        return file;
+    }
+}
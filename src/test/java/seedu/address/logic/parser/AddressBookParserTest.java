@@ -25,7 +25,9 @@ import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.MatchAutoCommand;
 import seedu.address.logic.commands.MatchCommand;
+import seedu.address.logic.commands.MoreCommand;
 import seedu.address.logic.commands.buyer.ExportBuyersCommand;
 import seedu.address.logic.commands.buyer.ImportBuyersCommand;
 import seedu.address.logic.commands.property.AddPropertyCommand;
@@ -86,6 +88,18 @@ public class AddressBookParserTest {
         assertEquals(expected, command);
     }
 
+    @Test
+    public void parseCommand_matchAuto() throws Exception {
+        assertEquals(new MatchAutoCommand(), parser.parseSimpleCommand(
+                MatchCommand.COMMAND_WORD + " " + MatchAutoCommand.ARGUMENT_WORD));
+        assertEquals(new MatchAutoCommand(true), parser.parseSimpleCommand(
+                MatchCommand.COMMAND_WORD + " " + MatchAutoCommand.ARGUMENT_WORD + "  "
+                        + MatchAutoCommand.OPTIMAL_WORD));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                        MatchCommand.MESSAGE_USAGE), () -> parser.parseSimpleCommand(
+                MatchCommand.COMMAND_WORD + " " + MatchAutoCommand.ARGUMENT_WORD + " best"));
+    }
+
     @Test
     public void parseCommand_exit() throws Exception {
         assertTrue(parser.parseSimpleCommand(ExitCommand.COMMAND_WORD) instanceof ExitCommand);
@@ -107,6 +121,11 @@ public class AddressBookParserTest {
         assertTrue(parser.parseSimpleCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_more() throws Exception {
+        assertTrue(parser.parseSimpleCommand(MoreCommand.COMMAND_WORD) instanceof MoreCommand);
+    }
+
     @Test
     public void parseCommand_list() throws Exception {
         assertTrue(parser.parseSimpleCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
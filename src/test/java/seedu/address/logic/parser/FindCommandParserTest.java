@@ -14,6 +14,7 @@ import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.buyer.FindBuyerCommand;
 import seedu.address.model.field.ContainsPricePredicate;
 import seedu.address.model.field.ContainsTagsPredicate;
@@ -110,4 +111,17 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, PREAMBLE_BUYER + " "
                 + PREFIX_MIN_PRICE + "10000 " + PREFIX_MAX_PRICE + "100000 ", expectedFindBuyerCommand);
     }
+
+    @Test
+    public void parse_explain_returnsExplainingFindBuyerCommand() {
+        FindBuyerCommand expectedFindBuyerCommand = new FindBuyerCommand(
+                new NameContainsKeywordsPredicate<>(Arrays.asList("Alice")), new ContainsTagsPredicate<>(),
+                new ContainsPricePredicate<>(), true);
+        assertParseSuccess(parser, FindCommand.EXPLAIN_WORD + " " + PREAMBLE_BUYER + " Alice",
+                expectedFindBuyerCommand);
+
+        // explain without criteria
+        assertParseFailure(parser, FindCommand.EXPLAIN_WORD + " " + PREAMBLE_BUYER,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindBuyerCommand.MESSAGE_USAGE));
+    }
 }
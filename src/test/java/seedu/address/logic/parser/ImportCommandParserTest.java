@@ -33,5 +33,12 @@ public class ImportCommandParserTest {
     public void parse_validArgs_returnsImportCommand() {
         assertParseSuccess(parser, ImportCommand.PROPERTIES, new ImportPropertiesCommand());
         assertParseSuccess(parser, ImportCommand.BUYERS, new ImportBuyersCommand());
+        assertParseSuccess(parser, ImportCommand.PROPERTIES + " " + ImportCommand.UPSERT,
+                new ImportPropertiesCommand(true));
+    }
+
+    @Test
+    public void parse_upsertBuyers_throwsParseException() {
+        assertParseFailure(parser, ImportCommand.BUYERS + " " + ImportCommand.UPSERT, MESSAGE_INVALID_FORMAT);
     }
 }
@@ -2,27 +2,38 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_FRIEND;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalProperties.P_ALICE;
+import static seedu.address.testutil.TypicalProperties.P_BENSON;
 import static seedu.address.testutil.TypicalProperties.P_BOB;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.field.ContainsPricePredicate;
+import seedu.address.model.field.ContainsTagsPredicate;
+import seedu.address.model.field.NameContainsKeywordsPredicate;
+import seedu.address.model.match.IncrementalMatcher;
+import seedu.address.model.match.MatchState;
 import seedu.address.model.property.Buyer;
 import seedu.address.model.property.Match;
 import seedu.address.model.property.Property;
 import seedu.address.model.property.exceptions.DuplicatePropertyException;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.BuyerBuilder;
 import seedu.address.testutil.PropertyBuilder;
 
 public class AddressBookTest {
@@ -57,6 +68,123 @@ public class AddressBookTest {
         assertThrows(DuplicatePropertyException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void getVersion_modifiedProperties_versionChanged() {
+        long version = addressBook.getVersion();
+        addressBook.addProperty(P_ALICE);
+        assertNotEquals(version, addressBook.getVersion());
+
+        version = addressBook.getVersion();
+        addressBook.removeProperty(P_ALICE);
+        assertNotEquals(version, addressBook.getVersion());
+    }
+
+    @Test
+    public void getVersion_onlyCurrentListChanged_versionUnchanged() {
+        addressBook.addProperty(P_ALICE);
+        addressBook.addProperty(P_BOB);
+        long version = addressBook.getVersion();
+        addressBook.filterProperties(property -> property.isSameProperty(P_ALICE));
+        addressBook.sortProperties(Property.getNameComparator());
+        addressBook.resetProperties();
+        assertEquals(version, addressBook.getVersion());
+    }
+
+    @Test
+    public void filterProperties_nameKeywordsAfterEdit_sameAsPredicate() {
+        addressBook.addProperty(P_ALICE);
+        addressBook.addProperty(P_BOB);
+        Property editedBob = new PropertyBuilder(P_BOB).withName("Jurong East").build();
+        addressBook.addProperty(P_BOB, editedBob);
+
+        NameContainsKeywordsPredicate<Property> namePredicate = new NameContainsKeywordsPredicate<>(List.of("jurong"));
+        addressBook.filterProperties(namePredicate, new ContainsTagsPredicate<>(),
+                new ContainsPricePredicate<>(P_ALICE.getPrice(), P_ALICE.getPrice()));
+        assertEquals(List.of(P_ALICE), addressBook.getCurrPropertyList());
+
+        addressBook.resetProperties();
+        addressBook.filterProperties(namePredicate, new ContainsTagsPredicate<>(), new ContainsPricePredicate<>());
+        assertEquals(List.of(P_ALICE, editedBob), addressBook.getCurrPropertyList());
+    }
+
+    @Test
+    public void filterProperties_tagsAfterEdit_sameAsPredicate() {
+        addressBook.addProperty(P_ALICE);
+        addressBook.addProperty(P_BOB);
+        Property editedAlice = new PropertyBuilder(P_ALICE).withTags(VALID_TAG_HUSBAND).build();
+        addressBook.addProperty(P_ALICE, editedAlice);
+
+        ContainsTagsPredicate<Property> tagsPredicate = new ContainsTagsPredicate<>(Set.of(new Tag(VALID_TAG_HUSBAND)));
+        addressBook.filterProperties(new NameContainsKeywordsPredicate<>(), tagsPredicate,
+                new ContainsPricePredicate<>());
+        assertEquals(List.of(editedAlice, P_BOB), addressBook.getCurrPropertyList());
+
+        addressBook.resetProperties();
+        ContainsTagsPredicate<Property> twoTagsPredicate = new ContainsTagsPredicate<>(
+                Set.of(new Tag(VALID_TAG_HUSBAND), new Tag(VALID_TAG_FRIEND)));
+        addressBook.filterProperties(new NameContainsKeywordsPredicate<>(), twoTagsPredicate,
+                new ContainsPricePredicate<>());
+        assertEquals(List.of(P_BOB), addressBook.getCurrPropertyList());
+    }
+
+    @Test
+    public void setMatcher_propertiesAndBuyersChanged_matchesUpdatedInPlace() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        addressBook.resetData(typicalAddressBook);
+        addressBook.setMatcher(new IncrementalMatcher(typicalAddressBook.getPropertyList(),
+                typicalAddressBook.getBuyerList(), 1));
+
+        Property editedBenson = new PropertyBuilder(P_BENSON).withTags(VALID_TAG_HUSBAND).build();
+        addressBook.addProperty(P_BENSON, editedBenson);
+        addressBook.removeBuyer(addressBook.getBuyerList().get(0));
+        addressBook.addNewBuyer(new BuyerBuilder().withName("New Buyer").withTags(VALID_TAG_HUSBAND).build());
+        addressBook.removeProperty(P_ALICE);
+
+        IncrementalMatcher expectedMatcher = new IncrementalMatcher(addressBook.getPropertyList(),
+                addressBook.getBuyerList(), 1);
+        assertEquals(expectedMatcher.getMatches(), addressBook.getMatchList());
+
+        addressBook.setMatches(List.of());
+        assertFalse(addressBook.getMatcher().isPresent());
+    }
+
+    @Test
+    public void getMatcher_outdatedMatchesLoaded_matchesAllInBackground() {
+        AddressBook outdatedAddressBook = getTypicalAddressBook();
+        outdatedAddressBook.setMatchesOutdated();
+        addressBook.setMatchingPoolSize(2);
+        addressBook.resetData(outdatedAddressBook);
+
+        IncrementalMatcher expectedMatcher = new IncrementalMatcher(addressBook.getPropertyList(),
+                addressBook.getBuyerList(), 1);
+        assertEquals(expectedMatcher.getMatches(), addressBook.getMatcher().get().getMatches());
+
+        // Properties changed since the matching started
+        addressBook.removeProperty(P_ALICE);
+        assertFalse(addressBook.getMatcher().isPresent());
+    }
+
+    @Test
+    public void getNumCommonTags_afterChanges_sameAsTagSets() {
+        addressBook.resetData(getTypicalAddressBook());
+        Property editedBenson = new PropertyBuilder(P_BENSON).withTags(VALID_TAG_HUSBAND, VALID_TAG_FRIEND).build();
+        addressBook.addProperty(P_BENSON, editedBenson);
+        Buyer newBuyer = new BuyerBuilder().withName("New Buyer").withTags(VALID_TAG_HUSBAND).build();
+        addressBook.addNewBuyer(newBuyer);
+        assertNumCommonTagsSameAsTagSets();
+
+        // Tags of the old data lose their ids
+        AddressBook newData = new AddressBook();
+        newData.addProperty(P_BOB);
+        newData.addBuyer(newBuyer);
+        addressBook.resetData(newData);
+        assertNumCommonTagsSameAsTagSets();
+
+        // A buyer not in the address book has its tags compared directly
+        Buyer otherBuyer = new BuyerBuilder().withName("Other Buyer").withTags(VALID_TAG_FRIEND, "pool").build();
+        assertEquals(Match.getNumCommonTags(otherBuyer, P_BOB), addressBook.getNumCommonTags(otherBuyer, P_BOB));
+    }
+
     @Test
     public void hasProperty_nullProperty_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasProperty(null));
@@ -86,6 +214,14 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPropertyList().remove(0));
     }
 
+    private void assertNumCommonTagsSameAsTagSets() {
+        for (Buyer buyer : addressBook.getBuyerList()) {
+            for (Property property : addressBook.getPropertyList()) {
+                assertEquals(Match.getNumCommonTags(buyer, property), addressBook.getNumCommonTags(buyer, property));
+            }
+        }
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose properties list can violate interface constraints.
      */
@@ -124,6 +260,26 @@ public class AddressBookTest {
         public ObservableList<Match> getMatchList() {
             return matches;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
+
+        @Override
+        public ChangeLog getChangeLog() {
+            return new ChangeLog();
+        }
+
+        @Override
+        public MatchState getMatchState() {
+            return MatchState.NONE;
+        }
+
+        @Override
+        public long getMatchVersion() {
+            return 0;
+        }
     }
 
 }
@@ -0,0 +1,101 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalBuyers.B_ALICE;
+import static seedu.address.testutil.TypicalProperties.P_ALICE;
+import static seedu.address.testutil.TypicalProperties.P_BENSON;
+import static seedu.address.testutil.TypicalProperties.P_BOB;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBookChange.Type;
+import seedu.address.model.property.Property;
+import seedu.address.testutil.PropertyBuilder;
+
+public class ChangeLogTest {
+
+    private final AddressBook addressBook = new AddressBook();
+
+    @Test
+    public void getChangesSince_versionOfLog_laterChangesReturned() {
+        addressBook.addProperty(P_ALICE);
+        long version = addressBook.getVersion();
+        addressBook.addNewProperty(P_BENSON);
+        addressBook.addProperty(P_ALICE, new PropertyBuilder(P_ALICE).withPrice("123456").build());
+        addressBook.removeProperty(P_BENSON);
+        addressBook.addBuyer(B_ALICE);
+
+        assertEquals(List.of(Type.ADD_PROPERTY, Type.EDIT_PROPERTY, Type.DELETE_PROPERTY, Type.ADD_BUYER),
+                getTypesSince(version));
+        assertEquals(List.of(), getTypesSince(addressBook.getVersion()));
+    }
+
+    @Test
+    public void getChangesSince_identityEdited_removedAndAdded() {
+        addressBook.addProperty(P_ALICE);
+        addressBook.addProperty(P_BENSON);
+        long version = addressBook.getVersion();
+        addressBook.addProperty(P_BENSON, P_BOB);
+
+        List<AddressBookChange> changes = addressBook.getChangeLog().getChangesSince(version).get();
+        assertEquals(List.of(Type.DELETE_PROPERTY, Type.ADD_PROPERTY), getTypesSince(version));
+        assertEquals(1, changes.get(1).getIndex());
+    }
+
+    @Test
+    public void getChangesSince_listReplaced_empty() {
+        addressBook.addProperty(P_ALICE);
+        long version = addressBook.getVersion();
+        addressBook.setProperties(List.of(P_BENSON, P_ALICE));
+
+        assertEquals(Optional.empty(), addressBook.getChangeLog().getChangesSince(version));
+        assertEquals(Optional.of(List.of()), addressBook.getChangeLog().getChangesSince(addressBook.getVersion()));
+    }
+
+    @Test
+    public void getChangesSince_versionOfOtherAddressBook_empty() {
+        AddressBook other = new AddressBook();
+        addressBook.addProperty(P_ALICE);
+        other.addProperty(P_ALICE);
+        addressBook.addProperty(P_BENSON);
+
+        assertEquals(Optional.empty(), addressBook.getChangeLog().getChangesSince(other.getVersion()));
+    }
+
+    @Test
+    public void getChangesSince_versionCopiedFrom_changesAfterCopyReturned() {
+        AddressBook original = new AddressBook();
+        original.addProperty(P_ALICE);
+        AddressBook copy = new AddressBook(original);
+        copy.addProperty(P_BENSON);
+
+        assertEquals(List.of(Type.ADD_PROPERTY), getTypesSince(copy, original.getVersion()));
+    }
+
+    @Test
+    public void getChangesSince_changesDropped_empty() {
+        addressBook.addProperty(P_ALICE);
+        long version = addressBook.getVersion();
+        Property editedAlice = new PropertyBuilder(P_ALICE).withPrice("123456").build();
+        for (int i = 0; i < ChangeLog.MAX_CHANGES; i++) {
+            addressBook.addProperty(P_ALICE, editedAlice);
+            addressBook.addProperty(editedAlice, P_ALICE);
+        }
+
+        assertEquals(Optional.empty(), addressBook.getChangeLog().getChangesSince(version));
+    }
+
+    private List<Type> getTypesSince(long version) {
+        return getTypesSince(addressBook, version);
+    }
+
+    private static List<Type> getTypesSince(AddressBook addressBook, long version) {
+        return addressBook.getChangeLog().getChangesSince(version).get().stream()
+                .map(AddressBookChange::getType)
+                .collect(Collectors.toList());
+    }
+}
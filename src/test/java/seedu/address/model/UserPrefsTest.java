@@ -18,4 +18,17 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setMatchingPoolSize_nonPositiveSize_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setMatchingPoolSize(0));
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setMatchingPoolSize(-1));
+    }
+
+    @Test
+    public void setMatchPageSize_nonPositiveSize_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setMatchPageSize(0));
+    }
+
 }
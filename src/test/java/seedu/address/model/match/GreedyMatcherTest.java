@@ -0,0 +1,109 @@
+package seedu.address.model.match;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.RandomListables.getRandomBuyers;
+import static seedu.address.testutil.RandomListables.getRandomPrice;
+import static seedu.address.testutil.RandomListables.getRandomProperties;
+import static seedu.address.testutil.TypicalBuyers.getTypicalBuyers;
+import static seedu.address.testutil.TypicalProperties.getTypicalProperties;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.property.Buyer;
+import seedu.address.model.property.Match;
+import seedu.address.model.property.Property;
+import seedu.address.testutil.BuyerBuilder;
+import seedu.address.testutil.PropertyBuilder;
+
+public class GreedyMatcherTest {
+
+    @Test
+    public void getMatches_noBuyers_returnsEmptyList() {
+        assertTrue(new GreedyMatcher(getTypicalProperties(), new ArrayList<>()).getMatches().isEmpty());
+    }
+
+    @Test
+    public void getMatches_typicalData_sameAsAllPairsGreedy() {
+        List<Property> properties = getTypicalProperties();
+        List<Buyer> buyers = getTypicalBuyers();
+        assertEquals(getAllPairsGreedyMatches(properties, buyers),
+                new GreedyMatcher(properties, buyers).getMatches());
+    }
+
+    @Test
+    public void getMatches_randomDataWithTies_sameAsAllPairsGreedy() {
+        Random random = new Random(2103);
+        for (int round = 0; round < 20; round++) {
+            List<Property> properties = getRandomProperties(random, 1 + random.nextInt(40));
+            List<Buyer> buyers = getRandomBuyers(random, 1 + random.nextInt(40));
+            assertEquals(getAllPairsGreedyMatches(properties, buyers),
+                    new GreedyMatcher(properties, buyers).getMatches());
+        }
+    }
+
+    @Test
+    public void getMatches_mostlyDistinctTags_sameAsAllPairsGreedy() {
+        Random random = new Random(2103);
+        for (int round = 0; round < 20; round++) {
+            List<Property> properties = new ArrayList<>();
+            List<Buyer> buyers = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                properties.add(new PropertyBuilder().withAddress("Blk " + i).withPrice(getRandomPrice(random))
+                        .withTags(getDistinctTags(random)).build());
+                buyers.add(new BuyerBuilder().withName("Buyer " + i).withMaxPrice(getRandomPrice(random))
+                        .withTags(getDistinctTags(random)).build());
+            }
+            assertEquals(getAllPairsGreedyMatches(properties, buyers),
+                    new GreedyMatcher(properties, buyers).getMatches());
+        }
+    }
+
+    @Test
+    public void getMatches_parallelScoring_sameAsSequential() {
+        Random random = new Random(2103);
+        List<Property> properties = getRandomProperties(random, 500);
+        List<Buyer> buyers = getRandomBuyers(random, 2000);
+        List<Match> expectedMatches = new GreedyMatcher(properties, buyers).getMatches();
+        for (int parallelism = 2; parallelism <= 8; parallelism *= 2) {
+            assertEquals(expectedMatches, new GreedyMatcher(properties, buyers, parallelism).getMatches());
+        }
+    }
+
+    /**
+     * Returns the matches found by sorting every buyer-property pair, as {@code match auto} originally did.
+     */
+    private static List<Match> getAllPairsGreedyMatches(List<Property> properties, List<Buyer> buyers) {
+        List<Match> candidates = new ArrayList<>();
+        for (Buyer buyer : buyers) {
+            for (Property property : properties) {
+                candidates.add(new Match(property, buyer));
+            }
+        }
+        candidates.sort(Comparator.comparing(Match::getMatchScore).reversed().thenComparing(Match::getPriceGap));
+
+        Set<Property> matchedProperties = new HashSet<>();
+        Set<Buyer> matchedBuyers = new HashSet<>();
+        List<Match> matches = new ArrayList<>();
+        for (Match candidate : candidates) {
+            if (!matchedProperties.contains(candidate.getProperty())
+                    && !matchedBuyers.contains(candidate.getBuyer())) {
+                matchedProperties.add(candidate.getProperty());
+                matchedBuyers.add(candidate.getBuyer());
+                matches.add(candidate);
+            }
+        }
+        return matches;
+    }
+
+    private static String[] getDistinctTags(Random random) {
+        return new String[] {"tag " + random.nextInt(60), "tag " + random.nextInt(60)};
+    }
+}
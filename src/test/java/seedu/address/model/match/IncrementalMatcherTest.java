@@ -0,0 +1,150 @@
+package seedu.address.model.match;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.RandomListables.getRandomBuyer;
+import static seedu.address.testutil.RandomListables.getRandomBuyers;
+import static seedu.address.testutil.RandomListables.getRandomProperties;
+import static seedu.address.testutil.RandomListables.getRandomProperty;
+import static seedu.address.testutil.TypicalBuyers.getTypicalBuyers;
+import static seedu.address.testutil.TypicalProperties.getTypicalProperties;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.match.IncrementalMatcher.MatchChanges;
+import seedu.address.model.property.Buyer;
+import seedu.address.model.property.Match;
+import seedu.address.model.property.Property;
+
+public class IncrementalMatcherTest {
+
+    private int nextId = 0;
+
+    @Test
+    public void getMatches_typicalData_sameAsGreedyMatcher() {
+        List<Property> properties = getTypicalProperties();
+        List<Buyer> buyers = getTypicalBuyers();
+        assertSameAsGreedyMatcher(new IncrementalMatcher(properties, buyers, 1), properties, buyers);
+    }
+
+    @Test
+    public void hasPools() {
+        List<Property> properties = getTypicalProperties();
+        List<Buyer> buyers = getTypicalBuyers();
+        IncrementalMatcher matcher = new IncrementalMatcher(properties, buyers, 1);
+        assertTrue(matcher.hasPools(properties, buyers));
+
+        // different order -> returns false
+        List<Buyer> rotatedBuyers = new ArrayList<>(buyers);
+        rotatedBuyers.add(rotatedBuyers.remove(0));
+        assertFalse(matcher.hasPools(properties, rotatedBuyers));
+
+        // property removed -> returns true after the matcher removes it too
+        Property removed = properties.remove(0);
+        assertFalse(matcher.hasPools(properties, buyers));
+        matcher.removeProperty(removed);
+        assertTrue(matcher.hasPools(properties, buyers));
+    }
+
+    @Test
+    public void takeChanges_randomChanges_sameAsGreedyMatcher() {
+        Random random = new Random(2103);
+        for (int round = 0; round < 100; round++) {
+            List<Property> properties = getNewProperties(random, random.nextInt(10));
+            List<Buyer> buyers = getNewBuyers(random, random.nextInt(10));
+            IncrementalMatcher matcher = new IncrementalMatcher(properties, buyers, 1);
+            Set<Match> matches = new HashSet<>(matcher.getMatches());
+            for (int change = 0; change < 20; change++) {
+                makeRandomChange(random, matcher, properties, buyers);
+                MatchChanges changes = matcher.takeChanges();
+                for (Match match : changes.getRemoved()) {
+                    assertTrue(matches.remove(match));
+                }
+                for (Match match : changes.getAdded()) {
+                    assertTrue(matches.add(match));
+                }
+                assertSameAsGreedyMatcher(matcher, properties, buyers);
+                assertEquals(new HashSet<>(matcher.getMatches()), matches);
+            }
+        }
+    }
+
+    /**
+     * Asserts that {@code matcher} has the same matches as matching {@code properties} and {@code buyers} again,
+     * in the order {@code match auto} shows them.
+     */
+    private static void assertSameAsGreedyMatcher(IncrementalMatcher matcher, List<Property> properties,
+                                                  List<Buyer> buyers) {
+        assertTrue(matcher.hasPools(properties, buyers));
+        List<Match> expectedMatches = new GreedyMatcher(properties, buyers).getMatches();
+        expectedMatches.sort(matcher.getMatchOrder());
+        assertEquals(expectedMatches, matcher.getMatches());
+    }
+
+    /**
+     * Adds, edits or removes a random property or buyer in both {@code matcher} and the lists.
+     */
+    private void makeRandomChange(Random random, IncrementalMatcher matcher, List<Property> properties,
+                                  List<Buyer> buyers) {
+        boolean isFront = random.nextBoolean();
+        switch (random.nextInt(6)) {
+        case 0:
+            Property property = getRandomProperty(random, "Blk " + nextId++);
+            properties.add(isFront ? 0 : properties.size(), property);
+            matcher.addProperty(property, isFront);
+            break;
+        case 1:
+            Buyer buyer = getRandomBuyer(random, "Buyer " + nextId++);
+            buyers.add(isFront ? 0 : buyers.size(), buyer);
+            matcher.addBuyer(buyer, isFront);
+            break;
+        case 2:
+            if (!properties.isEmpty()) {
+                matcher.removeProperty(properties.remove(random.nextInt(properties.size())));
+            }
+            break;
+        case 3:
+            if (!buyers.isEmpty()) {
+                matcher.removeBuyer(buyers.remove(random.nextInt(buyers.size())));
+            }
+            break;
+        case 4:
+            if (!properties.isEmpty()) {
+                int index = random.nextInt(properties.size());
+                String address = isFront ? properties.get(index).getAddress().toString() : "Blk " + nextId++;
+                Property editedProperty = getRandomProperty(random, address);
+                matcher.setProperty(properties.get(index), editedProperty);
+                properties.set(index, editedProperty);
+            }
+            break;
+        default:
+            if (!buyers.isEmpty()) {
+                int index = random.nextInt(buyers.size());
+                String name = isFront ? buyers.get(index).getName().toString() : "Buyer " + nextId++;
+                Buyer editedBuyer = getRandomBuyer(random, name);
+                matcher.setBuyer(buyers.get(index), editedBuyer);
+                buyers.set(index, editedBuyer);
+            }
+            break;
+        }
+    }
+
+    private List<Property> getNewProperties(Random random, int count) {
+        List<Property> properties = getRandomProperties(random, nextId, count);
+        nextId += count;
+        return properties;
+    }
+
+    private List<Buyer> getNewBuyers(Random random, int count) {
+        List<Buyer> buyers = getRandomBuyers(random, nextId, count);
+        nextId += count;
+        return buyers;
+    }
+}
@@ -0,0 +1,114 @@
+package seedu.address.model.match;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.RandomListables.getRandomBuyers;
+import static seedu.address.testutil.RandomListables.getRandomProperties;
+import static seedu.address.testutil.TypicalBuyers.getTypicalBuyers;
+import static seedu.address.testutil.TypicalProperties.getTypicalProperties;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.property.Buyer;
+import seedu.address.model.property.Match;
+import seedu.address.model.property.Property;
+
+public class OptimalMatcherTest {
+
+    @Test
+    public void getMatches_noBuyers_returnsEmptyList() {
+        assertTrue(new OptimalMatcher(getTypicalProperties(), new ArrayList<>()).getMatches().isEmpty());
+    }
+
+    @Test
+    public void getMatches_typicalData_sameTotalsAsExhaustiveSearch() {
+        assertOptimal(getTypicalProperties(), getTypicalBuyers());
+    }
+
+    @Test
+    public void getMatches_randomDataWithTies_sameTotalsAsExhaustiveSearch() {
+        Random random = new Random(2103);
+        for (int round = 0; round < 50; round++) {
+            List<Property> properties = getRandomProperties(random, 1 + random.nextInt(7));
+            List<Buyer> buyers = getRandomBuyers(random, 1 + random.nextInt(7));
+            assertOptimal(properties, buyers);
+        }
+    }
+
+    @Test
+    public void getMatches_randomData_atLeastGreedyScore() {
+        Random random = new Random(2103);
+        for (int round = 0; round < 10; round++) {
+            List<Property> properties = getRandomProperties(random, 1 + random.nextInt(200));
+            List<Buyer> buyers = getRandomBuyers(random, 1 + random.nextInt(200));
+            List<Match> matches = new OptimalMatcher(properties, buyers).getMatches();
+            assertDisjoint(matches);
+            assertTrue(getTotalScore(matches) >= getTotalScore(new GreedyMatcher(properties, buyers).getMatches()));
+        }
+    }
+
+    /**
+     * Asserts that the matches found have the highest total match score, and a total price gap within one dollar
+     * per buyer and property of the least among those, as found by trying every set of pairs.
+     */
+    private static void assertOptimal(List<Property> properties, List<Buyer> buyers) {
+        List<Match> matches = new OptimalMatcher(properties, buyers).getMatches();
+        assertDisjoint(matches);
+        for (Match match : matches) {
+            assertTrue(match.getMatchScore() > 0);
+        }
+        long[] best = findBestTotals(properties, buyers, 0, new boolean[properties.size()]);
+        assertEquals(best[0], getTotalScore(matches));
+        assertTrue(getTotalPriceGap(matches) <= best[1] + properties.size() + buyers.size());
+    }
+
+    /**
+     * Returns the highest total match score, and the least total price gap among those, of pairing the buyers from
+     * {@code buyerIndex} with the properties that are not {@code isMatched}.
+     */
+    private static long[] findBestTotals(List<Property> properties, List<Buyer> buyers, int buyerIndex,
+                                         boolean[] isMatched) {
+        if (buyerIndex == buyers.size()) {
+            return new long[] {0, 0};
+        }
+        long[] best = findBestTotals(properties, buyers, buyerIndex + 1, isMatched);
+        for (int propertyIndex = 0; propertyIndex < properties.size(); propertyIndex++) {
+            Match match = new Match(properties.get(propertyIndex), buyers.get(buyerIndex));
+            if (isMatched[propertyIndex] || match.getMatchScore() == 0) {
+                continue;
+            }
+            isMatched[propertyIndex] = true;
+            long[] rest = findBestTotals(properties, buyers, buyerIndex + 1, isMatched);
+            isMatched[propertyIndex] = false;
+            long score = rest[0] + match.getMatchScore();
+            long priceGap = rest[1] + match.getPriceGap();
+            if (score > best[0] || score == best[0] && priceGap < best[1]) {
+                best = new long[] {score, priceGap};
+            }
+        }
+        return best;
+    }
+
+    private static void assertDisjoint(List<Match> matches) {
+        Set<Property> matchedProperties = new HashSet<>();
+        Set<Buyer> matchedBuyers = new HashSet<>();
+        for (Match match : matches) {
+            assertTrue(matchedProperties.add(match.getProperty()));
+            assertTrue(matchedBuyers.add(match.getBuyer()));
+        }
+    }
+
+    private static long getTotalScore(List<Match> matches) {
+        return matches.stream().mapToLong(Match::getMatchScore).sum();
+    }
+
+    private static long getTotalPriceGap(List<Match> matches) {
+        return matches.stream().mapToLong(Match::getPriceGap).sum();
+    }
+}
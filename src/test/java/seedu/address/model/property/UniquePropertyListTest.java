@@ -1,5 +1,6 @@
 package seedu.address.model.property;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -7,7 +8,10 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalProperties.P_ALICE;
+import static seedu.address.testutil.TypicalProperties.P_BENSON;
 import static seedu.address.testutil.TypicalProperties.P_BOB;
+import static seedu.address.testutil.TypicalProperties.P_CARL;
+import static seedu.address.testutil.TypicalProperties.P_DANIEL;
 import static seedu.address.testutil.TypicalProperties.getTypicalPropertiesSortedNameAsc;
 import static seedu.address.testutil.TypicalProperties.getTypicalPropertiesSortedNameDesc;
 import static seedu.address.testutil.TypicalProperties.getTypicalPropertiesSortedPriceAsc;
@@ -22,6 +26,7 @@ import org.junit.jupiter.api.Test;
 import seedu.address.model.field.SortDirection;
 import seedu.address.model.field.SortType;
 import seedu.address.model.property.exceptions.DuplicatePropertyException;
+import seedu.address.model.property.exceptions.ListableNotFoundException;
 import seedu.address.model.property.exceptions.PropertyNotFoundException;
 import seedu.address.testutil.PropertyBuilder;
 
@@ -108,6 +113,16 @@ public class UniquePropertyListTest {
         assertEquals(expectedUniquePropertyList, uniquePropertyList);
     }
 
+    @Test
+    public void setProperty_editedPropertyHasDifferentIdentity_releasesOldIdentity() {
+        uniquePropertyList.add(P_ALICE);
+        uniquePropertyList.setProperty(P_ALICE, P_BOB);
+        assertFalse(uniquePropertyList.contains(P_ALICE));
+        assertTrue(uniquePropertyList.contains(P_BOB));
+        uniquePropertyList.add(P_ALICE);
+        assertTrue(uniquePropertyList.contains(P_ALICE));
+    }
+
     @Test
     public void setProperty_editedPropertyHasNonUniqueIdentity_throwsDuplicatePropertyException() {
         uniquePropertyList.add(P_ALICE);
@@ -131,6 +146,58 @@ public class UniquePropertyListTest {
         uniquePropertyList.remove(P_ALICE);
         UniquePropertyList expectedUniquePropertyList = new UniquePropertyList();
         assertEquals(expectedUniquePropertyList, uniquePropertyList);
+        assertFalse(uniquePropertyList.contains(P_ALICE));
+    }
+
+    @Test
+    public void removeAll_existingProperties_removedAndIndexesReturned() {
+        uniquePropertyList.setProperties(List.of(P_ALICE, P_BENSON, P_CARL, P_DANIEL));
+        assertArrayEquals(new int[] {3, 1}, uniquePropertyList.removeAll(List.of(P_DANIEL, P_BENSON)));
+        assertEquals(List.of(P_ALICE, P_CARL), uniquePropertyList.asUnmodifiableObservableList());
+        assertFalse(uniquePropertyList.contains(P_BENSON));
+        assertThrows(PropertyNotFoundException.class, () -> uniquePropertyList.removeAll(List.of(P_BENSON)));
+    }
+
+    @Test
+    public void indexesOf_afterChanges_currentIndexesReturned() {
+        uniquePropertyList.setProperties(List.of(P_ALICE, P_BENSON, P_CARL));
+        assertArrayEquals(new int[] {2, 0}, uniquePropertyList.indexesOf(
+                List.of(P_CARL.getListableIdentity(), P_ALICE.getListableIdentity())));
+
+        Property editedAlice = new PropertyBuilder(P_ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePropertyList.setProperty(P_ALICE, editedAlice);
+        uniquePropertyList.add(P_DANIEL);
+        assertArrayEquals(new int[] {0, 3}, uniquePropertyList.indexesOf(
+                List.of(editedAlice.getListableIdentity(), P_DANIEL.getListableIdentity())));
+        assertThrows(ListableNotFoundException.class, () -> uniquePropertyList.indexesOf(
+                List.of(P_ALICE.getListableIdentity())));
+
+        uniquePropertyList.remove(P_BENSON);
+        uniquePropertyList.addFront(P_BENSON);
+        assertArrayEquals(new int[] {0, 1, 2, 3}, uniquePropertyList.indexesOf(List.of(P_BENSON.getListableIdentity(),
+                editedAlice.getListableIdentity(), P_CARL.getListableIdentity(), P_DANIEL.getListableIdentity())));
+    }
+
+    @Test
+    public void setProperties_existingTargets_replacedAndIndexesReturned() {
+        uniquePropertyList.setProperties(List.of(P_ALICE, P_BENSON, P_CARL));
+        Property editedCarl = new PropertyBuilder(P_CARL).withTags(VALID_TAG_HUSBAND).build();
+        Property editedAlice = new PropertyBuilder(P_ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertArrayEquals(new int[] {2, 0},
+                uniquePropertyList.setProperties(List.of(P_CARL, P_ALICE), List.of(editedCarl, editedAlice)));
+        assertEquals(List.of(editedAlice, P_BENSON, editedCarl), uniquePropertyList.asUnmodifiableObservableList());
+        assertFalse(uniquePropertyList.contains(P_ALICE));
+        assertThrows(DuplicatePropertyException.class, () -> uniquePropertyList.setProperties(
+                List.of(P_BENSON), List.of(new PropertyBuilder(P_BENSON).withAddress(VALID_ADDRESS_BOB).build())));
+    }
+
+    @Test
+    public void filter_removedProperties_noLongerContained() {
+        uniquePropertyList.add(P_ALICE);
+        uniquePropertyList.add(P_BOB);
+        uniquePropertyList.filter(property -> property.equals(P_BOB));
+        assertFalse(uniquePropertyList.contains(P_ALICE));
+        assertTrue(uniquePropertyList.contains(P_BOB));
     }
 
     @Test
@@ -0,0 +1,78 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagBitSetTest {
+
+    private final TagDictionary dictionary = new TagDictionary();
+
+    @Test
+    public void countCommon_noTags_returnsZero() {
+        TagBitSet empty = dictionary.addTags(Set.of());
+        assertEquals(0, empty.countCommon(empty));
+        assertEquals(0, empty.countCommon(dictionary.addTags(Set.of(new Tag("condo")))));
+    }
+
+    @Test
+    public void countCommon_overlappingTags_returnsSizeOfIntersection() {
+        TagBitSet first = dictionary.addTags(Set.of(new Tag("condo"), new Tag("pool"), new Tag("4 rm")));
+        TagBitSet second = dictionary.addTags(Set.of(new Tag("POOL"), new Tag("4 rm"), new Tag("gym")));
+        assertEquals(2, first.countCommon(second));
+        assertEquals(2, second.countCommon(first));
+        assertEquals(3, first.countCommon(first));
+    }
+
+    @Test
+    public void countCommon_tagsSpanningSeveralWords_returnsSizeOfIntersection() {
+        List<Tag> tags = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            tags.add(new Tag("bitset tag " + i));
+        }
+        TagBitSet all = dictionary.addTags(tags);
+        TagBitSet evens = dictionary.addTags(Set.of(tags.get(0), tags.get(100), tags.get(198)));
+        TagBitSet last = dictionary.addTags(Set.of(tags.get(199)));
+        assertEquals(3, all.countCommon(evens));
+        assertEquals(1, last.countCommon(all));
+        assertEquals(0, last.countCommon(evens));
+    }
+
+    @Test
+    public void containsAll_subsetsAndSupersets() {
+        List<Tag> tags = new ArrayList<>();
+        for (int i = 0; i < 130; i++) {
+            tags.add(new Tag("bitset tag " + i));
+        }
+        TagBitSet all = dictionary.addTags(tags);
+        TagBitSet some = dictionary.addTags(Set.of(tags.get(1), tags.get(129)));
+        TagBitSet first = dictionary.addTags(Set.of(tags.get(0)));
+
+        assertTrue(all.containsAll(some));
+        assertTrue(some.containsAll(dictionary.addTags(Set.of())));
+        assertFalse(some.containsAll(all));
+        assertFalse(first.containsAll(some)); // other has more words than this
+    }
+
+    @Test
+    public void equals() {
+        Set<Tag> tags = Set.of(new Tag("condo"), new Tag("pool"));
+        TagBitSet tagBitSet = dictionary.addTags(tags);
+
+        // same tags -> returns true
+        assertEquals(tagBitSet, dictionary.addTags(new HashSet<>(tags)));
+        assertEquals(tagBitSet.hashCode(), dictionary.addTags(new HashSet<>(tags)).hashCode());
+
+        // different tags -> returns false
+        assertNotEquals(tagBitSet, dictionary.addTags(Set.of(new Tag("condo"))));
+        assertNotEquals(tagBitSet, dictionary.addTags(Set.of()));
+    }
+}
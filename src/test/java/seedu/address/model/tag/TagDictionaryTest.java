@@ -0,0 +1,55 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.model.tag.TagDictionary.NO_ID;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagDictionaryTest {
+
+    private final TagDictionary dictionary = new TagDictionary();
+
+    @Test
+    public void addTag_newAndExistingTags_returnsDenseIds() {
+        assertEquals(0, dictionary.addTag(new Tag("condo")));
+        assertEquals(1, dictionary.addTag(new Tag("pool")));
+        assertEquals(0, dictionary.addTag(new Tag("CONDO")));
+        assertEquals(2, dictionary.size());
+    }
+
+    @Test
+    public void getId_unknownTag_notAdded() {
+        dictionary.addTag(new Tag("condo"));
+        assertEquals(0, dictionary.getId(new Tag("condo")));
+        assertEquals(NO_ID, dictionary.getId(new Tag("pool")));
+        assertEquals(1, dictionary.size());
+    }
+
+    @Test
+    public void getBitSet_unknownTags_leftOutAndNotAdded() {
+        TagBitSet condo = dictionary.addTags(Set.of(new Tag("condo")));
+        TagBitSet query = dictionary.getBitSet(Set.of(new Tag("condo"), new Tag("pool")));
+        assertEquals(condo, query);
+        assertEquals(1, dictionary.size());
+        assertEquals(dictionary.addTags(Set.of()), dictionary.getBitSet(Set.of(new Tag("gym"))));
+        assertEquals(1, dictionary.size());
+    }
+
+    @Test
+    public void addTag_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> dictionary.addTag(null));
+        assertThrows(NullPointerException.class, () -> dictionary.getId(null));
+    }
+
+    @Test
+    public void separateDictionaries_idsNotShared() {
+        TagDictionary other = new TagDictionary();
+        other.addTag(new Tag("pool"));
+        assertEquals(NO_ID, dictionary.getId(new Tag("pool")));
+        assertEquals(0, dictionary.addTag(new Tag("condo")));
+        assertEquals(0, other.getId(new Tag("pool")));
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalProperties.P_ALICE;
+import static seedu.address.testutil.TypicalProperties.P_BENSON;
+import static seedu.address.testutil.TypicalProperties.P_CARL;
+import static seedu.address.testutil.TypicalProperties.P_DANIEL;
+import static seedu.address.testutil.TypicalProperties.P_HOON;
+import static seedu.address.testutil.TypicalProperties.P_IDA;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.property.Property;
+import seedu.address.model.property.exceptions.DuplicateListableException;
+import seedu.address.testutil.PropertyBuilder;
+
+public class ListableDiffTest {
+
+    private final List<Property> current = List.of(P_ALICE, P_BENSON, P_CARL, P_DANIEL);
+
+    @Test
+    public void of_sameListables_noChanges() {
+        ListableDiff<Property> diff = ListableDiff.of(current, List.of(P_DANIEL, P_CARL, P_BENSON, P_ALICE));
+        assertTrue(diff.isEmpty());
+        assertEquals(current.size(), diff.getUnchangedCount());
+    }
+
+    @Test
+    public void of_changedListables_changesFoundByIdentity() {
+        Property editedBenson = new PropertyBuilder(P_BENSON).withTags(VALID_TAG_HUSBAND).build();
+        Property editedDaniel = new PropertyBuilder(P_DANIEL).withName("Daniel Tan").build();
+        ListableDiff<Property> diff = ListableDiff.of(current,
+                List.of(P_IDA, editedDaniel, P_CARL, P_HOON, editedBenson));
+
+        assertFalse(diff.isEmpty());
+        assertEquals(List.of(P_IDA, P_HOON), diff.getAdded());
+        assertEquals(List.of(P_DANIEL, P_BENSON), diff.getEditTargets());
+        assertEquals(List.of(editedDaniel, editedBenson), diff.getEdited());
+        assertEquals(List.of(P_ALICE), diff.getRemoved());
+        assertEquals(1, diff.getUnchangedCount());
+    }
+
+    @Test
+    public void of_duplicateListables_throwsDuplicateListableException() {
+        Property editedAlice = new PropertyBuilder(P_ALICE).withName("Alice Tan").build();
+        assertThrows(DuplicateListableException.class, () -> ListableDiff.of(current, List.of(P_ALICE, editedAlice)));
+    }
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ListableDiff.of(null, current));
+        assertThrows(NullPointerException.class, () -> ListableDiff.of(current, null));
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalBuyers.B_BENSON;
+import static seedu.address.testutil.TypicalBuyers.B_DANIEL;
+import static seedu.address.testutil.TypicalBuyers.getTypicalBuyers;
+import static seedu.address.testutil.TypicalPrices.MICROSCOPIC_PRICE;
+import static seedu.address.testutil.TypicalPrices.SMALL_PRICE;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.field.ContainsPricePredicate;
+import seedu.address.model.field.ContainsTagsPredicate;
+import seedu.address.model.field.NameContainsKeywordsPredicate;
+import seedu.address.model.field.Price;
+import seedu.address.model.property.Buyer;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.util.QueryPlan.Criterion;
+
+public class ListableIndexTest {
+
+    private final List<Buyer> buyers = getTypicalBuyers();
+
+    @Test
+    public void plan_selectiveCriterion_drivenFromLowestEstimate() {
+        ListableIndex<Buyer> index = new ListableIndex<>();
+        index.setAll(buyers);
+
+        QueryPlan<Buyer> plan = index.plan(new NameContainsKeywordsPredicate<>(List.of("Meier")),
+                new ContainsTagsPredicate<>(), new ContainsPricePredicate<>(new Price(SMALL_PRICE), null),
+                buyers.size());
+        assertEquals(Optional.of(Criterion.NAME), plan.getDrivingCriterion());
+        assertEquals(2, plan.getCandidateCount());
+        assertEquals(Optional.of(Set.of(B_BENSON.getListableIdentity(), B_DANIEL.getListableIdentity())),
+                plan.getCandidates());
+        assertEquals("look up name index for 2 candidates, checking price (estimates: name 2, price at least 3)",
+                plan.toString());
+        assertEquals(List.of(B_DANIEL), filter(plan));
+
+        plan = index.plan(new NameContainsKeywordsPredicate<>(List.of("Meier")),
+                new ContainsTagsPredicate<>(Set.of(new Tag("condo"))), new ContainsPricePredicate<>(), buyers.size());
+        assertEquals(Optional.of(Criterion.TAGS), plan.getDrivingCriterion());
+        assertEquals(List.of(B_BENSON), filter(plan));
+    }
+
+    @Test
+    public void plan_noSelectiveCriterion_scansListedItems() {
+        ListableIndex<Buyer> index = new ListableIndex<>();
+        index.setAll(buyers);
+
+        QueryPlan<Buyer> plan = index.plan(new NameContainsKeywordsPredicate<>(), new ContainsTagsPredicate<>(),
+                new ContainsPricePredicate<>(new Price(MICROSCOPIC_PRICE), null), buyers.size());
+        assertEquals(Optional.empty(), plan.getDrivingCriterion());
+        assertEquals(buyers.size(), plan.getCandidateCount());
+        assertEquals(Optional.empty(), plan.getCandidates());
+        assertEquals(buyers, filter(plan));
+    }
+
+    @Test
+    public void plan_noMatchingItems_noCandidates() {
+        ListableIndex<Buyer> index = new ListableIndex<>();
+        index.setAll(buyers);
+
+        QueryPlan<Buyer> plan = index.plan(new NameContainsKeywordsPredicate<>(List.of("Meier")),
+                new ContainsTagsPredicate<>(Set.of(new Tag("landed"))), new ContainsPricePredicate<>(),
+                buyers.size());
+        assertEquals(Optional.of(Criterion.TAGS), plan.getDrivingCriterion());
+        assertEquals(0, plan.getCandidateCount());
+        assertEquals(List.of(), filter(plan));
+    }
+
+    private List<Buyer> filter(QueryPlan<Buyer> plan) {
+        return buyers.stream().filter(plan.getFilter()).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,173 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalBuyers.B_ALICE;
+import static seedu.address.testutil.TypicalBuyers.B_AMY;
+import static seedu.address.testutil.TypicalBuyers.B_BENSON;
+import static seedu.address.testutil.TypicalBuyers.B_BOB;
+import static seedu.address.testutil.TypicalBuyers.B_CARL;
+import static seedu.address.testutil.TypicalBuyers.B_DANIEL;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.field.SortDirection;
+import seedu.address.model.field.SortType;
+import seedu.address.model.property.Buyer;
+import seedu.address.model.property.UniqueBuyerList;
+import seedu.address.model.property.exceptions.ListableNotFoundException;
+import seedu.address.testutil.BuyerBuilder;
+
+public class ListableViewTest {
+
+    private final List<Buyer> source = new ArrayList<>(List.of(B_ALICE, B_BENSON, B_CARL, B_DANIEL));
+    private final ListableView<Buyer> view = new ListableView<>(source);
+
+    @Test
+    public void filterAndSort_sourceUnchanged() {
+        view.filter(buyer -> !buyer.equals(B_BENSON));
+        assertEquals(List.of(B_ALICE, B_CARL, B_DANIEL), view);
+
+        view.sort(Buyer.getPriceComparator().reversed());
+        assertEquals(List.of(B_DANIEL, B_CARL, B_ALICE), view);
+
+        view.filter(buyer -> !buyer.equals(B_CARL));
+        assertEquals(List.of(B_DANIEL, B_ALICE), view);
+        assertEquals(List.of(B_ALICE, B_BENSON, B_CARL, B_DANIEL), source);
+
+        view.showAll();
+        assertEquals(source, view);
+    }
+
+    @Test
+    public void filter_candidatePositions_onlyShownCandidatesChecked() {
+        view.filter(buyer -> !buyer.equals(B_BENSON));
+        view.sort(Buyer.getPriceComparator().reversed());
+        List<Buyer> checked = new ArrayList<>();
+        view.filter(new int[] {3, 1, 0}, buyer -> checked.add(buyer) && !buyer.equals(B_ALICE));
+        assertEquals(List.of(B_DANIEL), view);
+        assertEquals(List.of(B_DANIEL, B_ALICE), checked);
+    }
+
+    @Test
+    public void sort_withOrder_sameAsComparatorSort() {
+        // Same price as B_CARL, so their order is kept from the view
+        Buyer carlsTwin = new BuyerBuilder(B_AMY).withMaxPrice(B_CARL.getPrice().toString()).build();
+        source.add(carlsTwin);
+        view.sourceAdded(source.size() - 1, source.size());
+        view.sort(Buyer.getNameComparator().reversed());
+        List<Buyer> expected = new ArrayList<>(view);
+
+        PriceIndex<Buyer> priceIndex = new PriceIndex<>();
+        priceIndex.setAll(source);
+        for (SortDirection sortDirection : SortDirection.values()) {
+            Comparator<Buyer> comparator = UniqueBuyerList.getComparator(SortType.PRICE, sortDirection);
+            expected.sort(comparator);
+            view.sort(comparator, priceIndex.getOrder(sortDirection));
+            assertEquals(expected, view);
+        }
+    }
+
+    @Test
+    public void rank_pagedInRankOrder() {
+        // Ties in score are broken by lower price
+        view.sort(Buyer.getPriceComparator().reversed());
+        view.rank(buyer -> buyer.equals(B_CARL) ? 1 : 0, buyer -> -buyer.getPrice().value, 2);
+        assertEquals(List.of(B_CARL, B_ALICE), view);
+        assertTrue(view.hasMore());
+
+        source.add(0, B_AMY);
+        view.sourceAdded(0, 1);
+        int index = source.indexOf(B_BENSON);
+        source.remove(index);
+        view.sourceRemoved(index, B_BENSON);
+        assertEquals(1, view.showMore());
+        assertEquals(List.of(B_AMY, B_CARL, B_ALICE, B_DANIEL), view);
+        assertFalse(view.hasMore());
+        assertEquals(0, view.showMore());
+
+        // Ties in both score and tie-breaker keep the order shown
+        view.rank(buyer -> 0, buyer -> 0, 1);
+        assertEquals(List.of(B_AMY), view);
+        view.filter(buyer -> true);
+        assertFalse(view.hasMore());
+    }
+
+    @Test
+    public void show_itemsInSource_shownInGivenOrder() {
+        view.show(List.of(B_CARL, B_ALICE));
+        assertEquals(List.of(B_CARL, B_ALICE), view);
+
+        assertThrows(ListableNotFoundException.class, () -> view.show(List.of(B_AMY)));
+    }
+
+    @Test
+    public void sourceChanged_viewUpdated() {
+        view.filter(buyer -> !buyer.equals(B_BENSON));
+        view.sort(Buyer.getPriceComparator().reversed());
+
+        source.add(0, B_AMY);
+        view.sourceAdded(0, 1);
+        assertEquals(List.of(B_AMY, B_DANIEL, B_CARL, B_ALICE), view);
+
+        source.add(B_BOB);
+        view.sourceAdded(source.size() - 1, source.size());
+        assertEquals(List.of(B_AMY, B_DANIEL, B_CARL, B_ALICE, B_BOB), view);
+
+        int index = source.indexOf(B_CARL);
+        source.remove(index);
+        view.sourceRemoved(index, B_CARL);
+        assertEquals(List.of(B_AMY, B_DANIEL, B_ALICE, B_BOB), view);
+
+        // Removing an element that is not shown
+        index = source.indexOf(B_BENSON);
+        source.remove(index);
+        view.sourceRemoved(index, B_BENSON);
+        assertEquals(List.of(B_AMY, B_DANIEL, B_ALICE, B_BOB), view);
+    }
+
+    @Test
+    public void sourceChangedAtOnce_viewUpdated() {
+        view.sort(Buyer.getPriceComparator().reversed());
+        Buyer editedAlice = new BuyerBuilder(B_ALICE).withMaxPrice(B_CARL.getPrice().toString()).build();
+        source.set(0, editedAlice);
+        view.sourceSet(new int[] {0}, List.of(B_ALICE));
+        assertEquals(List.of(B_DANIEL, B_CARL, B_BENSON, editedAlice), view);
+
+        // Removed in a different order from the source list
+        source.remove(3);
+        source.remove(1);
+        view.sourceRemoved(new int[] {3, 1}, List.of(B_DANIEL, B_BENSON));
+        assertEquals(List.of(B_CARL, editedAlice), view);
+        assertEquals(B_CARL, source.get(1));
+    }
+
+    @Test
+    public void sourceReplaced_shorterSource_oldShownElementsRemoved() {
+        view.filter(buyer -> !buyer.equals(B_BENSON));
+        List<Buyer> removed = new ArrayList<>();
+        view.addListener((ListChangeListener<Buyer>) change -> {
+            while (change.next()) {
+                removed.addAll(change.getRemoved());
+            }
+        });
+
+        List<Buyer> oldShown = new ArrayList<>(view);
+        source.clear();
+        source.add(B_AMY);
+        view.sourceReplaced(oldShown);
+        assertEquals(List.of(B_AMY), view);
+        assertEquals(List.of(B_ALICE, B_CARL, B_DANIEL), removed);
+
+        source.clear();
+        view.sourceReplaced(List.of(B_AMY));
+        assertTrue(view.isEmpty());
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalBuyers.B_ALICE;
+import static seedu.address.testutil.TypicalBuyers.B_BENSON;
+import static seedu.address.testutil.TypicalBuyers.B_CARL;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.property.Buyer;
+import seedu.address.testutil.BuyerBuilder;
+
+public class NameIndexTest {
+
+    @Test
+    public void find_keywords_identitiesOfMatchingNames() {
+        NameIndex<Buyer> index = new NameIndex<>();
+        index.setAll(List.of(B_ALICE, B_BENSON, B_CARL));
+
+        // Full words only, ignoring case
+        assertEquals(Set.of(B_ALICE.getListableIdentity()), index.find(List.of("aLIce")));
+        assertEquals(Set.of(), index.find(List.of("Ali")));
+
+        // Any of the keywords
+        assertEquals(Set.of(B_ALICE.getListableIdentity(), B_CARL.getListableIdentity()),
+                index.find(List.of("Pauline", "kurz", "Bob")));
+        assertEquals(Set.of(), index.find(List.of()));
+    }
+
+    @Test
+    public void find_afterModification_indexUpToDate() {
+        NameIndex<Buyer> index = new NameIndex<>();
+        index.setAll(List.of(B_ALICE, B_BENSON));
+
+        Buyer editedBenson = new BuyerBuilder(B_BENSON).withName("Benson Pauline").build();
+        index.remove(B_BENSON);
+        index.add(editedBenson);
+        assertEquals(Set.of(B_ALICE.getListableIdentity(), editedBenson.getListableIdentity()),
+                index.find(List.of("pauline")));
+        assertEquals(Set.of(), index.find(List.of("Meier")));
+
+        index.remove(B_ALICE);
+        assertEquals(Set.of(editedBenson.getListableIdentity()), index.find(List.of("pauline")));
+    }
+}
@@ -0,0 +1,36 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalBuyers.B_ALICE;
+import static seedu.address.testutil.TypicalBuyers.B_BENSON;
+import static seedu.address.testutil.TypicalBuyers.B_CARL;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.field.SortDirection;
+import seedu.address.model.property.Buyer;
+import seedu.address.testutil.BuyerBuilder;
+
+public class OrderedIndexTest {
+
+    @Test
+    public void getOrder_afterModification_groupedInKeyOrder() {
+        OrderedIndex<Buyer, Long> index = new OrderedIndex<>(buyer -> buyer.getPrice().value);
+        index.setAll(List.of(B_CARL, B_ALICE));
+
+        // Same price as B_ALICE, so both are in the same group
+        Buyer alicesTwin = new BuyerBuilder(B_BENSON).withMaxPrice(B_ALICE.getPrice().toString()).build();
+        index.add(alicesTwin);
+        assertEquals(List.of(Set.of(B_ALICE.getListableIdentity(), alicesTwin.getListableIdentity()),
+                Set.of(B_CARL.getListableIdentity())), new ArrayList<>(index.getOrder(SortDirection.ASC)));
+
+        index.remove(B_ALICE);
+        index.remove(B_CARL);
+        assertEquals(List.of(Set.of(alicesTwin.getListableIdentity())),
+                new ArrayList<>(index.getOrder(SortDirection.DESC)));
+    }
+}
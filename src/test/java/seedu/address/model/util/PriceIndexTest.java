@@ -0,0 +1,53 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalBuyers.B_ALICE;
+import static seedu.address.testutil.TypicalBuyers.B_BENSON;
+import static seedu.address.testutil.TypicalBuyers.B_CARL;
+import static seedu.address.testutil.TypicalPrices.LARGE_PRICE;
+import static seedu.address.testutil.TypicalPrices.MICROSCOPIC_PRICE;
+import static seedu.address.testutil.TypicalPrices.SMALL_PRICE;
+import static seedu.address.testutil.TypicalPrices.VERY_SMALL_PRICE;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.field.Price;
+import seedu.address.model.property.Buyer;
+import seedu.address.testutil.BuyerBuilder;
+
+public class PriceIndexTest {
+
+    @Test
+    public void findInRange_bounds_identitiesWithinInclusiveRange() {
+        PriceIndex<Buyer> index = new PriceIndex<>();
+        index.setAll(List.of(B_ALICE, B_BENSON, B_CARL));
+
+        assertEquals(Set.of(B_BENSON.getListableIdentity(), B_CARL.getListableIdentity()),
+                index.findInRange(new Price(VERY_SMALL_PRICE), null));
+        assertEquals(Set.of(B_ALICE.getListableIdentity(), B_BENSON.getListableIdentity()),
+                index.findInRange(null, new Price(VERY_SMALL_PRICE)));
+        assertEquals(Set.of(B_BENSON.getListableIdentity()),
+                index.findInRange(new Price(VERY_SMALL_PRICE), new Price(VERY_SMALL_PRICE)));
+        assertEquals(Set.of(), index.findInRange(new Price(LARGE_PRICE), null));
+        assertEquals(Set.of(B_ALICE.getListableIdentity(), B_BENSON.getListableIdentity(),
+                B_CARL.getListableIdentity()), index.findInRange(null, null));
+    }
+
+    @Test
+    public void findInRange_afterModification_indexUpToDate() {
+        PriceIndex<Buyer> index = new PriceIndex<>();
+        index.setAll(List.of(B_ALICE, B_BENSON));
+
+        Buyer editedBenson = new BuyerBuilder(B_BENSON).withMaxPrice(SMALL_PRICE).build();
+        index.remove(B_BENSON);
+        index.add(editedBenson);
+        assertEquals(Set.of(editedBenson.getListableIdentity()),
+                index.findInRange(new Price(VERY_SMALL_PRICE), null));
+
+        index.remove(B_ALICE);
+        assertEquals(Set.of(), index.findInRange(null, new Price(MICROSCOPIC_PRICE)));
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalBuyers.B_ALICE;
+import static seedu.address.testutil.TypicalBuyers.B_BENSON;
+import static seedu.address.testutil.TypicalBuyers.B_CARL;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.property.Buyer;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.BuyerBuilder;
+
+public class TagIndexTest {
+
+    private static final Tag CONDO = new Tag("condo");
+    private static final Tag HDB = new Tag("HDB");
+
+    @Test
+    public void findAll_tags_identitiesWithAllTags() {
+        TagIndex<Buyer> index = new TagIndex<>();
+        Buyer condoCarl = new BuyerBuilder(B_CARL).withTags("condo").build();
+        index.setAll(List.of(B_ALICE, B_BENSON, condoCarl));
+
+        assertEquals(Set.of(B_BENSON.getListableIdentity(), condoCarl.getListableIdentity()),
+                index.findAll(List.of(CONDO)));
+        assertEquals(Set.of(B_BENSON.getListableIdentity()), index.findAll(List.of(CONDO, HDB)));
+        assertEquals(Set.of(), index.findAll(List.of(CONDO, new Tag("unknown"))));
+    }
+
+    @Test
+    public void findAll_afterModification_indexUpToDate() {
+        TagIndex<Buyer> index = new TagIndex<>();
+        index.setAll(List.of(B_ALICE, B_BENSON));
+
+        Buyer editedBenson = new BuyerBuilder(B_BENSON).withTags("condo").build();
+        index.remove(B_BENSON);
+        index.add(editedBenson);
+        assertEquals(Set.of(editedBenson.getListableIdentity()), index.findAll(List.of(CONDO)));
+        assertEquals(Set.of(), index.findAll(List.of(HDB)));
+
+        index.remove(editedBenson);
+        assertEquals(Set.of(), index.findAll(List.of(CONDO)));
+    }
+}
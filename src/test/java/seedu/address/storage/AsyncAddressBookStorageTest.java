@@ -0,0 +1,101 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalProperties.P_HOON;
+import static seedu.address.testutil.TypicalProperties.P_IDA;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AsyncAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveAddressBook_thenFlush_dataWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        // Later changes are not part of the save
+        AddressBook expected = new AddressBook(original);
+        original.addProperty(P_HOON);
+
+        storage.flush();
+        assertEquals(expected, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_burstWhileWriting_onlyLatestWritten() throws Exception {
+        BlockingStorageStub blockingStorage = new BlockingStorageStub(testFolder.resolve("TempAddressBook.json"));
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(blockingStorage);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        blockingStorage.firstSaveStarted.await();
+
+        addressBook.addProperty(P_HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.addProperty(P_IDA);
+        storage.saveAddressBook(addressBook);
+        blockingStorage.firstSaveAllowed.countDown();
+        storage.flush();
+
+        assertEquals(2, blockingStorage.savedAddressBooks.size());
+        assertEquals(addressBook, new AddressBook(blockingStorage.savedAddressBooks.get(1)));
+    }
+
+    @Test
+    public void saveAddressBook_storageThrowsIoException_errorReported() throws Exception {
+        IOException ioException = new IOException("dummy exception");
+        List<IOException> reportedErrors = new ArrayList<>();
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(
+                new JsonAddressBookStorage(testFolder.resolve("TempAddressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        throw ioException;
+                    }
+                });
+        storage.setSaveErrorHandler(reportedErrors::add);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertThrows(IOException.class, storage::flush);
+        assertEquals(List.of(ioException), reportedErrors);
+    }
+
+    /**
+     * A stub that records saved address books, and blocks the first save until it is allowed to continue.
+     */
+    private static class BlockingStorageStub extends JsonAddressBookStorage {
+        private final CountDownLatch firstSaveStarted = new CountDownLatch(1);
+        private final CountDownLatch firstSaveAllowed = new CountDownLatch(1);
+        private final List<ReadOnlyAddressBook> savedAddressBooks = new ArrayList<>();
+
+        private BlockingStorageStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            savedAddressBooks.add(addressBook);
+            firstSaveStarted.countDown();
+            try {
+                firstSaveAllowed.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalProperties.P_HOON;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.field.Name;
+import seedu.address.model.match.IncrementalMatcher;
+import seedu.address.model.match.MatchState;
+import seedu.address.model.property.Property;
+import seedu.address.testutil.PropertyBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"));
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        original.addProperty(P_HOON);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(filePath, bytes);
+        assertThrows(DataConversionException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(DataConversionException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_throwsDataConversionException() throws Exception {
+        Path jsonFilePath = testFolder.resolve("other.json");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"));
+        assertThrows(DataConversionException.class, () -> storage.readAddressBook(jsonFilePath));
+    }
+
+    @Test
+    public void readAddressBook_invalidValueAtOtherPath_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        Path otherFilePath = testFolder.resolve("other.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook();
+        Property invalidProperty = new PropertyBuilder().build();
+        addressBook.addProperty(new Property(Name.ofTrusted("*invalid*"), invalidProperty.getAddress(),
+                invalidProperty.getSeller(), invalidProperty.getPrice(), invalidProperty.getTags()));
+        storage.saveAddressBook(addressBook);
+        storage.saveAddressBook(addressBook, otherFilePath);
+
+        // Only the data file of the storage is trusted
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+        assertThrows(DataConversionException.class, () -> storage.readAddressBook(otherFilePath));
+    }
+
+    @Test
+    public void readAddressBook_missingFileWithJsonFile_jsonImported() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(BinaryAddressBookStorage.getJsonFilePath(filePath)).saveAddressBook(original);
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertTrue(Files.exists(filePath));
+        assertEquals(original, new AddressBook(storage.readAddressBook(filePath).get()));
+    }
+
+    @Test
+    public void readAddressBook_upToDateMatches_restored() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook original = getTypicalAddressBook();
+        original.setMatcher(new IncrementalMatcher(original.getPropertyList(), original.getBuyerList()));
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(new AddressBookSnapshot(original));
+        ReadOnlyAddressBook dataFromFile = storage.readAddressBook().get();
+        assertEquals(MatchState.UP_TO_DATE, dataFromFile.getMatchState());
+        assertEquals(original.getMatchList(), dataFromFile.getMatchList());
+    }
+
+    @Test
+    public void readAddressBook_noUpToDateMatches_noMatches() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        original.setMatcher(new IncrementalMatcher(original.getPropertyList(), original.getBuyerList()));
+        original.setMatchesOutdated();
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook dataFromFile = storage.readAddressBook().get();
+        assertEquals(MatchState.NONE, dataFromFile.getMatchState());
+        assertEquals(0, dataFromFile.getMatchList().size());
+    }
+
+    @Test
+    public void getJsonFilePath_binaryFilePath_sameName() {
+        assertEquals(testFolder.resolve("addressbook.json"),
+                BinaryAddressBookStorage.getJsonFilePath(testFolder.resolve("addressbook.bin")));
+        assertTrue(BinaryAddressBookStorage.isBinaryFilePath(testFolder.resolve("addressbook.bin")));
+        assertFalse(BinaryAddressBookStorage.isBinaryFilePath(testFolder.resolve("addressbook.json")));
+    }
+}
@@ -5,14 +5,19 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
 
 import java.io.File;
+import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import com.opencsv.CSVWriter;
+
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.field.Email;
@@ -22,6 +27,7 @@ import seedu.address.model.property.Property;
 
 public class CsvManagerTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "CsvManagerTest");
+    private static final int MANY_ROWS = 2 * CsvImport.CHUNK_SIZE + 1;
 
     @TempDir
     public Path testFolder;
@@ -84,8 +90,8 @@ public class CsvManagerTest {
 
     @Test
     public void importProperties_invalidFieldFormat_throwsParseException() {
-        assertThrows(ParseException.class,
-                Price.MESSAGE_CONSTRAINTS, () -> importProperties("invalidPropertiesPriceFormat.csv"));
+        assertThrows(ParseException.class, String.format(CsvManager.MESSAGE_INVALID_ROW, 2, Price.MESSAGE_CONSTRAINTS),
+                () -> importProperties("invalidPropertiesPriceFormat.csv"));
     }
 
     @Test
@@ -106,6 +112,70 @@ public class CsvManagerTest {
                 CsvManager.MESSAGE_NO_ENTRIES, () -> importProperties("headerOnly.csv"));
     }
 
+    @Test
+    public void startImportProperties_success_reportsAllRowsRead() throws Exception {
+        AtomicInteger rowsRead = new AtomicInteger();
+        List<Property> properties = CsvManager.startImportProperties(
+                TEST_DATA_FOLDER.resolve("validProperties.csv").toFile(), rowsRead::set).getResult();
+        assertEquals(getTypicalAddressBook().getPropertyList(), properties);
+        assertEquals(properties.size(), rowsRead.get());
+    }
+
+    @Test
+    public void startImportProperties_cancelled_throwsCancellationException() {
+        CsvImport<Property> csvImport = CsvManager.startImportProperties(
+                TEST_DATA_FOLDER.resolve("validProperties.csv").toFile(), rowsRead -> {});
+        csvImport.cancel();
+        assertThrows(CancellationException.class, csvImport::getResult);
+    }
+
+    @Test
+    public void startImportProperties_parallel_sameAsStreamed() throws Exception {
+        File file = TEST_DATA_FOLDER.resolve("validProperties.csv").toFile();
+        assertEquals(importProperties(file, false), importProperties(file, true));
+    }
+
+    @Test
+    public void startImportProperties_parallelMultiLineFields_sameAsStreamed() throws Exception {
+        File file = writeManyProperties("ManyProperties.csv", false);
+        List<Property> properties = importProperties(file, true);
+        assertEquals(MANY_ROWS, properties.size());
+        assertEquals(importProperties(file, false), properties);
+    }
+
+    @Test
+    public void startImportProperties_parallelInvalidLastRow_throwsParseExceptionWithRowNumber() throws Exception {
+        File file = writeManyProperties("ManyPropertiesInvalidLastRow.csv", true);
+        String expectedMessage =
+                String.format(CsvManager.MESSAGE_INVALID_ROW, MANY_ROWS + 1, Price.MESSAGE_CONSTRAINTS);
+        assertThrows(ParseException.class, expectedMessage, () -> importProperties(file, true));
+        assertThrows(ParseException.class, expectedMessage, () -> importProperties(file, false));
+    }
+
+    /**
+     * Writes {@code MANY_ROWS} properties, spanning several chunks, to the specified {@code filePath}, with an
+     * extra column of notes that span several lines and contain quotes.
+     * The price in the last row is invalid if {@code isLastRowInvalid}.
+     */
+    private File writeManyProperties(String filePath, boolean isLastRowInvalid) throws IOException {
+        File file = testFolder.resolve(filePath).toFile();
+        try (CSVWriter writer = new CSVWriter(new FileWriter(file))) {
+            writer.writeNext(new String[] {CsvManager.HEADER_NAME, CsvManager.HEADER_ADDRESS, "Notes",
+                CsvManager.HEADER_SELLER, CsvManager.HEADER_PHONE, CsvManager.HEADER_EMAIL, CsvManager.HEADER_PRICE,
+                CsvManager.HEADER_TAGS});
+            for (int i = 1; i <= MANY_ROWS; i++) {
+                String price = isLastRowInvalid && i == MANY_ROWS ? "a" : String.valueOf(400000 + i);
+                writer.writeNext(new String[] {"Property " + i, i + " street", "Near \"MRT\"\nRow " + i,
+                    "Amy Bee", "94351253", "amy@example.com", price, "hdb"});
+            }
+        }
+        return file;
+    }
+
+    private List<Property> importProperties(File file, boolean isParallel) throws IOException, ParseException {
+        return CsvImport.start(file, CsvManager::getPropertyParser, rowsRead -> {}, isParallel).getResult();
+    }
+
     private List<Property> importProperties(File file) throws ParseException {
         try {
             return CsvManager.importProperties(file);
@@ -179,8 +249,8 @@ public class CsvManagerTest {
 
     @Test
     public void importBuyers_invalidFieldFormat_throwsParseException() {
-        assertThrows(ParseException.class,
-                Email.MESSAGE_CONSTRAINTS, () -> importBuyers("invalidBuyersEmailFormat.csv"));
+        assertThrows(ParseException.class, String.format(CsvManager.MESSAGE_INVALID_ROW, 2, Email.MESSAGE_CONSTRAINTS),
+                () -> importBuyers("invalidBuyersEmailFormat.csv"));
     }
 
     @Test
@@ -0,0 +1,181 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalBuyers.B_ALICE;
+import static seedu.address.testutil.TypicalBuyers.B_AMY;
+import static seedu.address.testutil.TypicalProperties.P_ALICE;
+import static seedu.address.testutil.TypicalProperties.P_BENSON;
+import static seedu.address.testutil.TypicalProperties.P_HOON;
+import static seedu.address.testutil.TypicalProperties.P_IDA;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.property.Property;
+import seedu.address.testutil.PropertyBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournalAddressBookStorage(null).readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.json");
+        assertFalse(new JournalAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_jsonAddressBookFile_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterRead_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JournalAddressBookStorage(filePath).saveAddressBook(original);
+
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        original = new AddressBook(storage.readAddressBook().get());
+        original.addNewProperty(P_HOON);
+        original.addProperty(P_IDA);
+        original.removeProperty(P_ALICE);
+        original.addProperty(P_BENSON, new PropertyBuilder(P_BENSON).withPrice("123456").build());
+        original.removeBuyer(B_ALICE);
+        original.addBuyer(B_AMY);
+        storage.saveAddressBook(original);
+
+        // Saving unchanged data does not write anything
+        storage.saveAddressBook(original);
+
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        assertEquals(6, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_identityEdited_journaledAsDeleteAndAdd() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        AddressBook original = new AddressBook(storage.readAddressBook().get());
+        original.addProperty(P_BENSON, new PropertyBuilder(P_BENSON).withAddress(VALID_ADDRESS_BOB).build());
+        storage.saveAddressBook(original);
+
+        assertEquals(2, Files.readAllLines(JournalAddressBookStorage.getJournalFilePath(filePath)).size());
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_reorderedData_compactedIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        AddressBook original = new AddressBook(storage.readAddressBook().get());
+        original.addProperty(P_HOON);
+        storage.saveAddressBook(original);
+
+        List<Property> reversedProperties = new ArrayList<>(original.getPropertyList());
+        Collections.reverse(reversedProperties);
+        original.setAllProperties(reversedProperties);
+        storage.saveAddressBook(original);
+        storage.awaitCompaction();
+
+        assertFalse(Files.exists(JournalAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalLeftOverFromCompaction_recordsNotAppliedTwice() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        AddressBook original = new AddressBook(storage.readAddressBook().get());
+        original.addProperty(P_HOON);
+        storage.saveAddressBook(original);
+        List<String> journal = Files.readAllLines(journalFilePath);
+
+        List<Property> reversedProperties = new ArrayList<>(original.getPropertyList());
+        Collections.reverse(reversedProperties);
+        original.setAllProperties(reversedProperties);
+        storage.saveAddressBook(original);
+        storage.awaitCompaction();
+
+        // Simulate exiting after the snapshot was written, but before the old journal was deleted
+        Files.write(filePath.resolveSibling(filePath.getFileName()
+                + JournalAddressBookStorage.COMPACTING_JOURNAL_FILE_SUFFIX), journal);
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_recordDropped() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        AddressBook original = new AddressBook(storage.readAddressBook().get());
+        original.addProperty(P_HOON);
+        storage.saveAddressBook(original);
+        Files.write(journalFilePath, "{\"seq\":2,\"type\":\"ADD_PROP".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        storage = new JournalAddressBookStorage(filePath);
+        AddressBook read = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, read);
+
+        // Later records are still readable
+        original = read;
+        original.addProperty(P_IDA);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidRecord_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        new JournalAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        Files.write(journalFilePath, List.of("{\"seq\":1,\"type\":\"DELETE_PROPERTY\",\"key\":\"Nowhere\"}", ""));
+
+        assertThrows(DataConversionException.class, () -> new JournalAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_writesFullSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path otherFilePath = testFolder.resolve("OtherAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JournalAddressBookStorage(filePath).saveAddressBook(original, otherFilePath);
+
+        assertTrue(Files.exists(otherFilePath));
+        assertFalse(Files.exists(JournalAddressBookStorage.getJournalFilePath(otherFilePath)));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(otherFilePath).readAddressBook().get()));
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.match.IncrementalMatcher;
+import seedu.address.model.match.MatchFingerprint;
+import seedu.address.model.match.MatchState;
+
+public class JsonAddressBookStreamTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PROPERTIES_FILE = TEST_DATA_FOLDER.resolve("typicalPropertiesAddressBook.json");
+    private static final Path INVALID_PROPERTY_FILE = TEST_DATA_FOLDER.resolve("invalidPropertyAddressBook.json");
+    private static final Path DUPLICATE_PROPERTY_FILE = TEST_DATA_FOLDER.resolve("duplicatePropertyAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_typicalPropertiesFile_success() throws Exception {
+        JsonAddressBookStream dataFromFile = JsonAddressBookStream.read(TYPICAL_PROPERTIES_FILE);
+        assertEquals(getTypicalAddressBook(), dataFromFile.getAddressBook());
+        assertEquals(0, dataFromFile.getJournalSeq());
+    }
+
+    @Test
+    public void read_invalidPropertyFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> JsonAddressBookStream.read(INVALID_PROPERTY_FILE));
+    }
+
+    @Test
+    public void read_duplicateProperties_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PROPERTY, () ->
+                JsonAddressBookStream.read(DUPLICATE_PROPERTY_FILE));
+    }
+
+    @Test
+    public void write_typicalAddressBook_readableAsJsonSerializableAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStream.write(original, filePath);
+
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(filePath,
+                JsonSerializableAddressBook.class).get();
+        assertEquals(original, dataFromFile.toModelType());
+    }
+
+    @Test
+    public void write_withJournalSeq_readBack() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStream.write(original, 42, filePath);
+
+        JsonAddressBookStream dataFromFile = JsonAddressBookStream.read(filePath);
+        assertEquals(original, dataFromFile.getAddressBook());
+        assertEquals(42, dataFromFile.getJournalSeq());
+    }
+
+    @Test
+    public void write_upToDateMatches_restoredWhenRead() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        original.setMatcher(new IncrementalMatcher(original.getPropertyList(), original.getBuyerList()));
+        JsonAddressBookStream.write(original, filePath);
+
+        AddressBook dataFromFile = JsonAddressBookStream.read(filePath).getAddressBook();
+        assertEquals(MatchState.UP_TO_DATE, dataFromFile.getMatchState());
+        assertEquals(original.getMatchList(), dataFromFile.getMatchList());
+
+        AddressBook dataFromJson = JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class).get()
+                .toModelType();
+        assertEquals(MatchState.UP_TO_DATE, dataFromJson.getMatchState());
+        assertEquals(original.getMatchList(), dataFromJson.getMatchList());
+    }
+
+    @Test
+    public void read_matchesOfOtherData_matchesOutdated() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        original.setMatcher(new IncrementalMatcher(original.getPropertyList(), original.getBuyerList()));
+        JsonAddressBookStream.write(original, filePath);
+        String fingerprint = MatchFingerprint.of(original.getPropertyList(), original.getBuyerList());
+        Files.writeString(filePath, Files.readString(filePath).replace(fingerprint, "other data"));
+
+        AddressBook dataFromFile = JsonAddressBookStream.read(filePath).getAddressBook();
+        assertEquals(MatchState.OUTDATED, dataFromFile.getMatchState());
+        assertEquals(0, dataFromFile.getMatchList().size());
+    }
+}
@@ -38,7 +38,7 @@ public class PropertyUtil {
         sb.append(PREFIX_SELLER + property.getSeller().getName().fullName + " ");
         sb.append(PREFIX_PHONE + property.getSeller().getPhone().value + " ");
         sb.append(PREFIX_EMAIL + property.getSeller().getEmail().value + " ");
-        sb.append(PREFIX_PRICE + property.getPrice().value.toString() + " ");
+        sb.append(PREFIX_PRICE + property.getPrice().toString() + " ");
         property.getTags().stream().forEach(
             s -> sb.append(PREFIX_TAG + s.tagName + " ")
         );
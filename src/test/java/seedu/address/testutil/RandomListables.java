@@ -0,0 +1,90 @@
+package seedu.address.testutil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import seedu.address.model.property.Buyer;
+import seedu.address.model.property.Property;
+
+/**
+ * A utility class to make random {@code Property} and {@code Buyer} objects to be used in tests.
+ * Prices and tags are drawn from small sets, so that many of the properties and buyers tie in their matches.
+ */
+public class RandomListables {
+    public static final String[] TAGS = {"condo", "hdb", "4 rm", "5 rm", "pool"};
+
+    /**
+     * Returns {@code count} random properties, with the addresses "Blk 0", "Blk 1" and so on.
+     */
+    public static List<Property> getRandomProperties(Random random, int count) {
+        return getRandomProperties(random, 0, count);
+    }
+
+    /**
+     * Returns {@code count} random properties, with the addresses "Blk {@code firstId}", "Blk {@code firstId + 1}"
+     * and so on.
+     */
+    public static List<Property> getRandomProperties(Random random, int firstId, int count) {
+        List<Property> properties = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            properties.add(getRandomProperty(random, "Blk " + (firstId + i)));
+        }
+        return properties;
+    }
+
+    /**
+     * Returns {@code count} random buyers, with the names "Buyer 0", "Buyer 1" and so on.
+     */
+    public static List<Buyer> getRandomBuyers(Random random, int count) {
+        return getRandomBuyers(random, 0, count);
+    }
+
+    /**
+     * Returns {@code count} random buyers, with the names "Buyer {@code firstId}", "Buyer {@code firstId + 1}"
+     * and so on.
+     */
+    public static List<Buyer> getRandomBuyers(Random random, int firstId, int count) {
+        List<Buyer> buyers = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            buyers.add(getRandomBuyer(random, "Buyer " + (firstId + i)));
+        }
+        return buyers;
+    }
+
+    /**
+     * Returns a property at {@code address} with a random price and random tags.
+     */
+    public static Property getRandomProperty(Random random, String address) {
+        return new PropertyBuilder().withAddress(address).withPrice(getRandomPrice(random))
+                .withTags(getRandomTags(random)).build();
+    }
+
+    /**
+     * Returns a buyer named {@code name} with a random maximum price and random tags.
+     */
+    public static Buyer getRandomBuyer(Random random, String name) {
+        return new BuyerBuilder().withName(name).withMaxPrice(getRandomPrice(random))
+                .withTags(getRandomTags(random)).build();
+    }
+
+    /**
+     * Returns one of ten prices, from 1000 to 1900.
+     */
+    public static String getRandomPrice(Random random) {
+        return String.valueOf(1000 + 100 * random.nextInt(10));
+    }
+
+    /**
+     * Returns each of {@link #TAGS} with a chance of one in three.
+     */
+    public static String[] getRandomTags(Random random) {
+        List<String> tags = new ArrayList<>();
+        for (String tag : TAGS) {
+            if (random.nextInt(3) == 0) {
+                tags.add(tag);
+            }
+        }
+        return tags.toArray(new String[0]);
+    }
+}